@@ -3,20 +3,32 @@ package core.domain.chat.controller;
 
 import core.domain.chat.dto.ChatMessageFirstResponse;
 import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatSyncRequest;
+import core.domain.chat.dto.ChatSyncResponse;
+import core.domain.chat.service.ChatHistoryExportService;
+import core.domain.chat.service.ChatMessageETags;
 import core.domain.chat.service.ChatMessageService;
+import core.domain.chat.service.ChatSyncService;
 import core.global.config.CustomUserDetails;
 import core.global.dto.ApiResponse;
+import core.global.pagination.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "채팅 메시지 API", description = "채팅 메시지 조회, 검색, 읽음 처리 등 관련 API")
 @RestController
@@ -25,6 +37,8 @@ import java.util.List;
 public class ChatMessageController {
 
     private final ChatMessageService chatService;
+    private final ChatHistoryExportService historyExportService;
+    private final ChatSyncService syncService;
     private final Logger log = LoggerFactory.getLogger(ChatMessageController.class);
 
     @Operation(summary = "채팅방 메시지 조회 (무한 스크롤)", description = "위로 스크롤할 때 호출하는 API입니다.")
@@ -35,14 +49,43 @@ public class ChatMessageController {
     @GetMapping("/rooms/{roomId}/messages")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getMessages(
             @PathVariable Long roomId,
-            @RequestParam(required = false) String lastMessageId
+            @RequestParam(required = false) String lastMessageId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         if(lastMessageId=="undefined")
             lastMessageId=null;
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUserId();
+        Optional<String> eTag = chatService.getMessagesETag(roomId, userId, lastMessageId);
+        if (eTag.isPresent() && ChatMessageETags.matches(ifNoneMatch, eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
         List<ChatMessageResponse> responses = chatService.getMessages(roomId, userId, lastMessageId);
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        return withETag(eTag).body(ApiResponse.success(responses));
+    }
+
+    @Operation(summary = "채팅방 메시지 기록 조회 (커서)", description = "최신 메시지부터 과거 방향으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서값"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "존재하지 않는 채팅방 또는 유저")
+    })
+    @GetMapping("/rooms/{roomId}/messages/history")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ChatMessageResponse>>> getMessageHistory(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUserId();
+        int pageSize = Math.max(1, Math.min(size, 100));
+        Optional<String> eTag = chatService.getMessageHistoryETag(roomId, userId, cursor, pageSize);
+        if (eTag.isPresent() && ChatMessageETags.matches(ifNoneMatch, eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
+        CursorPageResponse<ChatMessageResponse> response = chatService.getMessageHistory(roomId, userId, cursor, pageSize);
+        return withETag(eTag).body(ApiResponse.success(response));
     }
 
     @Operation(summary = "첫 채팅방 메시지 조회", description = "채팅방에 처음 입장 시 가장 최근 메시지를 조회합니다.")
@@ -76,12 +119,34 @@ public class ChatMessageController {
     @GetMapping("/rooms/{roomId}/messages/around")
     public ResponseEntity<ApiResponse<List<ChatMessageResponse>>> getMessagesAround(
             @PathVariable Long roomId,
-            @RequestParam String messageId
+            @RequestParam String messageId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Long userId = principal.getUserId();
+        Optional<String> eTag = chatService.getMessagesAroundETag(roomId, userId, messageId);
+        if (eTag.isPresent() && ChatMessageETags.matches(ifNoneMatch, eTag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag.get()).build();
+        }
         List<ChatMessageResponse> responses = chatService.getMessagesAround(roomId, userId, messageId);
-        return ResponseEntity.ok(ApiResponse.success(responses));
+        Optional<String> settledETag = eTag.filter(tag -> chatService.isAroundWindowSettled(responses, messageId));
+        return withETag(settledETag).body(ApiResponse.success(responses));
+    }
+
+    @Operation(summary = "채팅방 메시지 기록 내보내기", description = "채팅방의 전체 메시지를 오래된 순으로 NDJSON(한 줄에 메시지 하나) 스트림으로 내려받습니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "채팅방 참여자가 아님")
+    })
+    @GetMapping(value = "/rooms/{roomId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMessages(@PathVariable Long roomId) {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUserId();
+        StreamingResponseBody body = historyExportService.export(roomId, userId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"chat-room-" + roomId + ".ndjson\"")
+                .body(body);
     }
 
     @Operation(summary = "채팅방 메시지 모두 읽음 처리")
@@ -92,4 +157,25 @@ public class ChatMessageController {
         chatService.markAllMessagesAsReadInRoom(roomId, userId);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "재연결 동기화", description = "참여 중인 모든 채팅방의 새 메시지, 삭제된 메시지, 읽음 위치, 미읽음 개수를 한 번에 조회합니다. 응답의 syncToken을 다음 요청에 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 syncToken")
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<ApiResponse<ChatSyncResponse>> sync(@RequestBody ChatSyncRequest request) {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUserId();
+        return ResponseEntity.ok(ApiResponse.success(syncService.sync(userId, request)));
+    }
+
+    /**
+     * 과거 페이지 응답에 ETag를 붙입니다. ETag가 있는 응답은 클라이언트가 저장하되 매번 재검증하도록 no-cache로 응답합니다.
+     */
+    private ResponseEntity.BodyBuilder withETag(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        eTag.ifPresent(tag -> builder.eTag(tag).cacheControl(CacheControl.noCache().cachePrivate()));
+        return builder;
+    }
+}
@@ -5,6 +5,7 @@ import core.domain.chat.entity.ChatRoom;
 import core.domain.chat.service.ChatRoomService;
 import core.global.config.CustomUserDetails;
 import core.global.dto.ApiResponse;
+import core.global.pagination.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -62,6 +63,36 @@ public class ChatRoomController {
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
 
+    @Operation(summary = "자신의 채팅방 리스트 조회 (커서)", description = "마지막 메시지가 최근인 채팅방부터 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서값")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ChatRoomSummaryResponse>>> getMyChatRoomPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUserId();
+        int pageSize = Math.max(1, Math.min(size, 100));
+        CursorPageResponse<ChatRoomSummaryResponse> response = chatService.getMyChatRoomSummaryPage(userId, cursor, pageSize);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "전체 미읽음 개수 조회", description = "앱 배지에 표시할 전체 미읽음 개수를 조회합니다. 이후 변경은 /topic/user/{id}/badge 로 전송됩니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = UnreadBadgeResponse.class))
+            )
+    })
+    @GetMapping("/badge")
+    public ResponseEntity<ApiResponse<UnreadBadgeResponse>> getUnreadBadge() {
+        CustomUserDetails principal = (CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        Long userId = principal.getUserId();
+        return ResponseEntity.ok(ApiResponse.success(chatService.getUnreadBadge(userId)));
+    }
+
     @Operation(summary = "채팅방 나가기")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "성공"),
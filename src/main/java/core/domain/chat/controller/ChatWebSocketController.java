@@ -4,6 +4,7 @@ import core.domain.chat.dto.*;
 import core.domain.chat.entity.ChatRoom;
 import core.domain.chat.service.ChatMessageService;
 import core.domain.chat.service.ChatRoomService;
+import core.domain.chat.service.ChatSendPipeline;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,20 +20,22 @@ import org.springframework.stereotype.Controller;
 public class ChatWebSocketController {
 
     private final ChatMessageService chatMessageService;
+    private final ChatSendPipeline chatSendPipeline;
     private final SimpMessageSendingOperations template;
     private final Logger log = LoggerFactory.getLogger(ChatWebSocketController.class);
 
     /**
      * @apiNote 새로운 메시지를 전송하고, 해당 채팅방의 구독자들에게 브로드캐스트합니다.
+     * 메시지가 저장되면 inbound 스레드를 반환하고, 나머지 전송 단계는 ChatSendPipeline에서 비동기로 처리됩니다.
      *
      * @param req 전송 메시지 요청 (roomId, senderId, content, targetLanguage, translate)
      */
     @MessageMapping("/chat.sendMessage")
     public void sendMessage(SendMessageRequest req) {
         try {
-            chatMessageService.processAndSendChatMessage(req);
+            chatSendPipeline.submit(req);
 
-            log.info("메시지 및 요약 전송 성공: roomId={}, senderId={}", req.roomId(), req.senderId());
+            log.info("메시지 저장 및 전송 예약 성공: roomId={}, senderId={}", req.roomId(), req.senderId());
         } catch (Exception e) {
             log.error("메시지 전송 실패", e);
         }
@@ -67,12 +70,12 @@ public class ChatWebSocketController {
     /**
      * @apiNote 메시지 삭제를 처리하고, 해당 채팅방의 모든 참여자에게 삭제 사실을 알립니다.
      *
-     * @param req 삭제 요청 정보 (messageId, userId)
+     * @param req 삭제 요청 정보 (messageId, userId, roomId)
      */
     @MessageMapping("/chat.deleteMessage")
     public void deleteMessage(@Payload DeleteMessageRequest req) {
         try {
-            chatMessageService.deleteMessageAndBroadcast(req.messageId(), req.senderId());
+            chatMessageService.deleteMessageAndBroadcast(req.messageId(), req.roomId(), req.senderId());
             log.info("메시지 삭제 요청 처리: messageId={}, userId={}", req.messageId(), req.senderId());
         } catch (Exception e) {
             log.error("메시지 삭제 처리 중 에러 발생", e);
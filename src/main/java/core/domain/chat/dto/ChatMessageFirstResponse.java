@@ -15,7 +15,8 @@ public record ChatMessageFirstResponse(
         Instant sentAt,
         String senderFirstName,
         String senderLastName,
-        String senderImageUrl
+        String senderImageUrl,
+        Long sequence
 ) {
     /**
      * [리팩토링 후]
@@ -32,7 +33,8 @@ public record ChatMessageFirstResponse(
                 message.getSentAt(),
                 sender.firstName(),
                 sender.lastName(),
-                sender.ImageUrl()
+                sender.ImageUrl(),
+                message.getSequence()
         );
     }
 }
\ No newline at end of file
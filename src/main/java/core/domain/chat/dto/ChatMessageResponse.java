@@ -1,5 +1,7 @@
 package core.domain.chat.dto;
 
+import core.domain.chat.entity.ChatMessage;
+
 import java.time.Instant;
 
 public record ChatMessageResponse(
@@ -11,7 +13,25 @@ public record ChatMessageResponse(
         Instant sentAt,
         String senderFirstName,
         String senderLastName,
-        String senderImageUrl
+        String senderImageUrl,
+        Long sequence
 ) {
-
-}
\ No newline at end of file
+    /**
+     * 메시지와 발신자 정보, 번역문을 조합하여 응답 DTO를 생성합니다.
+     * sequence는 방 단위 순번으로, 순번이 부여되지 않은 메시지는 null입니다.
+     */
+    public static ChatMessageResponse from(ChatMessage message, UserResponseDto sender, String targetContent) {
+        return new ChatMessageResponse(
+                message.getId(),
+                message.getChatRoomId(),
+                sender.userId(),
+                message.getContent(),
+                targetContent,
+                message.getSentAt(),
+                sender.firstName(),
+                sender.lastName(),
+                sender.ImageUrl(),
+                message.getSequence()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package core.domain.chat.dto;
+
+/**
+ * 채팅방의 멤버십이나 참여자 설정이 바뀌었음을 알리는 이벤트입니다.
+ * 채팅방 상태를 메모리에 들고 있는 컴포넌트가 이 이벤트를 받아 자신의 상태를 갱신합니다.
+ * 채팅방 삭제는 채팅방 단위 이벤트(userId가 null) 하나와, 참여했던 사용자마다 userId를 채운 이벤트로 알립니다.
+ *
+ * @param roomId 변경된 채팅방 ID
+ * @param userId 변경을 일으킨 사용자 ID (채팅방 단위 삭제 이벤트면 null)
+ * @param type   변경 유형
+ */
+public record ChatRoomChangedEvent(
+        Long roomId,
+        Long userId,
+        Type type
+) {
+    public enum Type {
+        JOINED,
+        LEFT,
+        REJOINED,
+        TRANSLATION_TOGGLED,
+        DELETED
+    }
+}
@@ -0,0 +1,87 @@
+package core.domain.chat.dto;
+
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.global.enums.ChatParticipantStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 채팅방과 참여자 목록의 읽기 전용 스냅샷입니다. 전송/조회/읽음 처리 경로에서 JPA 조회 대신 사용합니다.
+ *
+ * @param roomId       채팅방 ID
+ * @param group        그룹 채팅방 여부
+ * @param ownerId      방장 ID (1:1 채팅방이면 null)
+ * @param roomName     채팅방 이름
+ * @param participants 참여자 목록 (나간 참여자 포함)
+ */
+public record ChatRoomSnapshot(
+        Long roomId,
+        boolean group,
+        Long ownerId,
+        String roomName,
+        List<Member> participants
+) {
+    /**
+     * @param userId           참여자 ID
+     * @param status           참여 상태
+     * @param translateEnabled 번역 사용 여부
+     * @param lastLeftAt       마지막으로 나간 시각 (참여 중이면 null)
+     */
+    public record Member(
+            Long userId,
+            ChatParticipantStatus status,
+            boolean translateEnabled,
+            Instant lastLeftAt
+    ) {
+        public boolean isLeft() {
+            return status == ChatParticipantStatus.LEFT;
+        }
+    }
+
+    /**
+     * 참여자까지 함께 조회된 채팅방으로부터 스냅샷을 만듭니다.
+     */
+    public static ChatRoomSnapshot from(ChatRoom room) {
+        List<Member> members = room.getParticipants().stream()
+                .map(ChatRoomSnapshot::toMember)
+                .toList();
+        return new ChatRoomSnapshot(
+                room.getId(),
+                Boolean.TRUE.equals(room.getGroup()),
+                room.getOwnerId(),
+                room.getRoomName(),
+                members
+        );
+    }
+
+    public Optional<Member> member(Long userId) {
+        return participants.stream()
+                .filter(member -> member.userId().equals(userId))
+                .findFirst();
+    }
+
+    public List<Long> memberIds() {
+        return participants.stream().map(Member::userId).distinct().toList();
+    }
+
+    /**
+     * 메시지를 보내기 전에 재참여 처리가 필요한지 확인합니다.
+     * 발신자가 나가 있거나, 1:1 채팅방에서 상대방이 나가 있으면 true입니다.
+     */
+    public boolean needsRejoin(Long senderId) {
+        return participants.stream().anyMatch(member -> member.isLeft()
+                && (member.userId().equals(senderId) || !group));
+    }
+
+    private static Member toMember(ChatParticipant participant) {
+        return new Member(
+                participant.getUserId(),
+                participant.getStatus(),
+                participant.isTranslateEnabled(),
+                participant.getLastLeftAt()
+        );
+    }
+}
@@ -44,4 +44,26 @@ public record ChatRoomSummaryResponse(
                 room.getParticipants().size()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 채팅방 스냅샷으로 요약을 만듭니다. 참여자 수는 스냅샷의 참여자 목록 크기입니다.
+     */
+    public static ChatRoomSummaryResponse from(
+            ChatRoomSnapshot room,
+            String lastMessageContent,
+            Instant lastMessageTime,
+            int unreadCount,
+            String summaryRoomName,
+            String summaryRoomImageUrl
+    ) {
+        return new ChatRoomSummaryResponse(
+                room.roomId(),
+                summaryRoomName,
+                lastMessageContent,
+                lastMessageTime,
+                summaryRoomImageUrl,
+                unreadCount,
+                room.participants().size()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package core.domain.chat.dto;
+
+import core.domain.chat.entity.ChatMessage;
+
+import java.util.Map;
+
+/**
+ * 메시지 전송 파이프라인(저장 → 보강 → 번역 → 전파)의 단계 사이에서 전달되는 상태입니다.
+ *
+ * @param message            저장이 끝난 메시지
+ * @param room               채팅방과 참여자 스냅샷
+ * @param userInfoMap        참여자 ID → 유저 정보
+ * @param groupRoomImageUrl  그룹 채팅방 대표 이미지 (1:1 채팅방이면 null)
+ * @param translatedContents 수신자 ID → 번역된 메시지 (번역 단계 이전에는 빈 맵)
+ * @param translationsByLanguage 번역 언어 → 번역된 메시지 (번역에 실패한 언어는 null 값)
+ */
+public record ChatSendContext(
+        ChatMessage message,
+        ChatRoomSnapshot room,
+        Map<Long, UserResponseDto> userInfoMap,
+        String groupRoomImageUrl,
+        Map<Long, String> translatedContents,
+        Map<String, String> translationsByLanguage
+) {
+    public ChatSendContext withTranslations(Map<Long, String> translatedContents, Map<String, String> translationsByLanguage) {
+        return new ChatSendContext(message, room, userInfoMap, groupRoomImageUrl, translatedContents, translationsByLanguage);
+    }
+}
@@ -0,0 +1,14 @@
+package core.domain.chat.dto;
+
+import java.util.Map;
+
+/**
+ * 재연결 시 동기화 요청입니다.
+ *
+ * @param syncToken          직전 동기화 응답의 syncToken (없으면 null)
+ * @param lastSeenMessageIds 채팅방별로 마지막으로 받은 메시지 ID. syncToken 보다 우선합니다.
+ */
+public record ChatSyncRequest(
+        String syncToken,
+        Map<Long, String> lastSeenMessageIds
+) {}
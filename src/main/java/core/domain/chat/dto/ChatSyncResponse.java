@@ -0,0 +1,33 @@
+package core.domain.chat.dto;
+
+import java.util.List;
+
+/**
+ * 재연결 시 동기화 응답입니다.
+ *
+ * @param syncToken     다음 동기화 요청에 전달할 토큰
+ * @param rooms         참여 중인 채팅방별 변경 사항
+ * @param closedRoomIds 요청에 있었지만 더 이상 참여 중이 아닌 채팅방 ID
+ */
+public record ChatSyncResponse(
+        String syncToken,
+        List<RoomDelta> rooms,
+        List<Long> closedRoomIds
+) {
+    /**
+     * @param roomId            채팅방 ID
+     * @param reset             true면 변경 사항이 너무 많거나 기준점이 없으므로, 클라이언트는 첫 메시지 조회부터 다시 불러와야 합니다
+     * @param messages          기준점 이후의 새 메시지 (오래된 순)
+     * @param deletedMessageIds 기준점 이후 삭제된 메시지 ID
+     * @param readStates        참여자별 현재 읽음 위치
+     * @param unreadCount       요청한 사용자의 미읽음 개수
+     */
+    public record RoomDelta(
+            Long roomId,
+            boolean reset,
+            List<ChatMessageResponse> messages,
+            List<String> deletedMessageIds,
+            List<ReadStatusResponse> readStates,
+            int unreadCount
+    ) {}
+}
@@ -1,6 +1,10 @@
 package core.domain.chat.dto;
 
+/**
+ * @param roomId 메시지가 속한 채팅방 ID. 없으면 보관(버킷)된 메시지는 찾지 않습니다.
+ */
 public record DeleteMessageRequest(
         String messageId,
-        Long senderId
+        Long senderId,
+        Long roomId
 ) {}
\ No newline at end of file
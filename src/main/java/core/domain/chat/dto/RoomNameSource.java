@@ -0,0 +1,17 @@
+package core.domain.chat.dto;
+
+/**
+ * 채팅방 이름 색인을 만들 때 필요한 최소 정보입니다.
+ *
+ * @param roomId     채팅방 ID
+ * @param group      그룹 채팅방 여부
+ * @param roomName   그룹 채팅방 이름 (1:1 채팅방은 null)
+ * @param opponentId 1:1 채팅방의 상대방 ID (그룹 채팅방이거나 상대방이 없으면 null)
+ */
+public record RoomNameSource(
+        Long roomId,
+        Boolean group,
+        String roomName,
+        Long opponentId
+) {
+}
@@ -0,0 +1,11 @@
+package core.domain.chat.dto;
+
+/**
+ * 사용자의 전체 미읽음 개수(앱 배지)입니다.
+ *
+ * @param totalUnreadCount 참여 중인 모든 채팅방의 미읽음 개수 합계
+ */
+public record UnreadBadgeResponse(
+        int totalUnreadCount
+) {
+}
@@ -3,12 +3,25 @@ package core.domain.chat.entity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.Instant;
 
 @Document(collection = "chat_messages")
+@CompoundIndexes({
+        // 페이지 조회, 주변 메시지 조회, 최신 메시지 조회 (room_id 일치 + _id 범위/정렬), 키워드 검색의 room_id 조건
+        @CompoundIndex(name = "room_id_desc", def = "{'room_id': 1, '_id': -1}"),
+        // 미읽음 개수 (room_id 일치 + sender_id 불일치 + _id 범위)
+        @CompoundIndex(name = "room_sender_id", def = "{'room_id': 1, 'sender_id': 1, '_id': 1}"),
+        // sent_at 기준 최신순 조회와 나간 이후 메시지 조회
+        @CompoundIndex(name = "room_sent_at_desc", def = "{'room_id': 1, 'sent_at': -1}"),
+        // 방 액터의 마지막 순번 조회. 순번이 있는 메시지만 담으며, 여러 노드가 같은 순번을 쓰지 못하도록 유일합니다.
+        @CompoundIndex(name = "room_seq_unique", def = "{'room_id': 1, 'seq': -1}", unique = true,
+                partialFilter = "{'seq': {'$exists': true}}")
+})
 @Getter
 @NoArgsConstructor
 public class ChatMessage {
@@ -31,6 +44,12 @@ public class ChatMessage {
     @Field("read_count")
     private int readCount;
 
+    /**
+     * 채팅방 단위로 단조 증가하는 순번입니다. 방 액터 모드에서만 부여되며, 그 외에는 null입니다.
+     */
+    @Field("seq")
+    private Long sequence;
+
     public ChatMessage(Long chatRoomId, Long senderId, String content, int readCount) {
         this.chatRoomId = chatRoomId;
         this.senderId = senderId;
@@ -44,4 +63,17 @@ public class ChatMessage {
         this.content = content;
         this.sentAt = Instant.now();
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 저장 전에 ID를 미리 부여합니다. 이미 ID가 있으면 무시합니다.
+     */
+    public void assignId(String id) {
+        if (this.id == null) {
+            this.id = id;
+        }
+    }
+
+    public void assignSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
@@ -0,0 +1,97 @@
+package core.domain.chat.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 오래된 채팅 메시지를 채팅방별로 묶어 보관하는 콜드 버킷입니다.
+ *
+ * @apiNote 한 버킷은 한 채팅방의 연속된 메시지 chat.cold-storage.bucket-size 개 안팎을 _id 오름차순으로 담습니다.
+ * 압축하지 않으면 messages 에, 압축하면 BSON을 gzip으로 압축한 payload 에 저장하며 둘 중 하나만 채워집니다.
+ * first_id / last_id 는 담긴 메시지의 _id 범위이며, (room_id, first_id)는 유일합니다.
+ * max_seq 는 버킷에 담겼던 메시지의 가장 큰 순번으로, 메시지를 제거해도 줄어들지 않습니다.
+ */
+@Document(collection = "chat_message_buckets")
+@CompoundIndexes({
+        // 채팅방별 최신 버킷부터/특정 메시지 이전·이후 버킷 조회
+        @CompoundIndex(name = "room_last_id_desc", def = "{'room_id': 1, 'last_id': -1}"),
+        // 같은 메시지 범위의 버킷이 두 번 저장되지 않도록 (압축 재실행/동시 실행)
+        @CompoundIndex(name = "room_first_id_unique", def = "{'room_id': 1, 'first_id': 1}", unique = true),
+        // 메시지 ID로 그 메시지를 담은 버킷 찾기 (메시지 삭제)
+        @CompoundIndex(name = "room_last_first_id", def = "{'room_id': 1, 'last_id': 1, 'first_id': 1}")
+})
+@Getter
+@NoArgsConstructor
+public class ChatMessageBucket {
+
+    @Id
+    private String id;
+
+    @Field("room_id")
+    private Long chatRoomId;
+
+    @Field(value = "first_id", targetType = FieldType.OBJECT_ID)
+    private String firstMessageId;
+
+    @Field(value = "last_id", targetType = FieldType.OBJECT_ID)
+    private String lastMessageId;
+
+    @Field("first_sent_at")
+    private Instant firstSentAt;
+
+    @Field("last_sent_at")
+    private Instant lastSentAt;
+
+    @Field("count")
+    private int count;
+
+    @Field("max_seq")
+    private Long maxSequence;
+
+    @Field("messages")
+    private List<ChatMessage> messages;
+
+    @Field("payload")
+    private byte[] payload;
+
+    @Version
+    private Long version;
+
+    public ChatMessageBucket(Long chatRoomId, List<ChatMessage> messages, byte[] payload) {
+        this.chatRoomId = chatRoomId;
+        replaceMessages(messages, payload);
+    }
+
+    /**
+     * 버킷 내용을 바꿉니다. 범위와 개수는 전달된 메시지(오름차순) 기준으로 다시 계산됩니다.
+     *
+     * @param messages 버킷에 담을 메시지
+     * @param payload  압축 저장하는 경우 압축된 메시지, 아니면 null
+     */
+    public void replaceMessages(List<ChatMessage> messages, byte[] payload) {
+        this.firstMessageId = messages.getFirst().getId();
+        this.lastMessageId = messages.getLast().getId();
+        this.firstSentAt = messages.getFirst().getSentAt();
+        this.lastSentAt = messages.getLast().getSentAt();
+        this.count = messages.size();
+        messages.stream()
+                .map(ChatMessage::getSequence)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .filter(sequence -> maxSequence == null || sequence > maxSequence)
+                .ifPresent(sequence -> this.maxSequence = sequence);
+        this.payload = payload;
+        this.messages = payload == null ? messages : null;
+    }
+}
@@ -0,0 +1,45 @@
+package core.domain.chat.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 삭제된 메시지 기록입니다. 재연결한 클라이언트가 동기화할 때 그 사이 삭제된 메시지를 알려 주는 데 사용합니다.
+ *
+ * @apiNote {@link #RETENTION} 이 지나면 TTL 인덱스로 자동 삭제되므로, 그보다 오래전에 동기화한 클라이언트는 전체 초기화(reset)합니다.
+ */
+@Document(collection = "chat_message_tombstones")
+@CompoundIndex(name = "room_deleted_at", def = "{'room_id': 1, 'deleted_at': 1}")
+@Getter
+@NoArgsConstructor
+public class ChatMessageTombstone {
+
+    public static final Duration RETENTION = Duration.ofDays(7);
+
+    /**
+     * 삭제된 메시지의 ID
+     */
+    @Id
+    private String messageId;
+
+    @Field("room_id")
+    private Long chatRoomId;
+
+    @Indexed(name = "deleted_at_ttl", expireAfter = "7d")
+    @Field("deleted_at")
+    private Instant deletedAt;
+
+    public ChatMessageTombstone(String messageId, Long chatRoomId) {
+        this.messageId = messageId;
+        this.chatRoomId = chatRoomId;
+        this.deletedAt = Instant.now();
+    }
+}
@@ -9,11 +9,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_room")
+@Table(name = "chat_room", indexes = {
+        @Index(name = "idx_chat_room_last_message_at", columnList = "last_message_at DESC, chatroom_id DESC")
+})
 @Getter
 @NoArgsConstructor
 
 public class ChatRoom {
+
+    /**
+     * last_message_preview 에 저장하는 최대 글자 수(코드 포인트)
+     */
+    public static final int PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "chatroom_id")
@@ -34,6 +42,19 @@ public class ChatRoom {
 
     @Column(name = "owner_id")
     private Long ownerId;
+
+    /**
+     * 마지막 메시지 정보입니다. 메시지 저장 시 함께 갱신되어 채팅방 목록이 MongoDB를 조회하지 않고 사용합니다.
+     */
+    @Column(name = "last_message_id", length = 24)
+    private String lastMessageId;
+    @Column(name = "last_message_preview")
+    private String lastMessagePreview;
+    @Column(name = "last_message_sender_id")
+    private Long lastMessageSenderId;
+    @Column(name = "last_message_at")
+    private Instant lastMessageAt;
+
     public void addParticipant(ChatParticipant participant) {
         participants.add(participant);
     }
@@ -86,4 +107,17 @@ public class ChatRoom {
         this.ownerId = newOwnerId;
     }
 
+    /**
+     * 메시지 내용을 마지막 메시지 미리보기 길이로 자릅니다.
+     *
+     * @param content 메시지 내용
+     * @return 최대 {@link #PREVIEW_LENGTH} 글자의 미리보기
+     */
+    public static String preview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
+
 }
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
+public interface ChatMessageRepository extends MongoRepository<ChatMessage, String>, ChatMessageRepositoryCustom {
 
     /**
      * 특정 시간 이후의 메시지를 조회합니다. (채팅방 나간 후 첫 페이지)
@@ -36,6 +36,11 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
      */
     List<ChatMessage> findByChatRoomIdAndSentAtAfterAndIdLessThan(Long chatRoomId, Instant lastLeftAt, String lastMessageId, Pageable pageable);
 
+    /**
+     * 특정 메시지 ID 이후의 메시지를 페이징 조회 (재연결 동기화)
+     */
+    List<ChatMessage> findByChatRoomIdAndIdGreaterThan(Long chatRoomId, String messageId, Pageable pageable);
+
     List<ChatMessage> findByChatRoomIdAndContentContainingIgnoreCase(Long chatRoomId, String keyword);
 
     List<ChatMessage> findTop1000ByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
@@ -64,6 +69,11 @@ public interface ChatMessageRepository extends MongoRepository<ChatMessage, Stri
      * [추가] 특정 채팅방에서 시간을 기준으로 가장 최신 메시지 1개를 조회합니다.
      */
     Optional<ChatMessage> findTopByChatRoomIdOrderBySentAtDesc(Long chatRoomId);
+
+    /**
+     * 순번이 이미 쓰였는지 확인합니다. 방 액터가 저장 실패 후 순번을 건너뛸지 결정할 때 사용합니다.
+     */
+    boolean existsByChatRoomIdAndSequence(Long chatRoomId, Long sequence);
     void deleteByChatRoomId(Long chatRoomId);
 
     /**
@@ -0,0 +1,39 @@
+package core.domain.chat.repository;
+
+import core.domain.chat.dto.UnreadCountDto;
+import core.domain.chat.entity.ChatMessage;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ChatMessageRepositoryCustom {
+
+    /**
+     * 특정 메시지와 그 이전/이후 메시지를 한 번의 aggregation으로 조회합니다.
+     *
+     * @param chatRoomId      채팅방 ID
+     * @param targetMessageId 기준 메시지 ID
+     * @param before          기준 메시지 이전 메시지 개수
+     * @param after           기준 메시지 이후 메시지 개수
+     * @return 오래된 순으로 정렬된 메시지 목록. 기준 메시지가 채팅방에 없으면 기준 메시지가 빠진 목록
+     */
+    List<ChatMessage> findWindowAround(Long chatRoomId, String targetMessageId, int before, int after);
+
+    /**
+     * 한 사용자의 여러 채팅방 미읽음 개수를 한 번의 aggregation으로 계산합니다. 본인이 보낸 메시지는 세지 않습니다.
+     *
+     * @param userId             사용자 ID
+     * @param lastReadMessageIds 채팅방 ID별 마지막으로 읽은 메시지 ID (읽은 적이 없으면 null)
+     * @param cap                채팅방별 최대 개수. 이 개수만큼 찾으면 더 읽지 않습니다. 0 이하이면 제한하지 않습니다
+     * @return 미읽음 메시지가 있는 채팅방의 개수 목록. cap 과 같은 값은 cap 개 이상을 뜻합니다
+     */
+    List<UnreadCountDto> countUnreadByRoom(Long userId, Map<Long, String> lastReadMessageIds, int cap);
+
+    /**
+     * 채팅방 메시지 중 가장 큰 순번(seq)을 조회합니다. 방 액터가 순번을 이어받을 때 사용합니다.
+     * 순번이 있는 메시지만 담는 (room_id, seq) 부분 인덱스를 타도록 seq 가 있는 메시지로 조건을 겁니다.
+     *
+     * @return 가장 큰 순번. 순번이 있는 메시지가 없으면 0
+     */
+    long findMaxSequence(Long chatRoomId);
+}
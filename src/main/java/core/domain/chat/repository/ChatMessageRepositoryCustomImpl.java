@@ -0,0 +1,122 @@
+package core.domain.chat.repository;
+
+import core.domain.chat.dto.UnreadCountDto;
+import core.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationPipeline;
+import org.springframework.data.mongodb.core.aggregation.UnionWithOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link ChatMessageRepositoryCustom} 구현체입니다.
+ *
+ * @apiNote 이전 메시지는 (room_id, _id) 인덱스를 역순으로, 기준 메시지와 이후 메시지는 $unionWith 하위 파이프라인에서
+ * 같은 인덱스를 정순으로 읽습니다. $facet 하위 파이프라인은 인덱스를 사용하지 못하므로 $unionWith를 사용합니다.
+ * 응답에 필요한 필드만 프로젝션합니다.
+ * 미읽음 개수도 채팅방마다 같은 인덱스를 읽는 하위 파이프라인을 $unionWith로 이어 붙여, cap 이 있으면 채팅방별로 cap 개에서 멈춥니다.
+ * 파이프라인이 채팅방 수만큼 길어지지 않도록 {@value #UNREAD_ROOMS_PER_AGGREGATION}개 채팅방씩 나누어 집계합니다.
+ */
+@RequiredArgsConstructor
+public class ChatMessageRepositoryCustomImpl implements ChatMessageRepositoryCustom {
+
+    private static final String[] WINDOW_FIELDS = {"room_id", "sender_id", "content", "sent_at", "seq"};
+
+    /**
+     * 미읽음 집계 한 번에 $unionWith로 이어 붙이는 최대 채팅방 수입니다.
+     */
+    static final int UNREAD_ROOMS_PER_AGGREGATION = 50;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ChatMessage> findWindowAround(Long chatRoomId, String targetMessageId, int before, int after) {
+        String collection = mongoTemplate.getCollectionName(ChatMessage.class);
+        ObjectId targetId = new ObjectId(targetMessageId);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("room_id").is(chatRoomId).and("_id").lt(targetId)),
+                Aggregation.sort(Sort.Direction.DESC, "_id"),
+                Aggregation.limit(before),
+                UnionWithOperation.unionWith(collection).pipeline(AggregationPipeline.of(
+                        Aggregation.match(Criteria.where("room_id").is(chatRoomId).and("_id").gte(targetId)),
+                        Aggregation.sort(Sort.Direction.ASC, "_id"),
+                        Aggregation.limit(after + 1L)
+                )),
+                Aggregation.sort(Sort.Direction.ASC, "_id"),
+                Aggregation.project(WINDOW_FIELDS)
+        );
+
+        return mongoTemplate.aggregate(aggregation, collection, ChatMessage.class).getMappedResults();
+    }
+
+    @Override
+    public List<UnreadCountDto> countUnreadByRoom(Long userId, Map<Long, String> lastReadMessageIds, int cap) {
+        if (lastReadMessageIds.isEmpty()) {
+            return List.of();
+        }
+        String collection = mongoTemplate.getCollectionName(ChatMessage.class);
+
+        List<Map.Entry<Long, String>> rooms = new ArrayList<>(lastReadMessageIds.entrySet());
+        List<UnreadCountDto> counts = new ArrayList<>(rooms.size());
+        for (int from = 0; from < rooms.size(); from += UNREAD_ROOMS_PER_AGGREGATION) {
+            List<Map.Entry<Long, String>> chunk = rooms.subList(from, Math.min(from + UNREAD_ROOMS_PER_AGGREGATION, rooms.size()));
+            counts.addAll(countUnread(collection, userId, chunk, cap));
+        }
+        return counts;
+    }
+
+    private List<UnreadCountDto> countUnread(String collection, Long userId, List<Map.Entry<Long, String>> rooms, int cap) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : rooms) {
+            List<AggregationOperation> branch = unreadBranch(userId, entry.getKey(), entry.getValue(), cap);
+            if (operations.isEmpty()) {
+                operations.addAll(branch);
+            } else {
+                operations.add(UnionWithOperation.unionWith(collection)
+                        .pipeline(AggregationPipeline.of(branch.toArray(AggregationOperation[]::new))));
+            }
+        }
+        operations.add(Aggregation.project().and("_id").as("roomId").and("count").as("unreadCount").andExclude("_id"));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(operations), collection, UnreadCountDto.class).getMappedResults();
+    }
+
+    @Override
+    public long findMaxSequence(Long chatRoomId) {
+        Query query = new Query(Criteria.where("room_id").is(chatRoomId).and("seq").exists(true))
+                .with(Sort.by(Sort.Direction.DESC, "seq"))
+                .limit(1);
+        query.fields().include("seq");
+        ChatMessage newest = mongoTemplate.findOne(query, ChatMessage.class);
+        return newest == null || newest.getSequence() == null ? 0L : newest.getSequence();
+    }
+
+    /**
+     * 읽음 위치가 ObjectId 형식이 아니면(잘못 저장되었거나 이전 형식의 값) 읽음 위치가 없는 것으로 보고 채팅방 전체를 셉니다.
+     */
+    private static List<AggregationOperation> unreadBranch(Long userId, Long chatRoomId, String lastReadMessageId, int cap) {
+        Criteria criteria = Criteria.where("room_id").is(chatRoomId);
+        if (lastReadMessageId != null && ObjectId.isValid(lastReadMessageId)) {
+            criteria = criteria.and("_id").gt(new ObjectId(lastReadMessageId));
+        }
+        criteria = criteria.and("sender_id").ne(userId);
+
+        List<AggregationOperation> branch = new ArrayList<>(3);
+        branch.add(Aggregation.match(criteria));
+        if (cap > 0) {
+            branch.add(Aggregation.limit(cap));
+        }
+        branch.add(Aggregation.group("room_id").count().as("count"));
+        return branch;
+    }
+}
@@ -0,0 +1,21 @@
+package core.domain.chat.repository;
+
+import core.domain.chat.entity.ChatMessageTombstone;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatMessageTombstoneRepository extends MongoRepository<ChatMessageTombstone, String> {
+
+    /**
+     * 특정 시각 이후 채팅방에서 삭제된 메시지 기록을 조회합니다.
+     */
+    List<ChatMessageTombstone> findByChatRoomIdAndDeletedAtAfter(Long chatRoomId, Instant deletedAfter);
+
+    /**
+     * 특정 시각 이후 여러 채팅방에서 삭제된 메시지 기록을 한 번에 조회합니다.
+     */
+    List<ChatMessageTombstone> findByChatRoomIdInAndDeletedAtAfter(Collection<Long> chatRoomIds, Instant deletedAfter);
+}
@@ -4,8 +4,12 @@ import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
 import core.global.enums.ChatParticipantStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,5 +41,49 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
 
     List<ChatParticipant> findByChatRoom(ChatRoom chatRoom);
 
+    /**
+     * 여러 채팅방의 참여자 목록을 한 번에 조회합니다.
+     *
+     * @param chatRoomIds 조회할 채팅방 ID 목록
+     */
+    List<ChatParticipant> findByChatRoomIdIn(Collection<Long> chatRoomIds);
+
+    /**
+     * 한 사용자의 여러 채팅방 참여 정보를 한 번에 조회합니다.
+     *
+     * @param userId      사용자 ID
+     * @param chatRoomIds 조회할 채팅방 ID 목록
+     */
+    List<ChatParticipant> findByUserIdAndChatRoomIdIn(Long userId, Collection<Long> chatRoomIds);
+
+    /**
+     * 사용자가 주어진 상태로 참여한 채팅방 ID를 참여자 엔티티를 읽지 않고 조회합니다.
+     */
+    @Query("SELECT p.chatRoom.id FROM ChatParticipant p WHERE p.userId = :userId AND p.status = :status")
+    List<Long> findChatRoomIdsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") ChatParticipantStatus status);
+
+    /**
+     * 사용자와 1:1 채팅방을 함께 쓰는 상대방 중 해당 채팅방에 참여 중인 사용자 ID를 조회합니다.
+     * 사용자의 이름이 상대방의 채팅방 이름으로 보이므로, 프로필이 바뀌면 이 사용자들의 채팅방 이름 색인을 갱신해야 합니다.
+     *
+     * @param userId 프로필이 바뀐 사용자 ID
+     */
+    @Query("SELECT DISTINCT o.userId FROM ChatParticipant p JOIN p.chatRoom cr JOIN cr.participants o " +
+            "WHERE p.userId = :userId AND cr.group = false AND o.userId <> :userId AND o.status = :status")
+    List<Long> findOneToOneCounterpartUserIds(@Param("userId") Long userId, @Param("status") ChatParticipantStatus status);
+
+    /**
+     * 참여자 엔티티를 읽지 않고 마지막으로 읽은 메시지 ID만 갱신합니다.
+     * 방 액터처럼 멤버십을 이미 확인한 호출자가 사용합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChatParticipant p SET p.lastReadMessageId = :messageId " +
+            "WHERE p.chatRoom.id = :roomId AND p.userId = :userId")
+    int updateLastReadMessageId(@Param("roomId") Long roomId,
+                                @Param("userId") Long userId,
+                                @Param("messageId") String messageId);
+
 
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package core.domain.chat.repository;
 
+import core.domain.chat.dto.RoomNameSource;
 import core.domain.chat.entity.ChatRoom;
 import core.global.enums.ChatParticipantStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +35,96 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT cr FROM ChatRoom cr JOIN cr.participants p WHERE p.userId = :userId AND p.status = :status")
     List<ChatRoom> findActiveChatRoomsByUserId(@Param("userId") Long userId, @Param("status") ChatParticipantStatus status);
 
+    /**
+     * 특정 사용자가 참여 중인 채팅방을 마지막 메시지 시각 내림차순으로 조회합니다. 메시지가 없는 채팅방은 마지막입니다.
+     */
+    @Query("SELECT cr FROM ChatRoom cr JOIN cr.participants p WHERE p.userId = :userId AND p.status = :status " +
+            "ORDER BY cr.lastMessageAt DESC NULLS LAST, cr.id DESC")
+    List<ChatRoom> findActiveChatRoomsByUserIdOrderByLastMessage(@Param("userId") Long userId, @Param("status") ChatParticipantStatus status);
+
+    /**
+     * 사용자가 참여 중인 채팅방의 이름 색인 원본을 참여자 엔티티를 읽지 않고 조회합니다.
+     */
+    @Query("SELECT new core.domain.chat.dto.RoomNameSource(cr.id, cr.group, cr.roomName, o.userId) " +
+            "FROM ChatRoom cr JOIN cr.participants p " +
+            "LEFT JOIN cr.participants o ON cr.group = false AND o.userId <> :userId " +
+            "WHERE p.userId = :userId AND p.status = :status")
+    List<RoomNameSource> findRoomNameSources(@Param("userId") Long userId, @Param("status") ChatParticipantStatus status);
+
+    /**
+     * 주어진 채팅방 중 사용자가 참여 중인 채팅방만 마지막 메시지 시각 내림차순으로 조회합니다.
+     */
+    @Query("SELECT cr FROM ChatRoom cr JOIN cr.participants p WHERE p.userId = :userId AND p.status = :status " +
+            "AND cr.id IN :roomIds ORDER BY cr.lastMessageAt DESC NULLS LAST, cr.id DESC")
+    List<ChatRoom> findActiveChatRoomsByUserIdAndIdIn(@Param("userId") Long userId,
+                                                      @Param("status") ChatParticipantStatus status,
+                                                      @Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * 채팅방 목록 첫 페이지를 마지막 메시지 시각 내림차순으로 조회합니다.
+     */
+    @Query("SELECT cr FROM ChatRoom cr JOIN cr.participants p WHERE p.userId = :userId AND p.status = :status " +
+            "ORDER BY cr.lastMessageAt DESC NULLS LAST, cr.id DESC")
+    List<ChatRoom> findActiveChatRoomsByUserIdOrderByLastMessage(@Param("userId") Long userId,
+                                                                 @Param("status") ChatParticipantStatus status,
+                                                                 Pageable pageable);
+
+    /**
+     * 커서(lastMessageAt, roomId) 다음 페이지를 조회합니다. 메시지가 없는 채팅방은 메시지가 있는 채팅방 뒤에 이어집니다.
+     */
+    @Query("SELECT cr FROM ChatRoom cr JOIN cr.participants p WHERE p.userId = :userId AND p.status = :status " +
+            "AND (cr.lastMessageAt < :lastMessageAt OR (cr.lastMessageAt = :lastMessageAt AND cr.id < :roomId) OR cr.lastMessageAt IS NULL) " +
+            "ORDER BY cr.lastMessageAt DESC NULLS LAST, cr.id DESC")
+    List<ChatRoom> findActiveChatRoomsByUserIdAfterCursor(@Param("userId") Long userId,
+                                                          @Param("status") ChatParticipantStatus status,
+                                                          @Param("lastMessageAt") Instant lastMessageAt,
+                                                          @Param("roomId") Long roomId,
+                                                          Pageable pageable);
+
+    /**
+     * 커서가 메시지가 없는 채팅방을 가리킬 때의 다음 페이지를 조회합니다.
+     */
+    @Query("SELECT cr FROM ChatRoom cr JOIN cr.participants p WHERE p.userId = :userId AND p.status = :status " +
+            "AND cr.lastMessageAt IS NULL AND cr.id < :roomId ORDER BY cr.id DESC")
+    List<ChatRoom> findActiveChatRoomsByUserIdWithoutMessagesAfterCursor(@Param("userId") Long userId,
+                                                                         @Param("status") ChatParticipantStatus status,
+                                                                         @Param("roomId") Long roomId,
+                                                                         Pageable pageable);
+
+    /**
+     * 더 새로운 메시지일 때만 마지막 메시지 정보를 갱신합니다. ObjectId 문자열은 생성 순서대로 정렬됩니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.lastMessageId = :messageId, cr.lastMessagePreview = :preview, " +
+            "cr.lastMessageSenderId = :senderId, cr.lastMessageAt = :sentAt " +
+            "WHERE cr.id = :roomId AND (cr.lastMessageId IS NULL OR cr.lastMessageId < :messageId)")
+    int advanceLastMessage(@Param("roomId") Long roomId,
+                           @Param("messageId") String messageId,
+                           @Param("preview") String preview,
+                           @Param("senderId") Long senderId,
+                           @Param("sentAt") Instant sentAt);
+
+    /**
+     * 마지막 메시지 정보를 그대로 덮어씁니다. 마지막 메시지가 삭제되었거나 보정 작업이 어긋난 값을 고칠 때 사용합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.lastMessageId = :messageId, cr.lastMessagePreview = :preview, " +
+            "cr.lastMessageSenderId = :senderId, cr.lastMessageAt = :sentAt WHERE cr.id = :roomId")
+    int replaceLastMessage(@Param("roomId") Long roomId,
+                           @Param("messageId") String messageId,
+                           @Param("preview") String preview,
+                           @Param("senderId") Long senderId,
+                           @Param("sentAt") Instant sentAt);
+
+    /**
+     * 마지막 메시지 보정 작업이 채팅방 ID 순으로 나누어 훑을 때 사용합니다.
+     */
+    List<ChatRoom> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
 
 
     @Query("SELECT cr FROM ChatRoom cr WHERE cr.group = false " +
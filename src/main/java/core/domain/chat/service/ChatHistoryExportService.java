@@ -0,0 +1,146 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.UserResponseDto;
+import core.domain.chat.entity.ChatMessage;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 전체 메시지 기록을 NDJSON(한 줄에 메시지 하나)으로 내보냅니다.
+ *
+ * @apiNote 보관 버킷(chat_message_buckets)을 먼저, 이어서 MongoDB 서버 커서로 chat_messages 를 오래된 순으로 읽으면서
+ * 응답에 바로 쓰므로 메모리 사용량이 기록 크기와 무관합니다.
+ * chat.export.chunk-size 개씩 모아, 아직 조회하지 않은 발신자 정보만 한 번에 조회한 뒤 내보냅니다.
+ * 나간 참여자는 getRawMessages 와 같이 나간 시점 이후의 메시지만 받습니다. 번역은 하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatHistoryExportService {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatRoomSnapshotCache roomSnapshotCache;
+    private final UserClient userClient;
+    private final ObjectMapper objectMapper;
+    private final ChatMessageColdStorage coldStorage;
+
+    @Value("${chat.export.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 참여자 확인 후 내보내기 본문을 반환합니다. 참여자 확인은 응답을 쓰기 전에 끝나므로 오류는 일반 오류 응답으로 전달됩니다.
+     *
+     * @throws BusinessException 채팅방 참여자가 아니면 NOT_CHAT_PARTICIPANT
+     */
+    public StreamingResponseBody export(Long roomId, Long userId) {
+        ChatRoomSnapshot.Member participant = roomSnapshotCache.get(roomId).member(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
+
+        Instant sentAfter = participant.isLeft() ? participant.lastLeftAt() : null;
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        return outputStream -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                Map<Long, UserResponseDto> senders = new HashMap<>();
+                String[] lastColdId = {null};
+                coldStorage.forEachBucket(roomId, sentAfter, bucket -> {
+                    writeChunk(bucket, senders, outputStream);
+                    lastColdId[0] = bucket.getLast().getId();
+                });
+
+                Criteria criteria = Criteria.where("chatRoomId").is(roomId);
+                if (sentAfter != null) {
+                    criteria = criteria.and("sentAt").gt(sentAfter);
+                }
+                if (lastColdId[0] != null) {
+                    criteria = criteria.and("id").gt(new ObjectId(lastColdId[0]));
+                }
+                Query query = new Query(criteria)
+                        .with(Sort.by(Sort.Direction.ASC, "id"))
+                        .cursorBatchSize(chunkSize);
+                try (Stream<ChatMessage> messages = mongoTemplate.stream(query, ChatMessage.class)) {
+                    write(messages.iterator(), senders, outputStream);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    private void write(Iterator<ChatMessage> messages, Map<Long, UserResponseDto> senders, OutputStream outputStream) {
+        List<ChatMessage> chunk = new ArrayList<>(chunkSize);
+        while (messages.hasNext()) {
+            chunk.add(messages.next());
+            if (chunk.size() == chunkSize || !messages.hasNext()) {
+                writeChunk(chunk, senders, outputStream);
+                chunk.clear();
+            }
+        }
+    }
+
+    private void writeChunk(List<ChatMessage> chunk, Map<Long, UserResponseDto> senders, OutputStream outputStream) {
+        resolveSenders(chunk, senders);
+        try {
+            for (ChatMessage message : chunk) {
+                UserResponseDto sender = senders.getOrDefault(message.getSenderId(), UserResponseDto.unknown());
+                outputStream.write(objectMapper.writeValueAsBytes(ChatMessageResponse.from(message, sender, null)));
+                outputStream.write(LINE_SEPARATOR);
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 청크에 처음 등장한 발신자만 조회합니다. 조회에 실패하면 알 수 없는 사용자로 내보냅니다.
+     */
+    private void resolveSenders(List<ChatMessage> chunk, Map<Long, UserResponseDto> senders) {
+        List<Long> missing = chunk.stream()
+                .map(ChatMessage::getSenderId)
+                .filter(senderId -> !senders.containsKey(senderId))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            userClient.getUsersInfo(missing).forEach(user -> senders.put(user.userId(), user));
+        } catch (RuntimeException e) {
+            log.warn("내보내기 발신자 정보 조회 실패: senders={}", missing, e);
+        }
+        missing.forEach(senderId -> senders.putIfAbsent(senderId, UserResponseDto.unknown()));
+    }
+}
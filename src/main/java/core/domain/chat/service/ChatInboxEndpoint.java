@@ -0,0 +1,34 @@
+package core.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 채팅방 인박스를 원본에서 다시 만드는 actuator 엔드포인트입니다 (/actuator/chatinbox).
+ *
+ * @apiNote POST /actuator/chatinbox/{userId} 는 해당 사용자의 인박스를 바로 다시 만들고 항목 수만 반환하며,
+ * DELETE /actuator/chatinbox 는 모든 인박스를 지워 각 사용자가 다음에 조회할 때 다시 만들어지게 합니다.
+ * 메시지 미리보기는 응답에 담지 않으며, 인증된 요청만 호출할 수 있습니다 (SecurityConfig).
+ */
+@Component
+@Endpoint(id = "chatinbox")
+@RequiredArgsConstructor
+public class ChatInboxEndpoint {
+
+    private final ChatRoomService chatRoomService;
+    private final ChatInboxStore inboxStore;
+
+    @WriteOperation
+    public int rebuild(@Selector Long userId) {
+        return chatRoomService.rebuildInbox(userId).size();
+    }
+
+    @DeleteOperation
+    public int invalidateAll() {
+        return inboxStore.invalidateAll();
+    }
+}
@@ -0,0 +1,395 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.enums.ChatParticipantStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 채팅방 목록(인박스)을 Redis에 미리 만들어 두는 저장소입니다.
+ *
+ * @apiNote 사용자마다 정렬 집합(chat:inbox:{userId}, 멤버는 채팅방 ID, 점수는 마지막 메시지 시각 epoch millis)과
+ * 해시(chat:inbox:{userId}:rooms, 필드는 채팅방 ID, 값은 {@link Entry} JSON)를 두어 채팅방 목록을 한 번의 스크립트 호출로 읽습니다.
+ * 메시지를 보내면 참여 중인 사용자들의 항목을 한 번에 갱신하고, 나가면 항목을 지우며,
+ * 새 참여자가 생기면 다른 참여자들의 참여자 수를 고치고 참여한 사용자의 인박스는 지워 다음 조회 때 원본에서 다시 만듭니다.
+ * 마지막 메시지가 삭제되면 참여자들의 항목을 새 마지막 메시지로 되돌리고, 채팅방이 삭제되면 참여했던 사용자들의 항목을 지웁니다.
+ * 미읽음 개수는 저장하지 않고 조회 시 {@link ChatUnreadCounterService} 값을 합치므로 읽음 처리 경로는 카운터만 갱신합니다.
+ * 인박스가 없는 사용자의 항목은 갱신하지 않으므로, 없는 인박스는 조회 시 원본에서 통째로 만들어집니다.
+ * 인박스는 원본에서 만든 뒤 chat.inbox.ttl 이 지나면 만료되며, 조회나 메시지 반영은 만료 시간을 늘리지 않습니다.
+ * 1:1 상대방의 이름이나 채팅방 이미지처럼 메시지 경로로 갱신되지 않는 값은 인박스를 다시 만들 때 반영되므로,
+ * 자주 조회하는 사용자도 chat.inbox.ttl 안에 바뀐 값을 보게 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxStore {
+
+    private static final String KEY_PREFIX = "chat:inbox:";
+
+    /**
+     * 해시에 항상 들어 있는 표시 필드입니다. 채팅방이 하나도 없는 인박스도 존재하는 것으로 구분합니다.
+     */
+    private static final String BUILT_FIELD = "_built";
+
+    /**
+     * 점수 내림차순으로 항목을 읽습니다. 인박스가 없으면 nil을 반환합니다. 만료 시간은 연장하지 않습니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return false end " +
+            "local entries = {} " +
+            "for _, roomId in ipairs(redis.call('ZREVRANGE', KEYS[1], 0, -1)) do " +
+            "  local entry = redis.call('HGET', KEYS[2], roomId) " +
+            "  if entry then entries[#entries + 1] = entry end " +
+            "end " +
+            "return entries",
+            List.class
+    );
+
+    /**
+     * KEYS는 사용자별 (정렬 집합, 해시) 쌍, ARGV[1]은 채팅방 ID, ARGV[2]는 메시지 시각, 이후는 사용자별 항목 JSON입니다.
+     * 인박스가 있고 저장된 시각보다 새로운 메시지일 때만 갱신합니다.
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i + 1]) == 1 then " +
+            "    local current = redis.call('ZSCORE', KEYS[i], ARGV[1]) " +
+            "    if not current or tonumber(current) <= tonumber(ARGV[2]) then " +
+            "      redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1]) " +
+            "      redis.call('HSET', KEYS[i + 1], ARGV[1], ARGV[2 + (i + 1) / 2]) " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return #KEYS / 2",
+            Long.class
+    );
+
+    /**
+     * KEYS는 사용자별 해시, ARGV[1]은 채팅방 ID, ARGV[2]는 참여자 수입니다. 이미 있는 항목의 참여자 수만 바꿉니다.
+     */
+    private static final RedisScript<Long> PARTICIPANT_COUNT_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(KEYS) do " +
+            "  local entry = redis.call('HGET', key, ARGV[1]) " +
+            "  if entry then " +
+            "    local decoded = cjson.decode(entry) " +
+            "    decoded.participantCount = tonumber(ARGV[2]) " +
+            "    redis.call('HSET', key, ARGV[1], cjson.encode(decoded)) " +
+            "  end " +
+            "end " +
+            "return #KEYS",
+            Long.class
+    );
+
+    /**
+     * KEYS는 사용자별 (정렬 집합, 해시) 쌍, ARGV[1]은 채팅방 ID, ARGV[2]는 삭제된 메시지 시각,
+     * ARGV[3]은 새 마지막 메시지 내용, ARGV[4]는 새 마지막 메시지 시각(메시지가 없으면 빈 문자열)입니다.
+     * 항목이 삭제된 메시지보다 새로운 메시지를 가리키고 있으면(그 사이 새 메시지가 온 경우) 건드리지 않습니다.
+     */
+    private static final RedisScript<Long> LAST_MESSAGE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do " +
+            "  local entry = redis.call('HGET', KEYS[i + 1], ARGV[1]) " +
+            "  local current = redis.call('ZSCORE', KEYS[i], ARGV[1]) " +
+            "  if entry and current and tonumber(current) <= tonumber(ARGV[2]) then " +
+            "    local decoded = cjson.decode(entry) " +
+            "    if ARGV[4] == '' then " +
+            "      decoded.lastMessageContent = cjson.null " +
+            "      decoded.lastMessageAt = cjson.null " +
+            "    else " +
+            "      decoded.lastMessageContent = ARGV[3] " +
+            "      decoded.lastMessageAt = tonumber(ARGV[4]) " +
+            "    end " +
+            "    redis.call('ZADD', KEYS[i], tonumber(ARGV[4]) or 0, ARGV[1]) " +
+            "    redis.call('HSET', KEYS[i + 1], ARGV[1], cjson.encode(decoded)) " +
+            "  end " +
+            "end " +
+            "return #KEYS / 2",
+            Long.class
+    );
+
+    /**
+     * ARGV[1]은 만료 시간(ms), 이후는 (채팅방 ID, 메시지 시각, 항목 JSON) 묶음입니다.
+     * 원본에서 다시 만드는 동안 들어온 더 새로운 메시지 항목은 유지하고, 목록에 없는 채팅방은 지웁니다.
+     */
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "local keep = {} " +
+            "for i = 2, #ARGV, 3 do " +
+            "  keep[ARGV[i]] = true " +
+            "  local current = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if not current or tonumber(current) <= tonumber(ARGV[i + 1]) then " +
+            "    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) " +
+            "    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2]) " +
+            "  end " +
+            "end " +
+            "for _, roomId in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do " +
+            "  if not keep[roomId] then " +
+            "    redis.call('ZREM', KEYS[1], roomId) " +
+            "    redis.call('HDEL', KEYS[2], roomId) " +
+            "  end " +
+            "end " +
+            "redis.call('HSET', KEYS[2], '" + BUILT_FIELD + "', '1') " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return (#ARGV - 1) / 3",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChatParticipantRepository chatParticipantRepository;
+
+    @Value("${chat.inbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.inbox.ttl:PT30M}")
+    private Duration ttl;
+
+    /**
+     * 인박스 항목 하나입니다. 미읽음 개수는 조회 시점에 합칩니다.
+     *
+     * @param roomId             채팅방 ID
+     * @param roomName           사용자에게 보여 줄 채팅방 이름
+     * @param roomImageUrl       사용자에게 보여 줄 채팅방 이미지
+     * @param lastMessageContent 마지막 메시지 내용
+     * @param lastMessageAt      마지막 메시지 시각 (epoch millis, 메시지가 없으면 null)
+     * @param participantCount   참여자 수
+     */
+    public record Entry(
+            Long roomId,
+            String roomName,
+            String roomImageUrl,
+            String lastMessageContent,
+            Long lastMessageAt,
+            int participantCount
+    ) {
+        public static Entry of(Long roomId, String roomName, String roomImageUrl, String lastMessageContent,
+                               Instant lastMessageTime, int participantCount) {
+            return new Entry(roomId, roomName, roomImageUrl, lastMessageContent,
+                    lastMessageTime == null ? null : lastMessageTime.toEpochMilli(), participantCount);
+        }
+
+        public ChatRoomSummaryResponse toSummary(int unreadCount) {
+            return new ChatRoomSummaryResponse(
+                    roomId,
+                    roomName,
+                    lastMessageContent,
+                    lastMessageAt == null ? null : Instant.ofEpochMilli(lastMessageAt),
+                    roomImageUrl,
+                    unreadCount,
+                    participantCount
+            );
+        }
+
+        private long score() {
+            return lastMessageAt == null ? 0 : lastMessageAt;
+        }
+    }
+
+    /**
+     * 인박스를 마지막 메시지 시각 내림차순으로 읽습니다.
+     *
+     * @return 인박스가 없거나 Redis에 접근할 수 없으면 빈 값
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<List<Entry>> read(Long userId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            List<String> encoded = redisTemplate.execute(READ_SCRIPT, keys(userId));
+            if (encoded == null) {
+                return Optional.empty();
+            }
+            List<Entry> entries = new ArrayList<>(encoded.size());
+            for (String json : encoded) {
+                entries.add(objectMapper.readValue(json, Entry.class));
+            }
+            return Optional.of(entries);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("채팅방 인박스 조회 실패, 원본에서 다시 만듭니다: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 원본에서 만든 항목으로 인박스를 교체합니다.
+     */
+    public void replace(Long userId, List<Entry> entries) {
+        if (!enabled) {
+            return;
+        }
+        List<String> args = new ArrayList<>(entries.size() * 3 + 1);
+        args.add(String.valueOf(ttl.toMillis()));
+        try {
+            for (Entry entry : entries) {
+                args.add(entry.roomId().toString());
+                args.add(String.valueOf(entry.score()));
+                args.add(objectMapper.writeValueAsString(entry));
+            }
+            redisTemplate.execute(REPLACE_SCRIPT, keys(userId), args.toArray());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("채팅방 인박스 저장 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 새 메시지를 참여자들의 인박스에 반영합니다. 인박스가 없는 참여자는 건너뜁니다.
+     *
+     * @param roomId  채팅방 ID
+     * @param sentAt  메시지 시각
+     * @param entries 사용자 ID별 새 항목
+     */
+    public void recordMessage(Long roomId, Instant sentAt, Map<Long, Entry> entries) {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(entries.size() * 2);
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        args.add(roomId.toString());
+        args.add(String.valueOf(sentAt.toEpochMilli()));
+        try {
+            for (Map.Entry<Long, Entry> entry : entries.entrySet()) {
+                keys.addAll(keys(entry.getKey()));
+                args.add(objectMapper.writeValueAsString(entry.getValue()));
+            }
+            redisTemplate.execute(RECORD_SCRIPT, keys, args.toArray());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("채팅방 인박스 갱신 실패, 참여자 인박스를 지웁니다: roomId={}", roomId, e);
+            entries.keySet().forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * 채팅방의 마지막 메시지가 삭제되었을 때 참여자들의 항목을 새 마지막 메시지로 되돌립니다.
+     * 인박스가 없거나 채팅방 항목이 없는 사용자는 건너뜁니다.
+     *
+     * @param roomId      채팅방 ID
+     * @param deletedAt   삭제된 메시지 시각
+     * @param lastMessage 새 마지막 메시지 (남은 메시지가 없으면 null)
+     * @param userIds     참여자 ID 목록
+     */
+    public void replaceLastMessage(Long roomId, Instant deletedAt, ChatMessage lastMessage, List<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(userIds.size() * 2);
+        userIds.forEach(userId -> keys.addAll(keys(userId)));
+        try {
+            redisTemplate.execute(LAST_MESSAGE_SCRIPT, keys,
+                    roomId.toString(),
+                    String.valueOf(deletedAt.toEpochMilli()),
+                    lastMessage == null ? "" : ChatRoom.preview(lastMessage.getContent()),
+                    lastMessage == null ? "" : String.valueOf(lastMessage.getSentAt().toEpochMilli()));
+        } catch (DataAccessException e) {
+            log.warn("채팅방 인박스 마지막 메시지 갱신 실패, 참여자 인박스를 지웁니다: roomId={}", roomId, e);
+            userIds.forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * 사용자의 인박스를 지웁니다. 다음 조회 때 원본에서 다시 만들어집니다.
+     */
+    public void invalidate(Long userId) {
+        try {
+            redisTemplate.delete(keys(userId));
+        } catch (DataAccessException e) {
+            log.warn("채팅방 인박스 삭제 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 모든 사용자의 인박스를 지웁니다.
+     *
+     * @return 지운 인박스 수
+     */
+    public int invalidateAll() {
+        int deleted = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(100).build())) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                redisTemplate.delete(key);
+                if (!key.endsWith(":rooms")) {
+                    deleted++;
+                }
+            }
+        }
+        return deleted;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        if (!enabled || event.userId() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case LEFT, DELETED -> remove(event.userId(), event.roomId());
+            case REJOINED -> invalidate(event.userId());
+            case JOINED -> {
+                invalidate(event.userId());
+                updateParticipantCount(event.roomId());
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void remove(Long userId, Long roomId) {
+        try {
+            redisTemplate.opsForZSet().remove(zsetKey(userId), roomId.toString());
+            redisTemplate.opsForHash().delete(roomsKey(userId), roomId.toString());
+        } catch (DataAccessException e) {
+            log.warn("채팅방 인박스 항목 삭제 실패, 인박스를 지웁니다: roomId={}, userId={}", roomId, userId, e);
+            invalidate(userId);
+        }
+    }
+
+    private void updateParticipantCount(Long roomId) {
+        List<ChatParticipant> participants = chatParticipantRepository.findByChatRoomId(roomId);
+        List<String> keys = participants.stream()
+                .filter(participant -> participant.getStatus() == ChatParticipantStatus.ACTIVE)
+                .map(participant -> roomsKey(participant.getUserId()))
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PARTICIPANT_COUNT_SCRIPT, keys, roomId.toString(), String.valueOf(participants.size()));
+        } catch (DataAccessException e) {
+            log.warn("채팅방 인박스 참여자 수 갱신 실패: roomId={}", roomId, e);
+        }
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(zsetKey(userId), roomsKey(userId));
+    }
+
+    private static String zsetKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String roomsKey(Long userId) {
+        return KEY_PREFIX + userId + ":rooms";
+    }
+}
@@ -0,0 +1,25 @@
+package core.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * chat_messages 인덱스 검사 결과를 보여 주는 actuator 엔드포인트입니다 (/actuator/chatindexes).
+ *
+ * @apiNote 시작 시점의 마지막 검사 결과만 반환하는 읽기 전용 엔드포인트입니다.
+ * 검사는 explain()을 여러 번 실행하므로 외부 요청으로 다시 실행하지 않으며, 인덱스를 만든 뒤에는 애플리케이션을 다시 시작해 확인합니다.
+ */
+@Component
+@Endpoint(id = "chatindexes")
+@RequiredArgsConstructor
+public class ChatIndexesEndpoint {
+
+    private final ChatMessageIndexVerifier indexVerifier;
+
+    @ReadOperation
+    public ChatMessageIndexVerifier.Report report() {
+        return indexVerifier.lastReport();
+    }
+}
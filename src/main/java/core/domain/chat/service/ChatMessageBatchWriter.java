@@ -0,0 +1,222 @@
+package core.domain.chat.service;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteError;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 채팅방의 메시지 저장 요청을 짧은 시간 동안 모아 한 번의 unordered insertMany로 저장하는 그룹 커밋 저장기입니다.
+ *
+ * @apiNote chat.batch-writer.enabled=true 일 때만 묶어서 저장하며, 꺼져 있으면 기존처럼 한 건씩 저장합니다.
+ * 첫 요청이 들어온 뒤 window-ms가 지나거나 max-batch-size 건이 모이면 저장하고,
+ * 각 요청의 Future는 자신이 포함된 배치가 MongoDB에 반영된 뒤에만 완료됩니다.
+ * ID는 큐에 넣기 전에 미리 부여하므로 배치 안에서 일부만 실패해도 성공한 메시지의 ID는 그대로 유효합니다.
+ * 일부 문서만 실패하면 실패한 요청만 실패 처리하며, 중복 키 실패는 {@link DuplicateKeyException}으로 돌려줍니다.
+ * 쓰기 확인(write concern) 오류가 있으면 어떤 문서가 반영되었는지 보장할 수 없으므로 배치 전체를 실패 처리합니다.
+ * 실패한 메시지를 다시 넣으면 미리 부여한 ID를 그대로 쓰므로, 이미 반영된 메시지는 중복 키로 드러납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.batch-writer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.batch-writer.window-ms:2}")
+    private long windowMs;
+
+    @Value("${chat.batch-writer.max-batch-size:256}")
+    private int maxBatchSize;
+
+    private final LinkedBlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+    private volatile boolean running;
+    private Thread flusher;
+    private DistributionSummary batchSize;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        batchSize = DistributionSummary.builder("chat.batch-writer.batch.size").register(meterRegistry);
+        flushTimer = Timer.builder("chat.batch-writer.flush.latency").register(meterRegistry);
+        running = true;
+        flusher = Thread.ofPlatform().name("chat-batch-writer").daemon(true).start(this::runFlushLoop);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    /**
+     * 메시지를 저장하고, 저장이 반영될 때까지 기다립니다.
+     *
+     * @param message 저장할 메시지
+     * @return ID가 부여되어 저장된 메시지
+     */
+    public ChatMessage insert(ChatMessage message) {
+        if (!enabled) {
+            return chatMessageRepository.save(message);
+        }
+        try {
+            return enqueue(message).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 메시지를 다음 배치에 넣습니다.
+     *
+     * @param message 저장할 메시지
+     * @return 메시지가 포함된 배치가 반영되면 완료되는 Future
+     */
+    public CompletableFuture<ChatMessage> enqueue(ChatMessage message) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(chatMessageRepository.save(message));
+        }
+        message.assignId(new ObjectId().toHexString());
+        PendingInsert pending = new PendingInsert(message, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running) {
+            // 종료 중에 들어온 요청은 남은 배치와 함께 호출 스레드에서 직접 저장합니다.
+            List<PendingInsert> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            flush(remaining);
+        }
+        return pending.future();
+    }
+
+    private void runFlushLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingInsert first = queue.take();
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    PendingInsert next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            } catch (RuntimeException e) {
+                log.error("메시지 일괄 저장 루프 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingInsert> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ChatMessage> messages = batch.stream().map(PendingInsert::message).toList();
+        long start = System.nanoTime();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatMessage.class)
+                    .insert(messages)
+                    .execute();
+            batch.forEach(pending -> pending.future().complete(pending.message()));
+        } catch (DataIntegrityViolationException e) {
+            // 쓰기 확인(write concern) 오류는 BulkOperationException 이 아니라 이 예외로 변환되어 옵니다.
+            log.error("메시지 일괄 저장 쓰기 확인 실패, 배치 전체를 실패 처리합니다: batch={}, error={}", batch.size(), e.getMessage());
+            IllegalStateException failure = new IllegalStateException("쓰기 확인(write concern) 실패: " + e.getMessage(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(failure));
+        } catch (BulkOperationException e) {
+            Map<Integer, BulkWriteError> failed = new HashMap<>();
+            e.getErrors().forEach(error -> failed.put(error.getIndex(), error));
+            log.warn("메시지 일괄 저장 일부 실패: batch={}, failed={}", batch.size(), failed.size());
+            for (int i = 0; i < batch.size(); i++) {
+                PendingInsert pending = batch.get(i);
+                BulkWriteError error = failed.get(i);
+                if (error == null) {
+                    pending.future().complete(pending.message());
+                } else {
+                    pending.future().completeExceptionally(failureOf(error));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("메시지 일괄 저장 실패: batch={}", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        } finally {
+            if (flushTimer != null) {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSize.record(batch.size());
+            }
+        }
+    }
+
+    /**
+     * 중복 키 오류는 한 건씩 저장할 때와 같은 {@link DuplicateKeyException}으로 돌려주어, 호출자가 같은 방식으로 처리하게 합니다.
+     */
+    private static RuntimeException failureOf(BulkWriteError error) {
+        if (ErrorCategory.fromErrorCode(error.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+            return new DuplicateKeyException(error.getMessage());
+        }
+        return new IllegalStateException(error.getMessage());
+    }
+
+    private record PendingInsert(ChatMessage message, CompletableFuture<ChatMessage> future) {
+    }
+}
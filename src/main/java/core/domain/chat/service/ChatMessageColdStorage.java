@@ -0,0 +1,415 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageBucket;
+import core.domain.chat.entity.ChatMessageTombstone;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 메시지를 채팅방별 버킷(chat_message_buckets)으로 옮겨 보관하고, 조회 경로에서 버킷의 메시지를 읽어 줍니다.
+ *
+ * @apiNote chat_messages 에는 최근 메시지만 남고, chat.cold-storage.age 보다 오래된 메시지는
+ * {@link ChatMessageTieringJob}이 chat.cold-storage.bucket-size 개씩 버킷으로 묶습니다.
+ * 한 채팅방에서 버킷의 메시지는 항상 chat_messages 에 남은 메시지보다 오래되었으므로,
+ * 조회 경로는 chat_messages 결과가 모자랄 때만 버킷을 이어서 읽습니다.
+ * 버킷을 먼저 저장하고 원본을 지우므로 잠시 같은 메시지가 양쪽에 있을 수 있으며, 조회는 _id 경계로 중복을 피합니다.
+ * 버킷은 (room_id, first_id)가 유일하므로 같은 범위를 두 번 압축하면 두 번째 저장은 중복 키로 실패하고, 이미 압축된 것으로 처리합니다.
+ * 원본을 읽은 뒤 버킷을 저장하기 전후에 삭제된 메시지는, 버킷 저장 후 원본이 없거나 삭제 기록(chat_message_tombstones)이 있는 것으로 찾아
+ * 버킷에서 다시 뺍니다. 메시지 삭제 경로도 원본을 지운 뒤 버킷에서 한 번 더 지우므로 어느 쪽이 먼저 끝나도 삭제된 메시지가 되살아나지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageColdStorage {
+
+    private static final int REMOVE_RETRIES = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.cold-storage.bucket-size:200}")
+    private int bucketSize;
+
+    @Value("${chat.cold-storage.min-bucket-size:100}")
+    private int minBucketSize;
+
+    @Value("${chat.cold-storage.compress:true}")
+    private boolean compress;
+
+    private Counter compactedMessages;
+    private Counter createdBuckets;
+
+    @PostConstruct
+    void init() {
+        compactedMessages = Counter.builder("chat.cold-storage.messages.compacted").register(meterRegistry);
+        createdBuckets = Counter.builder("chat.cold-storage.buckets.created").register(meterRegistry);
+    }
+
+    /**
+     * 특정 메시지보다 오래된 보관 메시지를 최신순으로 조회합니다.
+     *
+     * @param beforeMessageId 이 ID보다 오래된 메시지만 조회 (null이면 가장 최신 보관 메시지부터)
+     * @param sentAfter       이 시각 이후에 보낸 메시지만 조회 (null이면 제한 없음)
+     */
+    public List<ChatMessage> findOlder(Long roomId, String beforeMessageId, Instant sentAfter, int limit) {
+        Criteria criteria = Criteria.where("chatRoomId").is(roomId);
+        if (beforeMessageId != null) {
+            criteria = criteria.and("firstMessageId").lt(new ObjectId(beforeMessageId));
+        }
+        if (sentAfter != null) {
+            criteria = criteria.and("lastSentAt").gt(sentAfter);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "lastMessageId"));
+
+        List<ChatMessage> result = new ArrayList<>(limit);
+        try (Stream<ChatMessageBucket> buckets = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+            Iterator<ChatMessageBucket> iterator = buckets.iterator();
+            while (result.size() < limit && iterator.hasNext()) {
+                for (ChatMessage message : messagesOf(iterator.next()).reversed()) {
+                    if (result.size() == limit) {
+                        break;
+                    }
+                    if ((beforeMessageId == null || message.getId().compareTo(beforeMessageId) < 0)
+                            && (sentAfter == null || message.getSentAt().isAfter(sentAfter))) {
+                        result.add(message);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 특정 메시지보다 최신인 보관 메시지를 오래된 순으로 조회합니다.
+     */
+    public List<ChatMessage> findNewer(Long roomId, String afterMessageId, int limit) {
+        Query query = new Query(Criteria.where("chatRoomId").is(roomId).and("lastMessageId").gt(new ObjectId(afterMessageId)))
+                .with(Sort.by(Sort.Direction.ASC, "lastMessageId"));
+
+        List<ChatMessage> result = new ArrayList<>(limit);
+        try (Stream<ChatMessageBucket> buckets = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+            Iterator<ChatMessageBucket> iterator = buckets.iterator();
+            while (result.size() < limit && iterator.hasNext()) {
+                for (ChatMessage message : messagesOf(iterator.next())) {
+                    if (result.size() == limit) {
+                        break;
+                    }
+                    if (message.getId().compareTo(afterMessageId) > 0) {
+                        result.add(message);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 채팅방의 보관 메시지를 버킷 단위로 오래된 순으로 전달합니다. 버킷을 하나씩 읽으므로 메모리에는 버킷 하나만 올라갑니다.
+     *
+     * @param sentAfter 이 시각 이후에 보낸 메시지만 전달 (null이면 제한 없음)
+     */
+    public void forEachBucket(Long roomId, Instant sentAfter, Consumer<List<ChatMessage>> consumer) {
+        Criteria criteria = Criteria.where("chatRoomId").is(roomId);
+        if (sentAfter != null) {
+            criteria = criteria.and("lastSentAt").gt(sentAfter);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "lastMessageId"));
+        try (Stream<ChatMessageBucket> buckets = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+            buckets.forEach(bucket -> {
+                List<ChatMessage> visible = messagesOf(bucket).stream()
+                        .filter(message -> sentAfter == null || message.getSentAt().isAfter(sentAfter))
+                        .toList();
+                if (!visible.isEmpty()) {
+                    consumer.accept(visible);
+                }
+            });
+        }
+    }
+
+    /**
+     * 채팅방의 보관된 메시지를 ID로 찾습니다.
+     */
+    public Optional<ChatMessage> findById(Long roomId, String messageId) {
+        if (!ObjectId.isValid(messageId)) {
+            return Optional.empty();
+        }
+        return findBucketContaining(roomId, messageId)
+                .flatMap(bucket -> messagesOf(bucket).stream()
+                        .filter(message -> message.getId().equals(messageId))
+                        .findFirst());
+    }
+
+    /**
+     * 채팅방의 보관 메시지에서 키워드를 대소문자 구분 없이 검색합니다. 결과는 최신순입니다.
+     */
+    public List<ChatMessage> search(Long roomId, String keyword) {
+        String lowerKeyword = keyword.toLowerCase();
+        Query query = new Query(Criteria.where("chatRoomId").is(roomId))
+                .with(Sort.by(Sort.Direction.DESC, "lastMessageId"));
+
+        List<ChatMessage> result = new ArrayList<>();
+        try (Stream<ChatMessageBucket> buckets = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+            buckets.forEach(bucket -> messagesOf(bucket).reversed().stream()
+                    .filter(message -> message.getContent() != null && message.getContent().toLowerCase().contains(lowerKeyword))
+                    .forEach(result::add));
+        }
+        return result;
+    }
+
+    /**
+     * 채팅방의 보관 메시지 중 가장 큰 순번을 조회합니다. 방 액터가 순번을 이어받을 때 사용합니다.
+     * 버킷의 메시지는 항상 순번 순으로 쌓이므로 가장 최신 버킷만 확인합니다.
+     *
+     * @return 가장 큰 순번. 보관 메시지가 없거나 순번이 없으면 0
+     */
+    public long findMaxSequence(Long roomId) {
+        ChatMessageBucket newest = mongoTemplate.findOne(
+                new Query(Criteria.where("chatRoomId").is(roomId)).with(Sort.by(Sort.Direction.DESC, "lastMessageId")),
+                ChatMessageBucket.class);
+        if (newest == null) {
+            return 0L;
+        }
+        if (newest.getMaxSequence() != null) {
+            return newest.getMaxSequence();
+        }
+        return messagesOf(newest).stream()
+                .map(ChatMessage::getSequence)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(0L);
+    }
+
+    /**
+     * 채팅방에 보관된 메시지가 있는지 확인합니다.
+     */
+    public boolean hasMessages(Long roomId) {
+        return mongoTemplate.exists(new Query(Criteria.where("chatRoomId").is(roomId)), ChatMessageBucket.class);
+    }
+
+    /**
+     * 보관된 메시지 하나를 버킷에서 제거합니다. 동시에 같은 버킷이 수정되면 다시 읽어 재시도합니다.
+     *
+     * @return 제거했으면 true
+     */
+    public boolean remove(Long roomId, String messageId) {
+        if (!ObjectId.isValid(messageId)) {
+            return false;
+        }
+        for (int attempt = 0; attempt < REMOVE_RETRIES; attempt++) {
+            Optional<ChatMessageBucket> found = findBucketContaining(roomId, messageId);
+            if (found.isEmpty()) {
+                return false;
+            }
+            ChatMessageBucket bucket = found.get();
+            List<ChatMessage> remaining = new ArrayList<>(messagesOf(bucket));
+            if (!remaining.removeIf(message -> message.getId().equals(messageId))) {
+                return false;
+            }
+            try {
+                if (remaining.isEmpty()) {
+                    mongoTemplate.remove(bucket);
+                } else {
+                    bucket.replaceMessages(remaining, compress ? encode(remaining) : null);
+                    mongoTemplate.save(bucket);
+                }
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("버킷 동시 수정으로 메시지 제거 재시도: messageId={}, attempt={}", messageId, attempt + 1);
+            }
+        }
+        throw new OptimisticLockingFailureException("보관 메시지 제거 재시도 횟수 초과: " + messageId);
+    }
+
+    /**
+     * 채팅방의 보관 메시지를 모두 삭제합니다.
+     */
+    public void deleteRoom(Long roomId) {
+        mongoTemplate.remove(new Query(Criteria.where("chatRoomId").is(roomId)), ChatMessageBucket.class);
+    }
+
+    /**
+     * 채팅방에서 기준 ID보다 오래된 메시지를 버킷으로 옮깁니다.
+     * 직전 실행이 버킷 저장 후 원본 삭제 전에 중단되었다면 이미 보관된 원본부터 정리합니다.
+     * 버킷을 채우지 못한 나머지가 chat.cold-storage.min-bucket-size 보다 적으면 다음 실행으로 미룹니다.
+     *
+     * @return 옮긴 메시지 수
+     */
+    public int compactRoom(Long roomId, ObjectId cutoff) {
+        removeBucketedOriginals(roomId);
+
+        Query query = new Query(Criteria.where("chatRoomId").is(roomId).and("id").lt(cutoff))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .cursorBatchSize(bucketSize);
+
+        int compacted = 0;
+        List<ChatMessage> chunk = new ArrayList<>(bucketSize);
+        try (Stream<ChatMessage> messages = mongoTemplate.stream(query, ChatMessage.class)) {
+            Iterator<ChatMessage> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == bucketSize || (!iterator.hasNext() && chunk.size() >= minBucketSize)) {
+                    int moved = moveToBucket(roomId, chunk);
+                    if (moved < 0) {
+                        // 다른 실행이 같은 범위를 이미 압축했으므로, 그 버킷에 담긴 원본만 정리하고 이 채팅방은 다음 실행으로 넘깁니다.
+                        log.info("이미 압축된 메시지 범위, 채팅방 압축을 중단합니다: roomId={}, firstId={}", roomId, chunk.getFirst().getId());
+                        removeBucketedOriginals(roomId);
+                        return compacted;
+                    }
+                    compacted += moved;
+                    chunk.clear();
+                }
+            }
+        }
+        return compacted;
+    }
+
+    /**
+     * 가장 최신 버킷까지의 원본을 지웁니다. 버킷 저장 후 원본 삭제 전에 중단된 실행이 남긴 원본을 정리합니다.
+     * 버킷은 저장 당시 범위 안의 원본을 모두 담으므로 그 범위까지의 원본은 모두 버킷에 있습니다.
+     */
+    private void removeBucketedOriginals(Long roomId) {
+        ChatMessageBucket lastBucket = mongoTemplate.findOne(
+                new Query(Criteria.where("chatRoomId").is(roomId)).with(Sort.by(Sort.Direction.DESC, "lastMessageId")),
+                ChatMessageBucket.class);
+        if (lastBucket != null) {
+            mongoTemplate.remove(new Query(Criteria.where("chatRoomId").is(roomId)
+                    .and("id").lte(new ObjectId(lastBucket.getLastMessageId()))), ChatMessage.class);
+        }
+    }
+
+    /**
+     * 버킷을 저장한 뒤 원본을 지웁니다. 원본을 읽은 뒤 삭제된 메시지는 버킷에서 다시 뺍니다.
+     *
+     * @return 버킷에 남긴 메시지 수, 같은 범위의 버킷이 이미 있으면 -1
+     */
+    private int moveToBucket(Long roomId, List<ChatMessage> chunk) {
+        List<ChatMessage> messages = List.copyOf(chunk);
+        try {
+            mongoTemplate.insert(new ChatMessageBucket(roomId, messages, compress ? encode(messages) : null));
+        } catch (DuplicateKeyException e) {
+            return -1;
+        }
+        List<ObjectId> ids = messages.stream().map(message -> new ObjectId(message.getId())).toList();
+        Set<String> deleted = deletedSinceRead(messages, ids);
+        mongoTemplate.remove(new Query(Criteria.where("id").in(ids)), ChatMessage.class);
+        for (String messageId : deleted) {
+            remove(roomId, messageId);
+        }
+        int moved = messages.size() - deleted.size();
+        if (moved > 0) {
+            createdBuckets.increment();
+            compactedMessages.increment(moved);
+        }
+        return moved;
+    }
+
+    /**
+     * 버킷에 담은 메시지 중 원본이 이미 없거나 삭제 기록이 있는 메시지 ID를 찾습니다.
+     * 이 시점까지 압축 작업은 원본을 지우지 않았으므로, 없는 원본은 읽은 뒤 삭제된 메시지입니다.
+     */
+    private Set<String> deletedSinceRead(List<ChatMessage> messages, List<ObjectId> ids) {
+        Query originals = new Query(Criteria.where("id").in(ids));
+        originals.fields().include("id");
+        Set<String> present = mongoTemplate.find(originals, ChatMessage.class).stream()
+                .map(ChatMessage::getId)
+                .collect(Collectors.toSet());
+        Set<String> deleted = messages.stream()
+                .map(ChatMessage::getId)
+                .filter(messageId -> !present.contains(messageId))
+                .collect(Collectors.toCollection(HashSet::new));
+        mongoTemplate.find(new Query(Criteria.where("messageId").in(ids)), ChatMessageTombstone.class)
+                .forEach(tombstone -> deleted.add(tombstone.getMessageId()));
+        return deleted;
+    }
+
+    private Optional<ChatMessageBucket> findBucketContaining(Long roomId, String messageId) {
+        ObjectId id = new ObjectId(messageId);
+        Query query = new Query(Criteria.where("chatRoomId").is(roomId)
+                .and("lastMessageId").gte(id)
+                .and("firstMessageId").lte(id))
+                .with(Sort.by(Sort.Direction.ASC, "lastMessageId"));
+        try (Stream<ChatMessageBucket> buckets = mongoTemplate.stream(query, ChatMessageBucket.class)) {
+            return buckets
+                    .filter(bucket -> messagesOf(bucket).stream().anyMatch(message -> message.getId().equals(messageId)))
+                    .findFirst();
+        }
+    }
+
+    private List<ChatMessage> messagesOf(ChatMessageBucket bucket) {
+        return bucket.getPayload() != null ? decode(bucket.getPayload()) : bucket.getMessages();
+    }
+
+    /**
+     * 메시지를 chat_messages 와 같은 BSON 형태로 변환한 뒤 gzip으로 압축합니다.
+     */
+    private byte[] encode(List<ChatMessage> messages) {
+        List<Document> documents = messages.stream().map(message -> {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(message, document);
+            return document;
+        }).toList();
+
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        new DocumentCodec().encode(new BsonBinaryWriter(buffer), new Document("m", documents), EncoderContext.builder().build());
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            buffer.pipe(gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private List<ChatMessage> decode(byte[] payload) {
+        byte[] bson;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            bson = gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Document wrapper = new DocumentCodec().decode(new BsonBinaryReader(ByteBuffer.wrap(bson)), DecoderContext.builder().build());
+        return wrapper.getList("m", Document.class).stream()
+                .map(document -> mongoTemplate.getConverter().read(ChatMessage.class, document))
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package core.domain.chat.service;
+
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.UserResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 과거 메시지 페이지 응답의 ETag를 계산합니다.
+ *
+ * @apiNote 과거 페이지는 메시지가 삭제될 때만 바뀌므로, 채팅방마다 삭제 시 올라가는 버전(chat:room-version:{roomId})을 두고
+ * (채팅방 버전, 커서, 사용자 번역 언어, 참여 상태)로 ETag를 만듭니다.
+ * ETag 계산은 채팅방 스냅샷, Redis, (번역 언어가 필요하면) 사용자 프로필만 사용하므로
+ * If-None-Match 가 일치하면 MongoDB, 발신자 정보, 번역 호출 없이 304로 응답할 수 있습니다.
+ * 번역 언어가 필요한 경우(번역 사용 중이거나 주변 조회)에만 사용자 프로필을 조회해 현재 번역 언어를 넣으므로,
+ * 언어를 바꾼 직후에도 이전 언어로 번역된 응답에 304로 응답하지 않습니다.
+ * 프로필을 조회할 수 없거나 Redis에 접근할 수 없으면 ETag를 만들지 않습니다.
+ * 발신자 프로필(이름, 이미지) 변경은 버전에 반영되지 않으므로 약한(weak) ETag를 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageETags {
+
+    private static final String KEY_PREFIX = "chat:room-version:";
+    private static final String NO_LANGUAGE = "";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChatRoomSnapshotCache roomSnapshotCache;
+    private final UserClient userClient;
+    private final ChatReadFanIn readFanIn;
+
+    @Value("${chat.etag.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 메시지가 삭제되어 과거 페이지가 바뀌었음을 기록합니다.
+     */
+    public void bumpVersion(Long roomId) {
+        try {
+            redisTemplate.opsForValue().increment(KEY_PREFIX + roomId);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 버전 증가 실패: roomId={}", roomId, e);
+        }
+    }
+
+    /**
+     * 참여자가 받을 과거 메시지 페이지의 ETag를 계산합니다.
+     *
+     * @param requireLanguage 번역 여부와 관계없이 번역 언어를 ETag에 포함해야 하면 true
+     * @param position        페이지를 식별하는 값 (엔드포인트, 커서, 페이지 크기 등)
+     * @return ETag. 계산할 수 없으면 Optional.empty()
+     */
+    public Optional<String> compute(Long roomId, Long userId, boolean requireLanguage, String... position) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Optional<ChatRoomSnapshot.Member> member = roomSnapshotCache.get(roomId).member(userId);
+        if (member.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String language = NO_LANGUAGE;
+        if (requireLanguage || member.get().translateEnabled()) {
+            UserResponseDto profile = readFanIn.await(
+                    readFanIn.call(ChatReadFanIn.Phase.PROFILE, () -> userClient.getUserProfile(userId)), null);
+            if (profile == null) {
+                return Optional.empty();
+            }
+            language = profile.translateLanguage() == null ? NO_LANGUAGE : profile.translateLanguage();
+        }
+
+        String version;
+        try {
+            version = Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + roomId)).orElse("0");
+        } catch (DataAccessException e) {
+            log.warn("채팅방 버전 조회 실패, ETag 없이 응답합니다: roomId={}", roomId, e);
+            return Optional.empty();
+        }
+
+        String source = String.join("|",
+                roomId.toString(),
+                version,
+                language,
+                String.valueOf(member.get().translateEnabled()),
+                String.valueOf(member.get().lastLeftAt()),
+                String.join("|", position));
+        return Optional.of("W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"");
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 약한 비교로 확인합니다.
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        String expected = stripWeak(eTag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || stripWeak(candidate).equals(expected));
+    }
+
+    private static String stripWeak(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
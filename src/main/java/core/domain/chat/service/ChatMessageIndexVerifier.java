@@ -0,0 +1,185 @@
+package core.domain.chat.service;
+
+import com.mongodb.client.MongoCollection;
+import core.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * chat_messages 컬렉션에 대한 {@code ChatMessageRepository} 쿼리들이 선언된 인덱스를 타는지 시작 시점에 확인합니다.
+ *
+ * @apiNote 임의의 메시지 하나로 샘플 채팅방을 정하고, 각 쿼리와 같은 모양의 조건/정렬로 explain()을 실행하여
+ * 최종 실행 계획에 COLLSCAN 또는 메모리 정렬(SORT) 단계가 있는지 검사합니다.
+ * chat.index-verifier.mode 가 warn(기본값)이면 경고 로그만 남기고, fail이면 애플리케이션 시작을 중단하며, off면 실행하지 않습니다.
+ * 마지막 검사 결과는 actuator 엔드포인트(/actuator/chatindexes)로 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIndexVerifier {
+
+    private static final List<String> FORBIDDEN_STAGES = List.of("COLLSCAN", "SORT");
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${chat.index-verifier.mode:warn}")
+    private String mode;
+
+    private volatile Report lastReport = new Report(null, null, "not-run", List.of());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        if ("off".equalsIgnoreCase(mode)) {
+            lastReport = new Report(Instant.now(), null, "off", List.of());
+            return;
+        }
+
+        Report report = verify();
+        lastReport = report;
+        List<QueryCheck> violations = report.checks().stream().filter(check -> !check.ok()).toList();
+        if (violations.isEmpty()) {
+            log.info("chat_messages 인덱스 검사 통과: sampleRoomId={}, queries={}", report.sampleRoomId(), report.checks().size());
+            return;
+        }
+
+        violations.forEach(check -> log.warn("chat_messages 인덱스 미사용 쿼리: query={}, stages={}", check.query(), check.stages()));
+        if ("fail".equalsIgnoreCase(mode)) {
+            throw new IllegalStateException("chat_messages 인덱스를 사용하지 않는 쿼리가 있습니다: "
+                    + violations.stream().map(QueryCheck::query).toList());
+        }
+    }
+
+    /**
+     * 모든 쿼리 모양에 대해 explain()을 실행합니다. 메시지가 하나도 없으면 검사를 건너뜁니다.
+     */
+    public Report verify() {
+        MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatMessage.class));
+        Document sample = collection.find().first();
+        if (sample == null) {
+            return new Report(Instant.now(), null, "skipped: no messages", List.of());
+        }
+
+        Object roomId = sample.get("room_id");
+        ObjectId messageId = sample.getObjectId("_id");
+        Object senderId = sample.get("sender_id");
+        Date sentAt = sample.getDate("sent_at") != null ? sample.getDate("sent_at") : new Date(0);
+
+        Map<String, QueryShape> shapes = new LinkedHashMap<>();
+        shapes.put("findByChatRoomId (page)", new QueryShape(
+                new Document("room_id", roomId), new Document("_id", -1), 21));
+        shapes.put("findByChatRoomIdAndIdLessThan", new QueryShape(
+                new Document("room_id", roomId).append("_id", new Document("$lt", messageId)), new Document("_id", -1), 21));
+        shapes.put("findTop20ByChatRoomIdAndIdLessThanOrderByIdDesc", new QueryShape(
+                new Document("room_id", roomId).append("_id", new Document("$lt", messageId)), new Document("_id", -1), 20));
+        shapes.put("findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc", new QueryShape(
+                new Document("room_id", roomId).append("_id", new Document("$gt", messageId)), new Document("_id", 1), 20));
+        shapes.put("findTopByChatRoomIdOrderByIdDesc", new QueryShape(
+                new Document("room_id", roomId), new Document("_id", -1), 1));
+        shapes.put("findTopByChatRoomIdOrderBySentAtDesc / findTop50 / findTop1000", new QueryShape(
+                new Document("room_id", roomId), new Document("sent_at", -1), 1000));
+        shapes.put("findByChatRoomIdAndSentAtAfter", new QueryShape(
+                new Document("room_id", roomId).append("sent_at", new Document("$gt", sentAt)), new Document("_id", -1), 21));
+        shapes.put("findByChatRoomIdAndSentAtAfterAndIdLessThan", new QueryShape(
+                new Document("room_id", roomId).append("sent_at", new Document("$gt", sentAt))
+                        .append("_id", new Document("$lt", messageId)), new Document("_id", -1), 21));
+        shapes.put("countByChatRoomIdAndIdGreaterThanAndSenderIdNot", new QueryShape(
+                new Document("room_id", roomId).append("_id", new Document("$gt", messageId))
+                        .append("sender_id", new Document("$ne", senderId)), null, 0));
+        shapes.put("countByChatRoomIdAndSenderIdNot", new QueryShape(
+                new Document("room_id", roomId).append("sender_id", new Document("$ne", senderId)), null, 0));
+        shapes.put("findByChatRoomIdAndContentContainingIgnoreCase", new QueryShape(
+                new Document("room_id", roomId).append("content", Pattern.compile("index-check", Pattern.CASE_INSENSITIVE)), null, 0));
+        shapes.put("findMaxSequence", new QueryShape(
+                new Document("room_id", roomId).append("seq", new Document("$exists", true)), new Document("seq", -1), 1));
+        shapes.put("ChatMessageTieringJob (next room)", new QueryShape(
+                new Document("room_id", new Document("$gte", roomId)).append("_id", new Document("$lt", messageId)),
+                new Document("room_id", 1), 1));
+
+        List<QueryCheck> checks = new ArrayList<>();
+        shapes.forEach((name, shape) -> checks.add(check(collection, name, shape)));
+        return new Report(Instant.now(), roomId, mode, checks);
+    }
+
+    public Report lastReport() {
+        return lastReport;
+    }
+
+    private QueryCheck check(MongoCollection<Document> collection, String name, QueryShape shape) {
+        try {
+            var find = collection.find(shape.filter());
+            if (shape.sort() != null) {
+                find = find.sort(shape.sort());
+            }
+            if (shape.limit() > 0) {
+                find = find.limit(shape.limit());
+            }
+            Document explain = find.explain();
+            Document queryPlanner = explain.get("queryPlanner", Document.class);
+            Document winningPlan = queryPlanner.get("winningPlan", Document.class);
+            if (winningPlan.containsKey("queryPlan")) {
+                winningPlan = winningPlan.get("queryPlan", Document.class);
+            }
+
+            List<String> stages = new ArrayList<>();
+            List<String> indexes = new ArrayList<>();
+            collectStages(winningPlan, stages, indexes);
+            boolean ok = stages.stream().noneMatch(FORBIDDEN_STAGES::contains);
+            return new QueryCheck(name, stages, indexes, ok, null);
+        } catch (RuntimeException e) {
+            log.warn("chat_messages explain 실패: query={}", name, e);
+            return new QueryCheck(name, List.of(), List.of(), false, e.getMessage());
+        }
+    }
+
+    private void collectStages(Document stage, List<String> stages, List<String> indexes) {
+        if (stage == null) {
+            return;
+        }
+        stages.add(stage.getString("stage"));
+        if (stage.getString("indexName") != null) {
+            indexes.add(stage.getString("indexName"));
+        }
+        collectStages(stage.get("inputStage", Document.class), stages, indexes);
+        List<Document> inputStages = stage.getList("inputStages", Document.class);
+        if (inputStages != null) {
+            inputStages.forEach(input -> collectStages(input, stages, indexes));
+        }
+    }
+
+    private record QueryShape(Document filter, Document sort, int limit) {
+    }
+
+    /**
+     * @param query   검사한 리포지토리 쿼리
+     * @param stages  최종 실행 계획의 단계 (바깥 단계부터)
+     * @param indexes 사용된 인덱스 이름
+     * @param ok      COLLSCAN/SORT 단계가 없으면 true
+     * @param error   explain 실행이 실패한 경우 오류 메시지
+     */
+    public record QueryCheck(String query, List<String> stages, List<String> indexes, boolean ok, String error) {
+    }
+
+    /**
+     * @param checkedAt    검사 시각
+     * @param sampleRoomId 검사에 사용한 채팅방 ID
+     * @param mode         검사 모드 또는 건너뛴 사유
+     * @param checks       쿼리별 결과
+     */
+    public record Report(Instant checkedAt, Object sampleRoomId, String mode, List<QueryCheck> checks) {
+    }
+}
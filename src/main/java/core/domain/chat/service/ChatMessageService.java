@@ -4,9 +4,11 @@ package core.domain.chat.service;
 import core.domain.chat.client.UserClient;
 import core.domain.chat.dto.*;
 import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageTombstone;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
 import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageTombstoneRepository;
 import core.domain.chat.repository.ChatParticipantRepository;
 import core.domain.chat.repository.ChatRoomRepository;
 import core.domain.notification.dto.NotificationEvent;
@@ -16,8 +18,16 @@ import core.global.enums.ErrorCode;
 import core.global.enums.ImageType;
 import core.global.enums.NotificationType;
 import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import core.global.pagination.CursorPageResponse;
+import core.global.pagination.CursorPages;
 import core.global.service.TranslationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,10 +38,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -44,11 +59,35 @@ public class ChatMessageService {
     private final SimpMessagingTemplate messagingTemplate;
     private final ApplicationEventPublisher eventPublisher;
     private final UserClient userClient;
+    private final MeterRegistry meterRegistry;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatMessageBatchWriter messageWriter;
+    private final ChatRoomSnapshotCache roomSnapshotCache;
+    private final ChatPayloadBroadcaster payloadBroadcaster;
+    private final ChatRoomSummaryCoalescer summaryCoalescer;
+    private final ChatUnreadBadgePublisher badgePublisher;
+    private final ChatRoomHotTail hotTail;
+    private final ChatReadFanIn readFanIn;
+    private final ChatMessageETags messageETags;
+    private final ChatMessageColdStorage coldStorage;
+    private final ChatMessageTombstoneRepository tombstoneRepository;
+    private final ChatInboxStore inboxStore;
+    private final ChatRoomLastMessageRepairJob lastMessageRepairJob;
+
+    private final ExecutorService translationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${chat.delivery.room-topic.enabled:false}")
+    private boolean roomTopicDeliveryEnabled;
 
     private static final int MESSAGE_PAGE_SIZE = 20;
 
     private record MessagePair(ChatMessage originalMessage, String translatedContent) {}
 
+    @PreDestroy
+    void shutdown() {
+        translationExecutor.close();
+    }
+
         /**
          * @apiNote [최종 리팩토링] 채팅방 메시지를 조회하고, Bulk API를 통해 유저 정보를 효율적으로 결합하여 반환합니다.
          *
@@ -59,65 +98,155 @@ public class ChatMessageService {
          */
         public List<ChatMessageResponse> getMessages(Long roomId, Long userId, String lastMessageId) {
 
-            ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
+            ChatRoomSnapshot.Member participant = roomSnapshotCache.get(roomId).member(userId)
                     .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
 
-            UserResponseDto currentUserInfo = userClient.getUserProfile(userId);
-            boolean needsTranslation = participant.isTranslateEnabled();
-            String targetLanguage = currentUserInfo.translateLanguage();
+            CompletableFuture<UserResponseDto> currentUserFuture = fetchCurrentUser(userId);
 
-            List<ChatMessage> messages = getRawMessages(roomId, userId, lastMessageId);
+            List<ChatMessage> messages = readFanIn.time(
+                    ChatReadFanIn.Phase.MESSAGES, () -> getRawMessages(roomId, userId, lastMessageId));
             if (messages.isEmpty()) {
                 return List.of();
             }
 
-            List<Long> senderIds = messages.stream()
-                    .map(ChatMessage::getSenderId)
-                    .distinct()
-                    .toList();
+            return toMessageResponses(messages, participant.translateEnabled(), currentUserFuture);
+        }
 
-            Map<Long, UserResponseDto> senderInfoMap = userClient.getUsersInfo(senderIds).stream()
-                    .collect(Collectors.toMap(UserResponseDto::userId, Function.identity()));
+    /**
+     * @apiNote 채팅방 메시지 기록을 (_id 내림차순) 키셋 커서로 조회합니다.
+     * size + 1 개를 조회하여 다음 페이지 존재 여부를 판단하고, 마지막 메시지의 ID를 불투명 커서로 인코딩해 반환합니다.
+     * (room_id, _id) 복합 인덱스를 그대로 따라가므로 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 조회하는 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @return 메시지 페이지
+     * @throws BusinessException 커서가 올바르지 않으면 INVALID_CURSOR
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ChatMessageResponse> getMessageHistory(Long roomId, Long userId, String cursor, int size) {
+        ChatRoomSnapshot.Member participant = roomSnapshotCache.get(roomId).member(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
+        String lastMessageId = decodeMessageCursor(cursor);
+        CompletableFuture<UserResponseDto> currentUserFuture = fetchCurrentUser(userId);
+
+        List<ChatMessage> rows = readFanIn.time(
+                ChatReadFanIn.Phase.MESSAGES, () -> findMessagePage(roomId, participant, lastMessageId, size + 1));
+        CursorPageResponse<ChatMessage> page = CursorPages.ofCustom(rows, size, last -> Map.of("id", last.getId()));
+        if (page.items().isEmpty()) {
+            return new CursorPageResponse<>(List.of(), false, null);
+        }
 
+        List<ChatMessageResponse> items = toMessageResponses(page.items(), participant.translateEnabled(), currentUserFuture);
+        return new CursorPageResponse<>(items, page.hasNext(), page.nextCursor());
+    }
 
-            if (needsTranslation && targetLanguage != null && !targetLanguage.isEmpty()) {
-                List<String> originalContents = messages.stream().map(ChatMessage::getContent).toList();
-                List<String> translatedContents = translationService.translateMessages(originalContents, targetLanguage);
+    /**
+     * 무한 스크롤 과거 페이지(lastMessageId 지정)의 ETag를 계산합니다. 첫 페이지는 새 메시지로 바뀌므로 ETag가 없습니다.
+     */
+    public Optional<String> getMessagesETag(Long roomId, Long userId, String lastMessageId) {
+        if (lastMessageId == null) {
+            return Optional.empty();
+        }
+        return messageETags.compute(roomId, userId, false, "messages", lastMessageId);
+    }
 
-                return IntStream.range(0, messages.size()).mapToObj(i -> {
-                    ChatMessage message = messages.get(i);
-                    UserResponseDto sender = senderInfoMap.getOrDefault(message.getSenderId(), UserResponseDto.unknown());
+    /**
+     * 커서가 지정된 메시지 기록 페이지의 ETag를 계산합니다. 첫 페이지는 새 메시지로 바뀌므로 ETag가 없습니다.
+     */
+    public Optional<String> getMessageHistoryETag(Long roomId, Long userId, String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        return messageETags.compute(roomId, userId, false, "history", cursor, String.valueOf(size));
+    }
 
-                    return new ChatMessageResponse(
-                            message.getId(),
-                            message.getChatRoomId(),
-                            sender.userId(),
-                            message.getContent(),
-                            translatedContents.get(i),
-                            message.getSentAt(),
-                            sender.firstName(),
-                            sender.lastName(),
-                            sender.ImageUrl()
-                    );
-                }).toList();
-            } else {
-                return messages.stream().map(message -> {
-                    UserResponseDto sender = senderInfoMap.getOrDefault(message.getSenderId(), UserResponseDto.unknown());
+    /**
+     * 특정 메시지 주변 조회의 ETag를 계산합니다.
+     * 이후 메시지가 20개 미만인 응답은 새 메시지로 바뀔 수 있으므로 {@link #isAroundWindowSettled}로 확인한 응답에만 ETag를 붙입니다.
+     */
+    public Optional<String> getMessagesAroundETag(Long roomId, Long userId, String targetMessageId) {
+        return messageETags.compute(roomId, userId, true, "around", targetMessageId);
+    }
+
+    /**
+     * 주변 조회 응답에 기준 메시지 이후 메시지가 모두(20개) 채워져 있어 더 이상 새 메시지로 바뀌지 않는지 확인합니다.
+     */
+    public boolean isAroundWindowSettled(List<ChatMessageResponse> responses, String targetMessageId) {
+        int targetIndex = IntStream.range(0, responses.size())
+                .filter(i -> responses.get(i).id().equals(targetMessageId))
+                .findFirst()
+                .orElse(-1);
+        return targetIndex >= 0 && responses.size() - targetIndex - 1 >= 20;
+    }
 
-                    return new ChatMessageResponse(
-                            message.getId(),
-                            message.getChatRoomId(),
-                            sender.userId(),
-                            message.getContent(),
-                            null,
-                            message.getSentAt(),
-                            sender.firstName(),
-                            sender.lastName(),
-                            sender.ImageUrl()
-                    );
-                }).toList();
+    /**
+     * 사용자 프로필 조회를 시작합니다.
+     */
+    private CompletableFuture<UserResponseDto> fetchCurrentUser(Long userId) {
+        return readFanIn.call(ChatReadFanIn.Phase.PROFILE, () -> userClient.getUserProfile(userId));
+    }
+
+    private String decodeMessageCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            Object id = CursorCodec.decode(cursor).get("id");
+            if (id instanceof String messageId && ObjectId.isValid(messageId)) {
+                return messageId;
             }
+        } catch (IllegalArgumentException e) {
+            log.debug("메시지 커서 디코딩 실패: {}", cursor, e);
         }
+        throw new BusinessException(ErrorCode.INVALID_CURSOR);
+    }
+
+    /**
+     * 메시지에 발신자 정보를 결합하고, 필요한 경우 일괄 번역하여 응답 DTO로 변환합니다.
+     * 발신자 정보 조회와 번역은 동시에 실행됩니다. 번역 언어는 사용자 프로필이 도착하는 대로 정해집니다.
+     * 발신자 정보 조회가 실패하면 알 수 없는 사용자로, 프로필 조회나 번역이 실패하면 원문만 반환합니다.
+     */
+    private List<ChatMessageResponse> toMessageResponses(List<ChatMessage> messages, boolean needsTranslation,
+                                                         CompletableFuture<UserResponseDto> currentUserFuture) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> senderIds = messages.stream()
+                .map(ChatMessage::getSenderId)
+                .distinct()
+                .toList();
+
+        CompletableFuture<Map<Long, UserResponseDto>> senderInfoFuture = readFanIn.call(ChatReadFanIn.Phase.SENDERS, () ->
+                userClient.getUsersInfo(senderIds).stream()
+                        .collect(Collectors.toMap(UserResponseDto::userId, Function.identity())));
+
+        CompletableFuture<List<String>> translationFuture = !needsTranslation
+                ? CompletableFuture.completedFuture(null)
+                : currentUserFuture
+                .handle((currentUserInfo, error) -> error == null ? currentUserInfo.translateLanguage() : null)
+                .thenCompose(targetLanguage -> {
+                    if (targetLanguage == null || targetLanguage.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    List<String> originalContents = messages.stream().map(ChatMessage::getContent).toList();
+                    return readFanIn.call(ChatReadFanIn.Phase.TRANSLATION,
+                            () -> translationService.translateMessages(originalContents, targetLanguage));
+                });
+
+        Map<Long, UserResponseDto> senderInfoMap = readFanIn.await(senderInfoFuture, Map.of());
+        List<String> translatedContents = readFanIn.await(translationFuture, null);
+
+        return IntStream.range(0, messages.size()).mapToObj(i -> {
+            ChatMessage message = messages.get(i);
+            UserResponseDto sender = senderInfoMap.getOrDefault(message.getSenderId(), UserResponseDto.unknown());
+            String translatedContent = translatedContents != null ? translatedContents.get(i) : null;
+
+            return ChatMessageResponse.from(message, sender, translatedContent);
+        }).toList();
+    }
 
     /**
      * @apiNote [리팩토링 후] 채팅방 메시지를 무한 스크롤로 조회하는 핵심 로직입니다.
@@ -130,42 +259,76 @@ public class ChatMessageService {
      */
     @Transactional(readOnly = true)
     public List<ChatMessage> getRawMessages(Long roomId, Long userId, String lastMessageId) { // Long -> String
-        ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
+        ChatRoomSnapshot.Member participant = roomSnapshotCache.get(roomId).member(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
 
-        Pageable pageable = PageRequest.of(0, MESSAGE_PAGE_SIZE, Sort.by("sentAt").descending());
-        if (participant.getStatus() == ChatParticipantStatus.LEFT && participant.getLastLeftAt() != null) {
-            Instant lastLeftAt = participant.getLastLeftAt();
+        return findMessagePage(roomId, participant, lastMessageId, MESSAGE_PAGE_SIZE);
+    }
+
+    /**
+     * _id 내림차순으로 한 페이지를 조회합니다. 정렬 기준과 커서(IdLessThan)가 모두 _id 이므로 페이지 경계가 어긋나지 않습니다.
+     * 나간 참여자는 나간 시점 이후의 메시지만 조회합니다.
+     */
+    private List<ChatMessage> findMessagePage(Long roomId, ChatRoomSnapshot.Member participant, String lastMessageId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "id"));
+        if (participant.isLeft() && participant.lastLeftAt() != null) {
+            Instant lastLeftAt = participant.lastLeftAt();
 
             if (lastMessageId != null) {
-                return chatMessageRepository.findByChatRoomIdAndSentAtAfterAndIdLessThan(
-                        roomId, lastLeftAt, lastMessageId, pageable
-                );
+                return withColdHistory(roomId, lastMessageId, lastLeftAt, limit,
+                        chatMessageRepository.findByChatRoomIdAndSentAtAfterAndIdLessThan(
+                                roomId, lastLeftAt, lastMessageId, pageable
+                        ));
             } else {
-                return chatMessageRepository.findByChatRoomIdAndSentAtAfter(
-                        roomId, lastLeftAt, pageable
-                );
+                return withColdHistory(roomId, null, lastLeftAt, limit,
+                        chatMessageRepository.findByChatRoomIdAndSentAtAfter(
+                                roomId, lastLeftAt, pageable
+                        ));
             }
         } else {
             if (lastMessageId != null) {
-                return chatMessageRepository.findByChatRoomIdAndIdLessThan(
-                        roomId, lastMessageId, pageable
-                );
+                return withColdHistory(roomId, lastMessageId, null, limit,
+                        chatMessageRepository.findByChatRoomIdAndIdLessThan(
+                                roomId, lastMessageId, pageable
+                        ));
             } else {
-                return chatMessageRepository.findByChatRoomId(
-                        roomId, pageable
-                );
+                return hotTail.latest(roomId, limit)
+                        .orElseGet(() -> withColdHistory(roomId, null, null, limit,
+                                chatMessageRepository.findByChatRoomId(roomId, pageable)));
             }
         }
     }
 
+    /**
+     * 최신순으로 조회한 chat_messages 결과가 limit 보다 적으면 그보다 오래된 보관 메시지로 나머지를 채웁니다.
+     *
+     * @param lastMessageId 조회를 시작한 커서 (결과가 비어 있을 때의 경계)
+     * @param sentAfter     나간 참여자의 가시 범위 (제한이 없으면 null)
+     */
+    private List<ChatMessage> withColdHistory(Long roomId, String lastMessageId, Instant sentAfter, int limit,
+                                              List<ChatMessage> newestFirst) {
+        if (newestFirst.size() >= limit) {
+            return newestFirst;
+        }
+        String boundary = newestFirst.isEmpty() ? lastMessageId : newestFirst.getLast().getId();
+        List<ChatMessage> older = coldStorage.findOlder(roomId, boundary, sentAfter, limit - newestFirst.size());
+        if (older.isEmpty()) {
+            return newestFirst;
+        }
+        List<ChatMessage> merged = new ArrayList<>(newestFirst);
+        merged.addAll(older);
+        return merged;
+    }
+
     @Transactional(readOnly = true)
     public List<ChatMessageFirstResponse> getFirstMessages(Long roomId, Long userId) {
-        chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
-                .filter(participant -> participant.getStatus() != ChatParticipantStatus.LEFT)
+        roomSnapshotCache.get(roomId).member(userId)
+                .filter(participant -> !participant.isLeft())
                 .orElseThrow(() -> new IllegalArgumentException("채팅방에 참여하지 않았거나 나간 사용자입니다."));
 
-        List<ChatMessage> messages = chatMessageRepository.findTop50ByChatRoomIdOrderBySentAtDesc(roomId);
+        List<ChatMessage> messages = hotTail.latest(roomId, 50)
+                .orElseGet(() -> withColdHistory(roomId, null, null, 50,
+                        chatMessageRepository.findTop50ByChatRoomIdOrderBySentAtDesc(roomId)));
         if (messages.isEmpty()) {
             return List.of();
         }
@@ -189,6 +352,25 @@ public class ChatMessageService {
 
     @Transactional
     public ChatMessage saveMessage(Long roomId, Long senderId, String content) {
+        return saveMessage(roomId, senderId, content, null);
+    }
+
+    /**
+     * @apiNote 메시지를 저장합니다. 나간 참여자가 메시지를 보내거나 1:1 상대가 나가 있는 경우 재참여 처리합니다.
+     * 채팅방 스냅샷으로 재참여가 필요 없음을 확인하면 채팅방/참여자 엔티티를 조회하지 않습니다.
+     *
+     * @param sequence 방 액터가 부여한 순번 (방 액터를 사용하지 않으면 null)
+     */
+    @Transactional
+    public ChatMessage saveMessage(Long roomId, Long senderId, String content, Long sequence) {
+        ChatRoomSnapshot snapshot = roomSnapshotCache.get(roomId);
+        if (snapshot.member(senderId).isEmpty()) {
+            throw new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND);
+        }
+        if (!snapshot.needsRejoin(senderId)) {
+            return insertForActiveMember(roomId, senderId, content, sequence);
+        }
+
         ChatRoom room = chatRoomRepo.findById(roomId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
 
@@ -197,6 +379,7 @@ public class ChatMessageService {
 
         if (senderParticipant.getStatus() == ChatParticipantStatus.LEFT) {
             senderParticipant.reJoin();
+            eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, senderId, ChatRoomChangedEvent.Type.REJOINED));
         }
 
         if (Boolean.FALSE.equals(room.getGroup())) {
@@ -204,107 +387,264 @@ public class ChatMessageService {
             for (ChatParticipant participant : participants) {
                 if (!participant.getUserId().equals(senderId) && participant.getStatus() == ChatParticipantStatus.LEFT) {
                     participant.reJoin();
+                    eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, participant.getUserId(), ChatRoomChangedEvent.Type.REJOINED));
                 }
             }
         }
         ChatMessage message = new ChatMessage(room.getId(), senderId, content);
-        return chatMessageRepository.save(message);
+        if (sequence != null) {
+            message.assignSequence(sequence);
+        }
+        ChatMessage savedMessage = insertMessage(message);
+        senderParticipant.updateLastReadMessageId(savedMessage.getId());
+        return savedMessage;
+    }
+
+    /**
+     * @apiNote 방 액터가 메모리의 멤버십 스냅샷으로 발신자가 활성 참여자임을 이미 확인한 경우의 저장 경로입니다.
+     * 채팅방과 참여자를 다시 조회하지 않고, 메시지 저장과 발신자의 읽음 위치 갱신만 수행합니다.
+     *
+     * @param sequence 방 액터가 부여한 순번
+     */
+    @Transactional
+    public ChatMessage saveMessageForActiveMember(Long roomId, Long senderId, String content, long sequence) {
+        return insertForActiveMember(roomId, senderId, content, sequence);
+    }
+
+    private ChatMessage insertForActiveMember(Long roomId, Long senderId, String content, Long sequence) {
+        ChatMessage message = new ChatMessage(roomId, senderId, content);
+        if (sequence != null) {
+            message.assignSequence(sequence);
+        }
+        ChatMessage savedMessage = insertMessage(message);
+        chatParticipantRepository.updateLastReadMessageId(roomId, senderId, savedMessage.getId());
+        return savedMessage;
+    }
+
+    /**
+     * 메시지를 저장하고, 같은 트랜잭션에서 채팅방의 마지막 메시지 컬럼을 갱신합니다.
+     * 갱신에 실패해 어긋난 값은 {@link ChatRoomLastMessageRepairJob}이 바로잡습니다.
+     */
+    private ChatMessage insertMessage(ChatMessage message) {
+        ChatMessage savedMessage = messageWriter.insert(message);
+        hotTail.append(savedMessage);
+        chatRoomRepo.advanceLastMessage(
+                savedMessage.getChatRoomId(),
+                savedMessage.getId(),
+                ChatRoom.preview(savedMessage.getContent()),
+                savedMessage.getSenderId(),
+                savedMessage.getSentAt()
+        );
+        return savedMessage;
     }
 
+    /**
+     * @apiNote 메시지를 저장하고 채팅방 참여자 전원에게 전송합니다.
+     * 전송 파이프라인을 사용하지 않을 때를 위한 동기 버전으로, 각 단계를 호출 스레드에서 순서대로 실행합니다.
+     *
+     * @param req 전송 메시지 요청 (roomId, senderId, content)
+     */
     @Transactional
     public void processAndSendChatMessage(SendMessageRequest req) {
         ChatMessage savedMessage = this.saveMessage(req.roomId(), req.senderId(), req.content());
+        enrichForSend(savedMessage)
+                .map(this::translateForSend)
+                .ifPresent(this::fanOut);
+    }
 
-        ChatRoom chatRoom = chatRoomRepo.findById(req.roomId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-        List<ChatParticipant> participants = chatRoom.getParticipants();
-        if (participants.isEmpty()) {
-            return;
+    /**
+     * @apiNote [전송 파이프라인 2단계] 저장된 메시지에 채팅방/참여자/유저 정보를 결합합니다.
+     * 채팅방과 참여자 목록은 채팅방 스냅샷 캐시에서 가져옵니다.
+     *
+     * @param savedMessage 저장이 끝난 메시지
+     * @return 참여자가 없으면 Optional.empty()
+     */
+    public Optional<ChatSendContext> enrichForSend(ChatMessage savedMessage) {
+        ChatRoomSnapshot room = roomSnapshotCache.get(savedMessage.getChatRoomId());
+        if (room.participants().isEmpty()) {
+            return Optional.empty();
         }
 
-
-        List<Long> userIds = participants.stream().map(ChatParticipant::getUserId).distinct().toList();
-        Map<Long, UserResponseDto> userInfoMap = userClient.getUsersInfo(userIds).stream()
+        Map<Long, UserResponseDto> userInfoMap = userClient.getUsersInfo(room.memberIds()).stream()
                 .collect(Collectors.toMap(UserResponseDto::userId, Function.identity()));
 
         String groupRoomImageUrl = null;
-        if (chatRoom.getGroup()) {
-            List<ImageDto> roomImages = userClient.getImagesForChatRooms(List.of(chatRoom.getId()));
+        if (room.group()) {
+            List<ImageDto> roomImages = userClient.getImagesForChatRooms(List.of(room.roomId()));
             groupRoomImageUrl = roomImages.isEmpty() ? null : roomImages.getFirst().imageUrl();
         }
 
-        participants.stream()
-                .filter(p -> p.getUserId().equals(req.senderId()))
-                .findFirst()
-                .ifPresent(p -> p.updateLastReadMessageId(savedMessage.getId()));
-
-        for (ChatParticipant participant : participants) {
-            Long currentParticipantId = participant.getUserId();
-            UserResponseDto recipientInfo = userInfoMap.getOrDefault(currentParticipantId, UserResponseDto.unknown());
-            UserResponseDto senderInfo = userInfoMap.getOrDefault(req.senderId(), UserResponseDto.unknown());
-            String targetContent = null;
+        return Optional.of(new ChatSendContext(
+                savedMessage, room, userInfoMap, groupRoomImageUrl, Map.of(), Map.of()
+        ));
+    }
 
+    /**
+     * @apiNote [전송 파이프라인 3단계] 번역을 켜 둔 수신자에게 전달할 번역문을 준비합니다.
+     * 수신자를 번역 언어별로 묶어 언어마다 한 번만, 언어 간에는 동시에 번역하고 같은 언어의 수신자는 결과를 공유합니다.
+     * 특정 언어의 번역이 실패하면 해당 수신자에게는 원문만 전달됩니다.
+     * 메시지당 절약한 번역 호출 비율을 chat.translation.saved.ratio 로 기록합니다.
+     */
+    public ChatSendContext translateForSend(ChatSendContext context) {
+        Map<String, List<Long>> recipientsByLanguage = new HashMap<>();
+        for (ChatRoomSnapshot.Member participant : context.room().participants()) {
+            UserResponseDto recipientInfo = context.userInfoMap().getOrDefault(participant.userId(), UserResponseDto.unknown());
+            if (participant.translateEnabled() && recipientInfo.translateLanguage() != null) {
+                recipientsByLanguage.computeIfAbsent(recipientInfo.translateLanguage(), lang -> new ArrayList<>())
+                        .add(participant.userId());
+            }
+        }
+        if (recipientsByLanguage.isEmpty()) {
+            return context;
+        }
 
-            if (participant.isTranslateEnabled() && recipientInfo.translateLanguage() != null) {
-                targetContent = translationService.translateMessages(List.of(savedMessage.getContent()), recipientInfo.translateLanguage()).getFirst();
+        String content = context.message().getContent();
+        Map<String, CompletableFuture<String>> translations = new HashMap<>();
+        recipientsByLanguage.keySet().forEach(lang -> translations.put(lang, CompletableFuture.supplyAsync(
+                () -> translationService.translateMessages(List.of(content), lang).getFirst(),
+                translationExecutor
+        )));
+
+        Map<Long, String> translatedContents = new HashMap<>();
+        Map<String, String> translationsByLanguage = new HashMap<>();
+        int recipientCount = 0;
+        for (Map.Entry<String, List<Long>> entry : recipientsByLanguage.entrySet()) {
+            recipientCount += entry.getValue().size();
+            try {
+                String translated = translations.get(entry.getKey()).join();
+                entry.getValue().forEach(userId -> translatedContents.put(userId, translated));
+                translationsByLanguage.put(entry.getKey(), translated);
+            } catch (CompletionException e) {
+                translationsByLanguage.put(entry.getKey(), null);
+                log.warn("메시지 번역 실패, 원문으로 전송합니다: messageId={}, lang={}",
+                        context.message().getId(), entry.getKey(), e.getCause());
             }
+        }
+
+        int translationCalls = recipientsByLanguage.size();
+        meterRegistry.summary("chat.translation.saved.ratio")
+                .record(1.0 - (double) translationCalls / recipientCount);
+        return context.withTranslations(translatedContents, translationsByLanguage);
+    }
+
+    /**
+     * @apiNote [전송 파이프라인 4단계] 알림 이벤트를 발행하고, 수신자별 메시지와 채팅방 요약을 전송합니다.
+     * 메시지는 번역문별로 한 번만 직렬화하고 같은 바이트를 수신자끼리 공유합니다.
+     * 채팅방 요약은 {@link ChatRoomSummaryCoalescer}에 넘겨 (사용자, 채팅방)별로 모아서 전송하고,
+     * 전체 미읽음 배지는 {@link ChatUnreadBadgePublisher}에 넘겨 사용자별로 모아서 전송하며,
+     * 참여 중인 사용자들의 인박스({@link ChatInboxStore})는 한 번의 호출로 갱신합니다.
+     * 채팅방 토픽 전송 모드(chat.delivery.room-topic.enabled)에서는 그룹 메시지를 채팅방 토픽과 언어별 토픽에 한 번씩만 발행하고,
+     * 사용자별 목적지로는 채팅방 요약만 전송합니다.
+     */
+    public void fanOut(ChatSendContext context) {
+        ChatMessage savedMessage = context.message();
+        ChatRoomSnapshot chatRoom = context.room();
+        List<ChatRoomSnapshot.Member> participants = chatRoom.participants();
+        Map<Long, UserResponseDto> userInfoMap = context.userInfoMap();
+        Long senderId = savedMessage.getSenderId();
+        UserResponseDto senderInfo = userInfoMap.getOrDefault(senderId, UserResponseDto.unknown());
+        Map<String, byte[]> messagePayloads = new HashMap<>();
+        Map<Long, ChatInboxStore.Entry> inboxEntries = new HashMap<>();
+
+        List<Long> recipientIds = chatRoom.memberIds().stream()
+                .filter(id -> !id.equals(senderId))
+                .toList();
+        unreadCounterService.increment(chatRoom.roomId(), recipientIds);
+        unreadCounterService.reset(chatRoom.roomId(), senderId);
+        badgePublisher.submit(recipientIds, chatRoom.roomId());
+        badgePublisher.submit(senderId, chatRoom.roomId());
+
+        boolean roomTopicDelivery = roomTopicDeliveryEnabled && chatRoom.group();
+        if (roomTopicDelivery) {
+            publishToRoomTopics(savedMessage, senderInfo, context.translationsByLanguage());
+        }
+
+        for (ChatRoomSnapshot.Member participant : participants) {
+            Long currentParticipantId = participant.userId();
+            UserResponseDto recipientInfo = userInfoMap.getOrDefault(currentParticipantId, UserResponseDto.unknown());
+            String targetContent = context.translatedContents().get(currentParticipantId);
 
-            if (!recipientInfo.userId().equals(req.senderId())) {
+            if (!recipientInfo.userId().equals(senderId)) {
                 String notificationMessage = senderInfo.firstName() + "님으로부터 새로운 메시지";
                 NotificationEvent event = new NotificationEvent(
                         recipientInfo.userId(), NotificationType.chat,
-                        notificationMessage, chatRoom.getId(), senderInfo.userId()
+                        notificationMessage, chatRoom.roomId(), senderInfo.userId()
                 );
                 eventPublisher.publishEvent(event);
             }
 
 
-            ChatMessageResponse messageResponse = new ChatMessageResponse(
-                    savedMessage.getId(), chatRoom.getId(), senderInfo.userId(),
-                    savedMessage.getContent(), targetContent, savedMessage.getSentAt(),
-                    senderInfo.firstName(), senderInfo.lastName(), senderInfo.ImageUrl()
-            );
-            messagingTemplate.convertAndSend("/topic/user/" + recipientInfo.userId() + "/messages", messageResponse);
+            if (!roomTopicDelivery) {
+                byte[] messagePayload = messagePayloads.computeIfAbsent(targetContent, content ->
+                        payloadBroadcaster.encode(ChatMessageResponse.from(savedMessage, senderInfo, content)));
+                payloadBroadcaster.send("/topic/user/" + recipientInfo.userId() + "/messages", messagePayload);
+            }
 
             String summaryRoomName;
             String summaryRoomImageUrl;
 
-            if (chatRoom.getGroup()) {
-                summaryRoomName = chatRoom.getRoomName();
-                summaryRoomImageUrl = groupRoomImageUrl;
+            if (chatRoom.group()) {
+                summaryRoomName = chatRoom.roomName();
+                summaryRoomImageUrl = context.groupRoomImageUrl();
             } else {
                 UserResponseDto otherUserInfo = participants.stream()
-                        .filter(p -> !p.getUserId().equals(currentParticipantId))
+                        .filter(p -> !p.userId().equals(currentParticipantId))
                         .findFirst()
-                        .map(other -> userInfoMap.get(other.getUserId()))
+                        .map(other -> userInfoMap.get(other.userId()))
                         .orElse(senderInfo);
 
                 summaryRoomName = otherUserInfo.firstName() + " " + otherUserInfo.lastName();
                 summaryRoomImageUrl = otherUserInfo.ImageUrl();
             }
 
-            int unreadCount = this.countUnreadMessages(req.roomId(), recipientInfo.userId());
-            ChatRoomSummaryResponse summary = ChatRoomSummaryResponse.from(
+            summaryCoalescer.submit(
+                    recipientInfo.userId(),
                     chatRoom,
-                    savedMessage.getContent(),
-                    savedMessage.getSentAt(),
-                    unreadCount,
                     summaryRoomName,
-                    summaryRoomImageUrl
+                    summaryRoomImageUrl,
+                    savedMessage.getContent(),
+                    savedMessage.getSentAt()
             );
-            messagingTemplate.convertAndSend("/topic/user/" + recipientInfo.userId() + "/rooms", summary);
+            if (!participant.isLeft()) {
+                inboxEntries.put(currentParticipantId, ChatInboxStore.Entry.of(
+                        chatRoom.roomId(),
+                        summaryRoomName,
+                        summaryRoomImageUrl,
+                        ChatRoom.preview(savedMessage.getContent()),
+                        savedMessage.getSentAt(),
+                        participants.size()
+                ));
+            }
         }
+        inboxStore.recordMessage(chatRoom.roomId(), savedMessage.getSentAt(), inboxEntries);
+    }
+
+    /**
+     * 원문은 /topic/rooms/{roomId}/messages 로, 번역문은 /topic/rooms/{roomId}/lang/{언어 코드} 로 한 번씩 발행합니다.
+     * 번역에 실패한 언어의 토픽에는 원문을 발행합니다.
+     */
+    private void publishToRoomTopics(ChatMessage savedMessage, UserResponseDto senderInfo, Map<String, String> translationsByLanguage) {
+        String roomTopic = "/topic/rooms/" + savedMessage.getChatRoomId();
+        payloadBroadcaster.send(roomTopic + "/messages",
+                payloadBroadcaster.encode(ChatMessageResponse.from(savedMessage, senderInfo, null)));
+        translationsByLanguage.forEach((language, translated) ->
+                payloadBroadcaster.send(roomTopic + "/lang/" + language,
+                        payloadBroadcaster.encode(ChatMessageResponse.from(savedMessage, senderInfo, translated))));
     }
 
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> searchMessages(Long roomId, Long userId, String keyword) {
-        ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
+        ChatRoomSnapshot.Member participant = roomSnapshotCache.get(roomId).member(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
 
-        boolean needsTranslation = participant.isTranslateEnabled();
+        boolean needsTranslation = participant.translateEnabled();
 
         if (!needsTranslation) {
-            List<ChatMessage> messages = chatMessageRepository.findByChatRoomIdAndContentContainingIgnoreCase(roomId, keyword);
+            List<ChatMessage> messages = new ArrayList<>(chatMessageRepository.findByChatRoomIdAndContentContainingIgnoreCase(roomId, keyword));
+            Set<String> hotIds = messages.stream().map(ChatMessage::getId).collect(Collectors.toSet());
+            coldStorage.search(roomId, keyword).stream()
+                    .filter(message -> !hotIds.contains(message.getId()))
+                    .forEach(messages::add);
             if (messages.isEmpty()) {
                 return List.of();
             }
@@ -316,11 +656,7 @@ public class ChatMessageService {
             return messages.stream()
                     .map(message -> {
                         UserResponseDto sender = senderInfoMap.getOrDefault(message.getSenderId(), UserResponseDto.unknown());
-                        return new ChatMessageResponse(
-                                message.getId(), message.getChatRoomId(), sender.userId(),
-                                message.getContent(), null, message.getSentAt(),
-                                sender.firstName(), sender.lastName(), sender.ImageUrl()
-                        );
+                        return ChatMessageResponse.from(message, sender, null);
                     })
                     .sorted(Comparator.comparing(ChatMessageResponse::sentAt).reversed())
                     .toList();
@@ -333,7 +669,8 @@ public class ChatMessageService {
                 return searchMessages(roomId, userId, keyword);
             }
 
-            List<ChatMessage> recentMessages = chatMessageRepository.findTop1000ByChatRoomIdOrderBySentAtDesc(roomId);
+            List<ChatMessage> recentMessages = withColdHistory(roomId, null, null, 1000,
+                    chatMessageRepository.findTop1000ByChatRoomIdOrderBySentAtDesc(roomId));
             if (recentMessages.isEmpty()) {
                 return List.of();
             }
@@ -358,11 +695,7 @@ public class ChatMessageService {
             return foundPairs.stream()
                     .map(pair -> {
                         UserResponseDto sender = senderInfoMap.getOrDefault(pair.originalMessage().getSenderId(), UserResponseDto.unknown());
-                        return new ChatMessageResponse(
-                                pair.originalMessage().getId(), pair.originalMessage().getChatRoomId(), sender.userId(),
-                                pair.originalMessage().getContent(), pair.translatedContent(), pair.originalMessage().getSentAt(),
-                                sender.firstName(), sender.lastName(), sender.ImageUrl()
-                        );
+                        return ChatMessageResponse.from(pair.originalMessage(), sender, pair.translatedContent());
                     })
                     .sorted(Comparator.comparing(ChatMessageResponse::sentAt).reversed())
                     .toList();
@@ -371,10 +704,13 @@ public class ChatMessageService {
 
     /**
      * @apiNote [리팩토링 후] 메시지를 DB(MongoDB)에서 삭제하고, 해당 채팅방에 삭제 이벤트를 브로드캐스팅합니다.
+     * 보관(버킷)된 메시지는 채팅방 ID가 있을 때만 찾습니다.
      */
     @Transactional
-    public void deleteMessageAndBroadcast(String messageId, Long userId) {
-        ChatMessage message = chatMessageRepository.findById(messageId)
+    public void deleteMessageAndBroadcast(String messageId, Long roomId, Long userId) {
+        Optional<ChatMessage> hotMessage = chatMessageRepository.findById(messageId);
+        ChatMessage message = hotMessage
+                .or(() -> roomId == null ? Optional.<ChatMessage>empty() : coldStorage.findById(roomId, messageId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
 
         if (!message.getSenderId().equals(userId)) {
@@ -385,7 +721,24 @@ public class ChatMessageService {
                 "id", messageId,
                 "type", "delete"
         );
-        chatMessageRepository.delete(message);
+        if (hotMessage.isPresent()) {
+            chatMessageRepository.delete(message);
+        }
+        // 원본을 읽은 압축 작업이 그 사이 버킷에 담았을 수 있으므로 원본을 지운 뒤에도 버킷에서 지웁니다.
+        coldStorage.remove(message.getChatRoomId(), messageId);
+        tombstoneRepository.save(new ChatMessageTombstone(messageId, message.getChatRoomId()));
+        hotTail.remove(message.getChatRoomId(), messageId);
+        messageETags.bumpVersion(message.getChatRoomId());
+        chatRoomRepo.findById(message.getChatRoomId())
+                .filter(room -> messageId.equals(room.getLastMessageId()))
+                .ifPresent(room -> {
+                    Optional<ChatMessage> lastMessage = lastMessageRepairJob.refresh(room.getId());
+                    List<Long> memberIds = roomSnapshotCache.get(room.getId()).participants().stream()
+                            .filter(member -> !member.isLeft())
+                            .map(ChatRoomSnapshot.Member::userId)
+                            .toList();
+                    inboxStore.replaceLastMessage(room.getId(), message.getSentAt(), lastMessage.orElse(null), memberIds);
+                });
         String destination = "/topic/rooms/" + message.getChatRoomId();
         messagingTemplate.convertAndSend(destination, payload);
     }
@@ -403,19 +756,17 @@ public class ChatMessageService {
                 new ReadStatusResponse(roomId, userId, lastReadMessageId)
         );
 
-        ChatRoom chatRoom = chatRoomRepo.findByIdWithParticipants(roomId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-        List<ChatParticipant> participants = chatRoom.getParticipants();
+        ChatRoomSnapshot chatRoom = roomSnapshotCache.get(roomId);
+        List<ChatRoomSnapshot.Member> participants = chatRoom.participants();
         if (participants.isEmpty()) return;
 
-        List<Long> userIds = participants.stream().map(ChatParticipant::getUserId).distinct().toList();
-        Map<Long, UserResponseDto> userInfoMap = userClient.getUsersInfo(userIds)
+        Map<Long, UserResponseDto> userInfoMap = userClient.getUsersInfo(chatRoom.memberIds())
                 .stream()
                 .collect(Collectors.toMap(UserResponseDto::userId, Function.identity()));
 
         String groupRoomImageUrl = null;
-        if (chatRoom.getGroup()) {
-            List<ImageDto> roomImages = userClient.getImagesForChatRooms(List.of(chatRoom.getId()));
+        if (chatRoom.group()) {
+            List<ImageDto> roomImages = userClient.getImagesForChatRooms(List.of(chatRoom.roomId()));
             groupRoomImageUrl = roomImages.isEmpty() ? null : roomImages.getFirst().imageUrl();
         }
 
@@ -423,14 +774,14 @@ public class ChatMessageService {
         String summaryRoomName;
         String summaryRoomImageUrl;
 
-        if (chatRoom.getGroup()) {
-            summaryRoomName = chatRoom.getRoomName();
+        if (chatRoom.group()) {
+            summaryRoomName = chatRoom.roomName();
             summaryRoomImageUrl = groupRoomImageUrl;
         } else {
             UserResponseDto otherUserInfo = participants.stream()
-                    .filter(p -> !p.getUserId().equals(userId))
+                    .filter(p -> !p.userId().equals(userId))
                     .findFirst()
-                    .map(other -> userInfoMap.get(other.getUserId()))
+                    .map(other -> userInfoMap.get(other.userId()))
                     .orElse(null);
 
             if (otherUserInfo != null) {
@@ -442,17 +793,14 @@ public class ChatMessageService {
             }
         }
 
-        int unreadCount = this.countUnreadMessages(roomId, userId);
-        ChatRoomSummaryResponse summary = ChatRoomSummaryResponse.from(
+        summaryCoalescer.submit(
+                userId,
                 chatRoom,
-                this.getLastMessageContent(roomId),
-                this.getLastMessageTime(roomId),
-                unreadCount,
                 summaryRoomName,
-                summaryRoomImageUrl
+                summaryRoomImageUrl,
+                this.getLastMessageContent(roomId),
+                this.getLastMessageTime(roomId)
         );
-
-        messagingTemplate.convertAndSend("/topic/user/" + userId + "/rooms", summary);
     }
     /**
      * @apiNote 메시지 읽음 상태를 업데이트합니다.
@@ -467,6 +815,8 @@ public class ChatMessageService {
         ChatParticipant readerParticipant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, readerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND));
         readerParticipant.updateLastReadMessageId(lastReadMessageId);
+        unreadCounterService.evict(roomId, readerId);
+        badgePublisher.submit(readerId, roomId);
     }
     /**
      * [수정된 메서드]
@@ -479,58 +829,47 @@ public class ChatMessageService {
                 .ifPresent(lastMessage -> {
                     String lastMessageId = lastMessage.getId();
                     markMessagesAsRead(roomId, readerId, lastMessageId);
+                    unreadCounterService.reset(roomId, readerId);
                 });
     }
 
 
+    /**
+     * @apiNote 증분으로 관리되는 미읽음 카운터를 조회합니다. 카운터가 없을 때만 MongoDB에서 계산합니다.
+     */
     @Transactional(readOnly = true)
     public int countUnreadMessages(Long roomId, Long userId) {
-        String lastReadId = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
-                .map(ChatParticipant::getLastReadMessageId)
-                .orElse(null);
-
-        if (lastReadId == null) {
-            return chatMessageRepository.countByChatRoomIdAndSenderIdNot(roomId, userId);
-        } else {
-            return chatMessageRepository.countByChatRoomIdAndIdGreaterThanAndSenderIdNot(roomId, lastReadId, userId);
-        }
+        return unreadCounterService.countUnread(roomId, userId);
     }
 
     /**
-     * [개선] 마지막 메시지의 내용을 반환합니다.
+     * [개선] 마지막 메시지의 미리보기를 채팅방의 마지막 메시지 컬럼에서 반환합니다.
      */
     public String getLastMessageContent(Long roomId) {
-        return getLastMessage(roomId)
-                .map(ChatMessage::getContent)
+        return chatRoomRepo.findById(roomId)
+                .map(ChatRoom::getLastMessagePreview)
                 .orElse(null);
     }
 
     /**
-     * [개선] 마지막 메시지의 전송 시간을 반환합니다.
+     * [개선] 마지막 메시지의 전송 시간을 채팅방의 마지막 메시지 컬럼에서 반환합니다.
+     * 같은 트랜잭션 안에서 {@link #getLastMessageContent(Long)}와 함께 호출하면 채팅방은 한 번만 조회됩니다.
      */
     public Instant getLastMessageTime(Long roomId) {
-        return getLastMessage(roomId)
-                .map(ChatMessage::getSentAt)
+        return chatRoomRepo.findById(roomId)
+                .map(ChatRoom::getLastMessageAt)
                 .orElse(null);
     }
 
-    /**
-     * [추가] DB 조회를 담당하는 private 헬퍼 메서드
-     * DB 조회 로직을 한 곳으로 모아 중복을 제거합니다.
-     */
-    private Optional<ChatMessage> getLastMessage(Long roomId) {
-        return chatMessageRepository.findTopByChatRoomIdOrderBySentAtDesc(roomId);
-    }
     /**
      * 특정 메시지를 중심으로 이전/이후 메시지 20개씩을 함께 조회합니다.
      *
      * @apiNote 이 메서드는 다음과 같은 순서로 동작합니다.
-     * 1. 사용자의 번역 설정 정보를 API로 조회합니다.
-     * 2. MongoDB에서 이전/타겟/이후 메시지 덩어리를 각각 조회하여 합칩니다.
-     * 3. 합쳐진 모든 메시지의 발신자(sender) ID를 수집합니다.
-     * 4. Main Service에 Bulk API를 한 번 호출하여 모든 발신자의 상세 정보를 일괄 조회합니다.
-     * 5. 필요한 경우, 메시지 내용을 일괄 번역합니다.
-     * 6. 모든 정보를 조합하여 최종 응답 DTO 목록을 생성합니다.
+     * 1. 사용자의 번역 설정 정보를 API로 조회하기 시작합니다.
+     * 2. 그동안 최근 메시지 버퍼에서 이전/타겟/이후 메시지를 꺼내고, 버퍼로 응답할 수 없으면 MongoDB에서 한 번의 aggregation으로 조회합니다.
+     * 3. 합쳐진 모든 메시지의 발신자(sender) ID로 발신자 정보를 일괄 조회하고,
+     *    동시에 사용자 번역 설정이 도착하는 대로 메시지 내용을 일괄 번역합니다.
+     * 4. 모든 정보를 조합하여 최종 응답 DTO 목록을 생성합니다.
      *
      * @param roomId          채팅방 ID
      * @param userId          요청한 사용자 ID
@@ -540,49 +879,73 @@ public class ChatMessageService {
      */
     @Transactional(readOnly = true)
     public List<ChatMessageResponse> getMessagesAround(Long roomId, Long userId, String targetMessageId) {
-        UserResponseDto currentUserInfo = userClient.getUserProfile(userId);
-        boolean needsTranslation = currentUserInfo.translateLanguage() != null && !currentUserInfo.translateLanguage().isEmpty();
+        CompletableFuture<UserResponseDto> currentUserFuture = fetchCurrentUser(userId);
 
-        List<ChatMessage> olderMessages = chatMessageRepository.findTop20ByChatRoomIdAndIdLessThanOrderByIdDesc(roomId, targetMessageId);
-        Collections.reverse(olderMessages);
+        List<ChatMessage> combinedMessages = readFanIn.time(ChatReadFanIn.Phase.MESSAGES, () ->
+                hotTail.around(roomId, targetMessageId, 20, 20)
+                        .orElseGet(() -> loadMessagesAround(roomId, targetMessageId)));
 
-        ChatMessage targetMessage = chatMessageRepository.findById(targetMessageId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+        return toMessageResponses(combinedMessages, true, currentUserFuture);
+    }
 
-        List<ChatMessage> newerMessages = chatMessageRepository.findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, targetMessageId);
+    /**
+     * 메시지 버퍼로 응답할 수 없을 때 MongoDB에서 이전/타겟/이후 메시지를 한 번에 조회합니다. 결과는 오래된 순입니다.
+     */
+    private List<ChatMessage> loadMessagesAround(Long roomId, String targetMessageId) {
+        if (!ObjectId.isValid(targetMessageId)) {
+            throw new BusinessException(ErrorCode.CHAT_MESSAGE_NOT_FOUND);
+        }
+        List<ChatMessage> window = chatMessageRepository.findWindowAround(roomId, targetMessageId, 20, 20);
+        int targetIndex = indexOf(window, targetMessageId);
+        if (targetIndex < 0) {
+            return loadColdMessagesAround(roomId, targetMessageId);
+        }
+        if (targetIndex >= 20) {
+            return window;
+        }
 
-        List<ChatMessage> combinedMessages = new ArrayList<>();
-        combinedMessages.addAll(olderMessages);
-        combinedMessages.add(targetMessage);
-        combinedMessages.addAll(newerMessages);
+        List<ChatMessage> older = coldStorage.findOlder(roomId, window.getFirst().getId(), null, 20 - targetIndex);
+        List<ChatMessage> merged = new ArrayList<>(older.reversed());
+        merged.addAll(window);
+        return merged;
+    }
 
-        if (combinedMessages.isEmpty()) {
-            return List.of();
+    /**
+     * 기준 메시지가 보관 버킷에 있을 때 이전/타겟/이후 메시지를 조회합니다. 이후 메시지가 모자라면 chat_messages 에서 채웁니다.
+     */
+    private List<ChatMessage> loadColdMessagesAround(Long roomId, String targetMessageId) {
+        List<ChatMessage> fromTarget = coldStorage.findNewer(roomId, olderId(targetMessageId), 21);
+        if (fromTarget.isEmpty() || !fromTarget.getFirst().getId().equals(targetMessageId)) {
+            throw new BusinessException(ErrorCode.CHAT_MESSAGE_NOT_FOUND);
         }
 
-        List<Long> senderIds = combinedMessages.stream().map(ChatMessage::getSenderId).distinct().toList();
-        Map<Long, UserResponseDto> senderInfoMap = userClient.getUsersInfo(senderIds).stream()
-                .collect(Collectors.toMap(UserResponseDto::userId, Function.identity()));
-
-        List<String> translatedContents = null;
-        if (needsTranslation) {
-            List<String> originalContents = combinedMessages.stream().map(ChatMessage::getContent).toList();
-            translatedContents = translationService.translateMessages(originalContents, currentUserInfo.translateLanguage());
+        List<ChatMessage> window = new ArrayList<>(coldStorage.findOlder(roomId, targetMessageId, null, 20).reversed());
+        window.addAll(fromTarget);
+        if (fromTarget.size() < 21) {
+            chatMessageRepository.findTop20ByChatRoomIdAndIdGreaterThanOrderByIdAsc(roomId, window.getLast().getId()).stream()
+                    .limit(21 - fromTarget.size())
+                    .forEach(window::add);
         }
+        return window;
+    }
 
-        final List<String> finalTranslatedContents = translatedContents;
-        return IntStream.range(0, combinedMessages.size())
-                .mapToObj(i -> {
-                    ChatMessage message = combinedMessages.get(i);
-                    UserResponseDto sender = senderInfoMap.getOrDefault(message.getSenderId(), UserResponseDto.unknown());
-                    String translatedContent = (finalTranslatedContents != null) ? finalTranslatedContents.get(i) : null;
+    private static int indexOf(List<ChatMessage> messages, String messageId) {
+        return IntStream.range(0, messages.size())
+                .filter(i -> messages.get(i).getId().equals(messageId))
+                .findFirst()
+                .orElse(-1);
+    }
 
-                    return new ChatMessageResponse(
-                            message.getId(), message.getChatRoomId(), sender.userId(),
-                            message.getContent(), translatedContent, message.getSentAt(),
-                            sender.firstName(), sender.lastName(), sender.ImageUrl()
-                    );
-                })
-                .toList();
+    /**
+     * 기준 메시지를 포함하여 조회할 수 있도록 바로 앞(1 작은) ObjectId를 만듭니다.
+     */
+    private static String olderId(String messageId) {
+        byte[] bytes = new ObjectId(messageId).toByteArray();
+        for (int i = bytes.length - 1; i >= 0; i--) {
+            if (bytes[i]-- != 0) {
+                break;
+            }
+        }
+        return new ObjectId(bytes).toHexString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.global.concurrent.RedisLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * chat.cold-storage.age 보다 오래된 메시지를 주기적으로 채팅방별 버킷으로 옮기는 작업입니다.
+ *
+ * @apiNote chat.cold-storage.enabled=true 일 때만 실행됩니다(기본값 false).
+ * 기준 시각은 ObjectId의 생성 시각으로 비교하므로 _id 인덱스로 대상 메시지를 찾습니다.
+ * 모든 노드에서 실행되므로 채팅방마다 Redis 임대(lease:cold-storage:room:{roomId}, chat.cold-storage.lease-ttl)를 잡은 노드만
+ * 그 채팅방을 압축하며, 임대를 잡지 못한 채팅방은 건너뜁니다.
+ * 대상 채팅방은 한꺼번에 모으지 않고 (room_id, _id) 인덱스로 직전 채팅방 다음 채팅방을 하나씩 찾아 갑니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageTieringJob {
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatMessageColdStorage coldStorage;
+    private final RedisLeaseLock leaseLock;
+
+    @Value("${chat.cold-storage.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.cold-storage.age:P30D}")
+    private Duration age;
+
+    @Value("${chat.cold-storage.lease-ttl:PT10M}")
+    private Duration leaseTtl;
+
+    @Scheduled(fixedDelayString = "${chat.cold-storage.interval-ms:3600000}")
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        ObjectId cutoff = ObjectId.getSmallestWithDate(Date.from(Instant.now().minus(age)));
+
+        int rooms = 0;
+        int compacted = 0;
+        int skipped = 0;
+        for (Long roomId = nextRoom(null, cutoff); roomId != null; roomId = nextRoom(roomId, cutoff)) {
+            rooms++;
+            Optional<RedisLeaseLock.Lease> lease = leaseLock.tryAcquire("cold-storage:room:" + roomId, leaseTtl);
+            if (lease.isEmpty()) {
+                skipped++;
+                continue;
+            }
+            try (RedisLeaseLock.Lease ignored = lease.get()) {
+                compacted += coldStorage.compactRoom(roomId, cutoff);
+            } catch (RuntimeException e) {
+                log.error("메시지 버킷 압축 실패: roomId={}", roomId, e);
+            }
+        }
+        log.info("메시지 버킷 압축 완료: rooms={}, skipped={}, messages={}", rooms, skipped, compacted);
+    }
+
+    /**
+     * 기준 ID보다 오래된 메시지가 있는 채팅방 중 직전 채팅방 다음 채팅방을 찾습니다.
+     *
+     * @param previousRoomId 직전 채팅방 ID (null이면 처음부터)
+     * @return 다음 채팅방 ID, 없으면 null
+     */
+    private Long nextRoom(Long previousRoomId, ObjectId cutoff) {
+        Criteria criteria = Criteria.where("id").lt(cutoff);
+        if (previousRoomId != null) {
+            criteria = criteria.and("chatRoomId").gt(previousRoomId);
+        }
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.ASC, "chatRoomId")).limit(1);
+        query.fields().include("chatRoomId");
+        ChatMessage message = mongoTemplate.findOne(query, ChatMessage.class);
+        return message == null ? null : message.getChatRoomId();
+    }
+}
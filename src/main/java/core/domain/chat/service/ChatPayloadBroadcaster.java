@@ -0,0 +1,51 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 미리 직렬화한 STOMP 페이로드를 여러 목적지로 전송합니다.
+ *
+ * @apiNote 같은 내용을 여러 사용자에게 보낼 때 {@code convertAndSend}처럼 수신자마다 직렬화하지 않고,
+ * {@link #encode(Object)}로 한 번 만든 byte[]를 모든 목적지가 공유합니다.
+ * STOMP 메시지 컨버터가 쓰는 것과 같은 애플리케이션 {@link ObjectMapper} 빈으로 직렬화하므로
+ * 클라이언트가 받는 JSON은 기존과 동일하고, ObjectMapper 설정을 바꾸면 두 경로에 함께 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatPayloadBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param payload 전송할 DTO
+     * @return STOMP 메시지 본문으로 쓸 JSON 바이트
+     */
+    public byte[] encode(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("STOMP 페이로드 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 직렬화된 페이로드를 목적지로 전송합니다. 헤더는 목적지마다 새로 만들고 본문 byte[]는 공유합니다.
+     *
+     * @param destination 목적지 (예: /topic/user/{id}/messages)
+     * @param payload     {@link #encode(Object)}로 만든 JSON 바이트
+     */
+    public void send(String destination, byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+    }
+}
@@ -0,0 +1,121 @@
+package core.domain.chat.service;
+
+import core.global.config.FeignAuthConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 메시지 조회 경로의 원격 호출(사용자 프로필, 발신자 정보, 번역)을 가상 스레드에서 동시에 실행하고 결과를 모읍니다.
+ *
+ * @apiNote 호출마다 chat.read.timeout.* 시간 제한을 두며, 실패하거나 시간을 넘긴 호출은 호출한 쪽이 정한 대체값으로 대신합니다.
+ * 단계별 소요 시간은 chat.read.phase.latency (phase, outcome 태그)로 기록하여 임계 경로를 확인할 수 있습니다.
+ * Feign 인증 헤더는 호출을 시작하는 요청 스레드에서 읽어 값으로 넘기며, 요청 정보(RequestAttributes)는 가상 스레드로 넘기지 않습니다.
+ * 시간을 넘긴 호출은 요청이 끝난 뒤에도 계속 실행될 수 있으므로, 재사용될 수 있는 요청 객체를 참조하지 않아야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadFanIn {
+
+    public enum Phase {
+        PROFILE, MESSAGES, SENDERS, TRANSLATION;
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.read.timeout.profile:PT1S}")
+    private Duration profileTimeout;
+
+    @Value("${chat.read.timeout.senders:PT1S}")
+    private Duration sendersTimeout;
+
+    @Value("${chat.read.timeout.translation:PT3S}")
+    private Duration translationTimeout;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    void shutdown() {
+        executor.close();
+    }
+
+    /**
+     * 원격 호출을 가상 스레드에서 시작합니다. 단계별 시간 제한이 적용되며, 실패는 경고 로그로 남깁니다.
+     */
+    public <T> CompletableFuture<T> call(Phase phase, Supplier<T> call) {
+        String authorization = FeignAuthConfig.currentAuthorization();
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> FeignAuthConfig.withAuthorization(authorization, call), executor)
+                .orTimeout(timeoutOf(phase).toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    String outcome = cause == null ? "success" : cause instanceof TimeoutException ? "timeout" : "error";
+                    record(phase, outcome, System.nanoTime() - start);
+                    if (cause != null) {
+                        log.warn("메시지 조회 원격 호출 실패, 대체값을 사용합니다: phase={}, outcome={}", phase.tag(), outcome, cause);
+                    }
+                });
+    }
+
+    /**
+     * 호출한 스레드에서 작업을 실행하고 소요 시간을 기록합니다. 예외는 그대로 전파합니다.
+     */
+    public <T> T time(Phase phase, Supplier<T> work) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = work.get();
+            outcome = "success";
+            return result;
+        } finally {
+            record(phase, outcome, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 원격 호출 결과를 기다립니다. 호출이 실패했거나 시간을 넘겼으면 대체값을 반환합니다.
+     */
+    public <T> T await(CompletableFuture<T> future, T fallback) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            return fallback;
+        }
+    }
+
+    private Duration timeoutOf(Phase phase) {
+        return switch (phase) {
+            case PROFILE -> profileTimeout;
+            case SENDERS -> sendersTimeout;
+            case TRANSLATION -> translationTimeout;
+            case MESSAGES -> throw new IllegalArgumentException("MESSAGES 단계는 원격 호출이 아닙니다.");
+        };
+    }
+
+    private void record(Phase phase, String outcome, long elapsedNanos) {
+        Timer.builder("chat.read.phase.latency")
+                .tag("phase", phase.tag())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,220 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.SendMessageRequest;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.global.concurrent.KeyedSerialExecutor;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 채팅방마다 하나의 경량 액터(메일박스)를 두고, 그 방의 메시지 저장을 한 줄로 세워 처리합니다.
+ *
+ * @apiNote chat.room-actor.enabled=true 일 때만 사용됩니다 (기본값 false).
+ * 액터는 채팅방 스냅샷 캐시로 멤버십을 확인하여 메시지마다 채팅방/참여자를 다시 조회하지 않으며,
+ * 메시지마다 방 단위로 단조 증가하는 순번(seq)을 부여하여 클라이언트가 누락을 감지할 수 있게 합니다.
+ * 메일박스는 가상 스레드에서 실행되고, 일정 시간 메시지가 없는 방의 액터는 자동으로 제거됩니다.
+ * 액터를 새로 만들 때는 chat_messages 와 보관 버킷 중 큰 순번부터 이어서 부여하므로,
+ * 액터가 유휴 제거되거나 채팅방 메시지가 모두 버킷으로 옮겨져도 순번이 되돌아가지 않습니다.
+ * <p>
+ * 순번은 메모리에서 부여하지만 (room_id, seq) 유일 인덱스가 같은 순번의 두 번째 저장을 막습니다.
+ * 여러 노드가 같은 방의 메시지를 받아 순번이 겹치면 늦게 저장한 쪽이 중복 키 오류를 받고,
+ * 저장소에서 마지막 순번을 다시 읽어 chat.room-actor.sequence-retries 번까지 다시 저장합니다.
+ * 따라서 같은 방의 메시지를 한 노드로 모으는 라우팅은 충돌을 줄일 뿐 정합성에 필요하지는 않습니다.
+ * 충돌 횟수는 chat.room-actor.sequence.conflicts 로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomActorRegistry {
+
+    private final ChatRoomSnapshotCache roomSnapshotCache;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageService chatMessageService;
+    private final ChatMessageColdStorage coldStorage;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.room-actor.enabled:false}")
+    private boolean enabled;
+
+    @Value("${chat.room-actor.idle-timeout:PT10M}")
+    private Duration idleTimeout;
+
+    @Value("${chat.room-actor.sequence-retries:3}")
+    private int sequenceRetries;
+
+    private final ConcurrentHashMap<Long, RoomActor> actors = new ConcurrentHashMap<>();
+    private final ExecutorService virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    private final KeyedSerialExecutor<Long> mailboxes = new KeyedSerialExecutor<>(virtualThreads);
+    private Counter sequenceConflicts;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("chat.room-actor.active", actors, Map::size).register(meterRegistry);
+        sequenceConflicts = Counter.builder("chat.room-actor.sequence.conflicts").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        virtualThreads.close();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 방 액터의 메일박스를 통해 메시지를 저장하고, 저장이 끝날 때까지 기다립니다.
+     *
+     * @param req 전송 메시지 요청 (roomId, senderId, content)
+     * @return 순번이 부여되어 저장된 메시지
+     * @throws BusinessException 채팅방이나 참여자를 찾을 수 없을 때 발생
+     */
+    public ChatMessage persist(SendMessageRequest req) {
+        try {
+            return mailboxes.submit(req.roomId(), () -> actorFor(req.roomId()).persist(req)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 삭제된 방의 액터를 제거합니다. 멤버십 변경은 채팅방 스냅샷 캐시가 무효화하므로 액터는 순번만 유지합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        if (!enabled || event.type() != ChatRoomChangedEvent.Type.DELETED || event.userId() != null) {
+            return;
+        }
+        mailboxes.submit(event.roomId(), () -> actors.remove(event.roomId()));
+    }
+
+    /**
+     * 유휴 시간이 지난 방 액터를 제거합니다. 제거도 메일박스를 거치므로 처리 중인 메시지와 겹치지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.room-actor.eviction-interval-ms:60000}")
+    public void evictIdleActors() {
+        Instant threshold = Instant.now().minus(idleTimeout);
+        actors.forEach((roomId, actor) -> {
+            if (actor.lastActiveAt.isBefore(threshold)) {
+                mailboxes.submit(roomId, () -> {
+                    if (actor.lastActiveAt.isBefore(threshold)) {
+                        actors.remove(roomId, actor);
+                        log.debug("유휴 방 액터 제거: roomId={}", roomId);
+                    }
+                    return null;
+                });
+            }
+        });
+    }
+
+    /**
+     * 메일박스 안에서만 호출되므로 같은 방에 대해 동시에 실행되지 않습니다.
+     */
+    private RoomActor actorFor(Long roomId) {
+        RoomActor actor = actors.get(roomId);
+        if (actor == null) {
+            actor = new RoomActor(roomId, storedSequence(roomId));
+            actors.put(roomId, actor);
+        }
+        return actor;
+    }
+
+    /**
+     * chat_messages 와 보관 버킷에 저장된 가장 큰 순번입니다.
+     */
+    private long storedSequence(Long roomId) {
+        return Math.max(chatMessageRepository.findMaxSequence(roomId), coldStorage.findMaxSequence(roomId));
+    }
+
+    /**
+     * 한 채팅방의 상태입니다. 모든 필드는 해당 방의 메일박스 안에서만 읽고 씁니다.
+     */
+    private final class RoomActor {
+        private final Long roomId;
+        private long lastSequence;
+        private volatile Instant lastActiveAt = Instant.now();
+
+        private RoomActor(Long roomId, long lastSequence) {
+            this.roomId = roomId;
+            this.lastSequence = lastSequence;
+        }
+
+        private ChatMessage persist(SendMessageRequest req) {
+            lastActiveAt = Instant.now();
+            ChatRoomSnapshot snapshot = roomSnapshotCache.get(roomId);
+            if (snapshot.member(req.senderId()).isEmpty()) {
+                throw new BusinessException(ErrorCode.CHAT_PARTICIPANT_NOT_FOUND);
+            }
+
+            for (int attempt = 1; ; attempt++) {
+                long sequence = lastSequence + 1;
+                try {
+                    ChatMessage savedMessage = save(snapshot, req, sequence);
+                    lastSequence = sequence;
+                    return savedMessage;
+                } catch (DuplicateKeyException e) {
+                    // 다른 노드가 이 순번을 먼저 썼습니다. 트랜잭션은 롤백되었으므로 순번만 다시 읽어 재시도합니다.
+                    sequenceConflicts.increment();
+                    lastSequence = Math.max(sequence, storedSequence(roomId));
+                    log.info("순번 충돌, 저장된 순번부터 다시 부여합니다: roomId={}, seq={}, next={}, attempt={}",
+                            roomId, sequence, lastSequence + 1, attempt);
+                    if (attempt >= sequenceRetries) {
+                        throw e;
+                    }
+                } catch (RuntimeException e) {
+                    if (sequenceUsed(sequence)) {
+                        lastSequence = sequence;
+                    }
+                    throw e;
+                }
+            }
+        }
+
+        private ChatMessage save(ChatRoomSnapshot snapshot, SendMessageRequest req, long sequence) {
+            if (snapshot.needsRejoin(req.senderId())) {
+                return chatMessageService.saveMessage(roomId, req.senderId(), req.content(), sequence);
+            }
+            return chatMessageService.saveMessageForActiveMember(roomId, req.senderId(), req.content(), sequence);
+        }
+
+        /**
+         * MongoDB 저장 이후 단계(참여자 갱신, 마지막 메시지 갱신 등)에서 실패해도 메시지는 남으므로 순번을 다시 쓰면 안 됩니다.
+         * 저장 여부를 확인할 수 없으면 순번을 건너뜁니다. 빈 순번은 클라이언트가 누락으로 보고 다시 조회할 뿐이지만,
+         * 같은 순번이 두 번 쓰이면 순서가 깨집니다.
+         */
+        private boolean sequenceUsed(long sequence) {
+            try {
+                return chatMessageRepository.existsByChatRoomIdAndSequence(roomId, sequence);
+            } catch (RuntimeException e) {
+                log.warn("순번 사용 여부 확인 실패, 순번을 건너뜁니다: roomId={}, seq={}", roomId, sequence, e);
+                return true;
+            }
+        }
+    }
+}
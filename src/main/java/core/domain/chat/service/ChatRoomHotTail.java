@@ -0,0 +1,406 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활성 채팅방마다 최근 메시지 N개를 메모리에 보관하는 링 버퍼입니다.
+ *
+ * @apiNote 채팅방을 처음 읽을 때 MongoDB에서 최근 chat.hot-tail.capacity 개를 읽어 채우고(지연 워밍),
+ * 이후에는 전송/삭제 시 버퍼를 갱신하여 첫 페이지와 특정 메시지 주변 조회를 MongoDB 없이 처리합니다.
+ * 워밍 중에 도착한 전송/삭제는 기록해 두었다가 워밍 결과에 합칩니다.
+ * 전체 메모리 사용량(추정치)이 chat.hot-tail.max-bytes 를 넘으면 가장 오래 사용되지 않은 채팅방부터 제거합니다.
+ * 다른 노드에서 메시지가 전송/삭제되면 Redis 채널로 (채팅방 ID, 메시지 ID)를 받아, 해당 채팅방 버퍼가 있는 노드만
+ * 전송된 메시지를 ID로 읽어 추가하거나 삭제된 메시지를 제거합니다. 버퍼를 버리지 않으므로 다른 노드의 전송이 워밍을 다시 일으키지 않습니다.
+ * 버퍼 내용은 채팅방별 락으로 보호하고, 채팅방 목록(LRU 순서)은 짧게 잡는 별도 락으로 보호합니다.
+ * 두 락이 모두 필요하면 항상 채팅방 목록 락을 먼저 잡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomHotTail implements MessageListener {
+
+    static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("chat-hot-tail-invalidation");
+
+    private static final long MESSAGE_OVERHEAD_BYTES = 200;
+    private static final String APPENDED = "A";
+    private static final String REMOVED = "R";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageColdStorage coldStorage;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.hot-tail.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.hot-tail.capacity:50}")
+    private int capacity;
+
+    @Value("${chat.hot-tail.max-bytes:67108864}")
+    private long maxBytes;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Object roomsLock = new Object();
+    private final LinkedHashMap<Long, RoomTail> rooms = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    @PostConstruct
+    void init() {
+        hits = Counter.builder("cache.gets").tag("cache", "chat.hot-tail").tag("result", "hit").register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "chat.hot-tail").tag("result", "miss").register(meterRegistry);
+        evictions = Counter.builder("cache.evictions").tag("cache", "chat.hot-tail").register(meterRegistry);
+        Gauge.builder("chat.hot-tail.bytes", this, ChatRoomHotTail::estimatedBytes).register(meterRegistry);
+        Gauge.builder("cache.size", this, ChatRoomHotTail::roomCount).tag("cache", "chat.hot-tail").register(meterRegistry);
+        if (enabled) {
+            redisContainer.addMessageListener(this, INVALIDATION_TOPIC);
+        }
+    }
+
+    /**
+     * 저장된 메시지를 채팅방 버퍼에 추가합니다. 버퍼가 없는 채팅방은 다음 조회 때 워밍됩니다.
+     */
+    public void append(ChatMessage message) {
+        if (!enabled) {
+            return;
+        }
+        applyAppend(message);
+        publish(APPENDED, message.getChatRoomId(), message.getId());
+    }
+
+    /**
+     * 삭제된 메시지를 채팅방 버퍼에서 제거합니다.
+     */
+    public void remove(Long roomId, String messageId) {
+        if (!enabled) {
+            return;
+        }
+        applyRemove(roomId, messageId);
+        publish(REMOVED, roomId, messageId);
+    }
+
+    /**
+     * 최근 메시지를 최신순으로 반환합니다.
+     *
+     * @param limit 최대 개수
+     * @return 버퍼로 응답할 수 없으면 Optional.empty()
+     */
+    public Optional<List<ChatMessage>> latest(Long roomId, int limit) {
+        if (!enabled || limit > capacity) {
+            return Optional.empty();
+        }
+        RoomTail tail = acquire(roomId);
+        if (tail == null) {
+            return Optional.empty();
+        }
+        synchronized (tail) {
+            if (tail.messages.size() < limit && tail.hasOlder) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            List<ChatMessage> result = new ArrayList<>(Math.min(limit, tail.messages.size()));
+            for (ChatMessage message : tail.messages.descendingMap().values()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(message);
+            }
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * 특정 메시지와 그 이전/이후 메시지를 오래된 순으로 반환합니다.
+     *
+     * @return 대상 메시지가 버퍼에 없거나 이전 메시지가 충분하지 않으면 Optional.empty()
+     */
+    public Optional<List<ChatMessage>> around(Long roomId, String targetMessageId, int before, int after) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        RoomTail tail = acquire(roomId);
+        if (tail == null) {
+            return Optional.empty();
+        }
+        synchronized (tail) {
+            ChatMessage target = tail.messages.get(targetMessageId);
+            NavigableMap<String, ChatMessage> older = tail.messages.headMap(targetMessageId, false);
+            if (target == null || (older.size() < before && tail.hasOlder)) {
+                misses.increment();
+                return Optional.empty();
+            }
+            hits.increment();
+            List<ChatMessage> olderMessages = new ArrayList<>(older.descendingMap().values())
+                    .subList(0, Math.min(before, older.size()));
+            List<ChatMessage> result = new ArrayList<>(olderMessages.reversed());
+            result.add(target);
+            tail.messages.tailMap(targetMessageId, false).values().stream()
+                    .limit(after)
+                    .forEach(result::add);
+            return Optional.of(result);
+        }
+    }
+
+    /**
+     * 채팅방 버퍼를 버립니다. 워밍 중이었다면 워밍 결과도 버려집니다.
+     */
+    public void invalidate(Long roomId) {
+        synchronized (roomsLock) {
+            RoomTail tail = rooms.remove(roomId);
+            if (tail != null) {
+                tail.detach();
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에서 전파된 전송/삭제를 반영합니다. 자신이 보낸 메시지는 무시합니다.
+     * 본문은 {노드 ID}:{A|R}:{채팅방 ID}:{메시지 ID} 이며, 이전 형식({노드 ID}:{채팅방 ID})은 버퍼를 버립니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":", 4);
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            if (parts.length == 2) {
+                invalidate(Long.valueOf(parts[1]));
+                return;
+            }
+            Long roomId = Long.valueOf(parts[2]);
+            if (parts.length < 4 || !isCached(roomId)) {
+                return;
+            }
+            if (APPENDED.equals(parts[1])) {
+                chatMessageRepository.findById(parts[3]).ifPresent(this::applyAppend);
+            } else if (REMOVED.equals(parts[1])) {
+                applyRemove(roomId, parts[3]);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 메시지 버퍼 변경 메시지: {}", body);
+        } catch (DataAccessException e) {
+            log.warn("메시지 버퍼 변경 반영 실패, 채팅방 버퍼를 버립니다: {}", body, e);
+            invalidate(Long.valueOf(parts[2]));
+        }
+    }
+
+    private void applyAppend(ChatMessage message) {
+        RoomTail tail = peek(message.getChatRoomId());
+        if (tail == null) {
+            return;
+        }
+        synchronized (tail) {
+            if (tail.detached) {
+                return;
+            }
+            if (tail.loading) {
+                tail.pendingAppends.add(message);
+                return;
+            }
+            tail.put(message);
+            tail.trim();
+        }
+        evictOverBudget();
+    }
+
+    private void applyRemove(Long roomId, String messageId) {
+        RoomTail tail = peek(roomId);
+        if (tail == null) {
+            return;
+        }
+        synchronized (tail) {
+            if (tail.detached) {
+                return;
+            }
+            if (tail.loading) {
+                tail.pendingRemovals.add(messageId);
+            } else {
+                tail.delete(messageId);
+            }
+        }
+    }
+
+    private RoomTail peek(Long roomId) {
+        synchronized (roomsLock) {
+            return rooms.get(roomId);
+        }
+    }
+
+    private boolean isCached(Long roomId) {
+        synchronized (roomsLock) {
+            return rooms.containsKey(roomId);
+        }
+    }
+
+    /**
+     * 워밍이 끝난 버퍼를 반환합니다. 버퍼가 없으면 이 스레드에서 워밍하고,
+     * 다른 스레드가 워밍 중이면 기다리지 않고 null을 반환합니다.
+     */
+    private RoomTail acquire(Long roomId) {
+        RoomTail tail;
+        synchronized (roomsLock) {
+            tail = rooms.get(roomId);
+            if (tail != null) {
+                return tail.loading ? null : tail;
+            }
+            tail = new RoomTail();
+            rooms.put(roomId, tail);
+        }
+
+        List<ChatMessage> loaded;
+        boolean hasOlder;
+        try {
+            loaded = chatMessageRepository.findByChatRoomId(
+                    roomId, PageRequest.of(0, capacity, Sort.by(Sort.Direction.DESC, "id")));
+            hasOlder = loaded.size() >= capacity || coldStorage.hasMessages(roomId);
+        } catch (RuntimeException e) {
+            invalidate(roomId);
+            throw e;
+        }
+
+        synchronized (tail) {
+            if (tail.detached) {
+                return null;
+            }
+            loaded.forEach(tail::put);
+            tail.hasOlder = hasOlder;
+            tail.pendingAppends.forEach(tail::put);
+            tail.pendingRemovals.forEach(tail::delete);
+            tail.pendingAppends.clear();
+            tail.pendingRemovals.clear();
+            tail.trim();
+            tail.loading = false;
+        }
+        evictOverBudget();
+        synchronized (tail) {
+            return tail.detached ? null : tail;
+        }
+    }
+
+    private void evictOverBudget() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        synchronized (roomsLock) {
+            Iterator<Map.Entry<Long, RoomTail>> iterator = rooms.entrySet().iterator();
+            while (totalBytes.get() > maxBytes && iterator.hasNext()) {
+                RoomTail eldest = iterator.next().getValue();
+                if (eldest.loading) {
+                    continue;
+                }
+                iterator.remove();
+                eldest.detach();
+                evictions.increment();
+            }
+        }
+    }
+
+    private void publish(String type, Long roomId, String messageId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), nodeId + ":" + type + ":" + roomId + ":" + messageId);
+        } catch (DataAccessException e) {
+            log.warn("메시지 버퍼 변경 전파 실패: roomId={}, messageId={}", roomId, messageId, e);
+        }
+    }
+
+    private long estimatedBytes() {
+        return totalBytes.get();
+    }
+
+    private int roomCount() {
+        synchronized (roomsLock) {
+            return rooms.size();
+        }
+    }
+
+    private static long estimateSize(ChatMessage message) {
+        String content = message.getContent();
+        return MESSAGE_OVERHEAD_BYTES + (content == null ? 0 : 2L * content.length());
+    }
+
+    /**
+     * 한 채팅방의 최근 메시지입니다. ObjectId 문자열은 생성 순서대로 정렬되므로 ID 순서가 곧 시간 순서입니다.
+     * loading 을 제외한 필드는 이 객체의 락 안에서만 읽고 씁니다. 목록에서 빠진(detached) 버퍼는 더 이상 바꾸지 않습니다.
+     */
+    private final class RoomTail {
+        private final TreeMap<String, ChatMessage> messages = new TreeMap<>();
+        private final List<ChatMessage> pendingAppends = new ArrayList<>();
+        private final Set<String> pendingRemovals = new HashSet<>();
+        private volatile boolean loading = true;
+        private boolean detached;
+        private boolean hasOlder;
+        private long bytes;
+
+        private void put(ChatMessage message) {
+            ChatMessage previous = messages.put(message.getId(), message);
+            if (previous != null) {
+                adjust(-estimateSize(previous));
+            }
+            adjust(estimateSize(message));
+        }
+
+        private void delete(String messageId) {
+            ChatMessage removed = messages.remove(messageId);
+            if (removed != null) {
+                adjust(-estimateSize(removed));
+            }
+        }
+
+        private void trim() {
+            while (messages.size() > capacity) {
+                adjust(-estimateSize(messages.pollFirstEntry().getValue()));
+                hasOlder = true;
+            }
+        }
+
+        private synchronized void detach() {
+            if (!detached) {
+                detached = true;
+                totalBytes.addAndGet(-bytes);
+            }
+        }
+
+        private void adjust(long delta) {
+            bytes += delta;
+            totalBytes.addAndGet(delta);
+        }
+    }
+}
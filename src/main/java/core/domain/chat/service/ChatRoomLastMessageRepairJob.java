@@ -0,0 +1,127 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.concurrent.RedisLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * chat_room 의 마지막 메시지 컬럼을 MongoDB 기준으로 바로잡는 작업입니다.
+ *
+ * @apiNote 메시지 저장 후 Postgres 갱신에 실패했거나 컬럼 추가 전에 만들어진 채팅방은 값이 어긋나거나 비어 있으므로,
+ * chat.last-message.repair.interval-ms 마다 채팅방을 ID 순으로 chat.last-message.repair.batch-size 개씩 훑어 고칩니다.
+ * 마지막 채팅방까지 훑으면 처음부터 다시 시작합니다. 마지막 메시지 삭제 시에는 {@link #refresh(Long)}로 바로 고칩니다.
+ * 채팅방마다 별도 트랜잭션으로 고치므로 한 채팅방의 실패가 같은 배치의 다른 채팅방 보정을 되돌리지 않으며,
+ * 임대({@link RedisLeaseLock})를 잡은 한 노드만 실행합니다. 훑던 위치는 chat:last-message-repair:cursor 에 저장하므로
+ * 임대를 잡는 노드가 바뀌어도 이어서 훑습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomLastMessageRepairJob {
+
+    private static final String CURSOR_KEY = "chat:last-message-repair:cursor";
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageColdStorage coldStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLeaseLock leaseLock;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${chat.last-message.repair.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.last-message.repair.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.last-message.repair.lease-ttl:PT5M}")
+    private Duration leaseTtl;
+
+    @Scheduled(fixedDelayString = "${chat.last-message.repair.interval-ms:60000}")
+    public void repair() {
+        if (!enabled) {
+            return;
+        }
+        leaseLock.runExclusively("last-message-repair", leaseTtl, this::repairBatch);
+    }
+
+    private void repairBatch() {
+        String stored = redisTemplate.opsForValue().get(CURSOR_KEY);
+        long lastCheckedRoomId = stored == null ? 0L : Long.parseLong(stored);
+        List<ChatRoom> rooms = chatRoomRepository.findByIdGreaterThanOrderByIdAsc(lastCheckedRoomId, PageRequest.of(0, batchSize));
+        int repaired = 0;
+        for (ChatRoom room : rooms) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repairOne(room)))) {
+                    repaired++;
+                }
+            } catch (RuntimeException e) {
+                log.error("마지막 메시지 보정 실패: roomId={}", room.getId(), e);
+            }
+        }
+        redisTemplate.opsForValue().set(CURSOR_KEY, String.valueOf(rooms.size() < batchSize ? 0L : rooms.getLast().getId()));
+        if (repaired > 0) {
+            log.info("마지막 메시지 보정 완료: checked={}, repaired={}", rooms.size(), repaired);
+        }
+    }
+
+    /**
+     * 채팅방의 마지막 메시지 컬럼을 MongoDB의 현재 마지막 메시지로 덮어씁니다.
+     *
+     * @return 새 마지막 메시지. 남은 메시지가 없으면 Optional.empty()
+     */
+    @Transactional
+    public Optional<ChatMessage> refresh(Long roomId) {
+        Optional<ChatMessage> lastMessage = findLastMessage(roomId);
+        chatRoomRepository.replaceLastMessage(
+                roomId,
+                lastMessage.map(ChatMessage::getId).orElse(null),
+                lastMessage.map(message -> ChatRoom.preview(message.getContent())).orElse(null),
+                lastMessage.map(ChatMessage::getSenderId).orElse(null),
+                lastMessage.map(ChatMessage::getSentAt).orElse(null)
+        );
+        return lastMessage;
+    }
+
+    /**
+     * MongoDB의 마지막 메시지가 컬럼보다 새로우면 조건부로 앞으로만 옮기고(동시에 저장된 메시지를 덮어쓰지 않도록),
+     * 컬럼이 MongoDB에 없는 더 새로운 메시지를 가리키면(삭제 등) 덮어씁니다.
+     */
+    private boolean repairOne(ChatRoom room) {
+        Optional<ChatMessage> lastMessage = findLastMessage(room.getId());
+        String actualId = lastMessage.map(ChatMessage::getId).orElse(null);
+        String storedId = room.getLastMessageId();
+        if (Objects.equals(actualId, storedId)) {
+            return false;
+        }
+        if (lastMessage.isPresent() && (storedId == null || actualId.compareTo(storedId) > 0)) {
+            ChatMessage message = lastMessage.get();
+            chatRoomRepository.advanceLastMessage(room.getId(), message.getId(), ChatRoom.preview(message.getContent()),
+                    message.getSenderId(), message.getSentAt());
+        } else {
+            refresh(room.getId());
+        }
+        return true;
+    }
+
+    private Optional<ChatMessage> findLastMessage(Long roomId) {
+        return chatMessageRepository.findTopByChatRoomIdOrderByIdDesc(roomId)
+                .or(() -> coldStorage.findOlder(roomId, null, null, 1).stream().findFirst());
+    }
+}
@@ -0,0 +1,296 @@
+package core.domain.chat.service;
+
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.dto.RoomNameSource;
+import core.domain.chat.dto.UserResponseDto;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.cache.LruCache;
+import core.global.enums.ChatParticipantStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 채팅방 이름 색인입니다. 채팅방 검색이 모든 채팅방을 꾸미기 전에 이름이 맞는 채팅방만 먼저 고를 수 있게 합니다.
+ *
+ * @apiNote 색인은 사용자가 처음 검색할 때 만들며, 그룹 채팅방은 채팅방 이름, 1:1 채팅방은 상대방 이름(이름 + 성)을 담습니다.
+ * 이름은 NFC 정규화 후 소문자로 비교하므로 자모가 분리된(NFD) 한글 입력도 같은 이름으로 찾습니다.
+ * 두 글자 이상의 검색어는 이름의 2-gram 으로 후보를 좁힌 뒤 부분 문자열로 확인하고,
+ * 한글 초성만으로 된 검색어(예: ㄱㅊㅅ)는 이름의 초성과 비교합니다.
+ * 이름 또는 단어의 시작과 맞는 채팅방은 {@link Match#prefix()}로 표시합니다.
+ * <p>
+ * 참여/나가기/재참여 이벤트를 받으면 해당 사용자의 색인을 지우고 Redis 채널로 다른 노드에도 전파합니다.
+ * 메인 서비스가 chat-user-profile-changed 채널에 사용자 ID를 발행하면, 그 사용자와 1:1 채팅방을 함께 쓰는 사용자들의 색인을 지웁니다.
+ * 전달되지 않은 변경은 chat.room-name-index.ttl 이 지나면 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomNameIndex implements MessageListener {
+
+    static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("chat-room-name-index-invalidation");
+    static final ChannelTopic PROFILE_CHANGED_TOPIC = new ChannelTopic("chat-user-profile-changed");
+
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final UserClient userClient;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.room-name-index.max-size:10000}")
+    private int maxSize;
+
+    @Value("${chat.room-name-index.ttl:PT30M}")
+    private Duration ttl;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private LruCache<Long, RoomNames> indexes;
+
+    @PostConstruct
+    void init() {
+        indexes = new LruCache<>("chat.room-name-index", maxSize, ttl, meterRegistry);
+        redisContainer.addMessageListener(this, List.of(INVALIDATION_TOPIC, PROFILE_CHANGED_TOPIC));
+    }
+
+    /**
+     * 검색어와 이름이 맞는 채팅방을 찾습니다. 색인이 없으면 먼저 만듭니다.
+     *
+     * @return 이름이 맞는 채팅방 (순서 없음). 색인은 나간 채팅방을 잠시 포함할 수 있으므로 호출자가 참여 여부를 다시 확인해야 합니다.
+     */
+    public List<Match> search(Long userId, String keyword) {
+        return indexes.getOrLoad(userId, this::load).search(keyword == null ? "" : keyword);
+    }
+
+    /**
+     * 이 노드와 다른 노드에서 사용자의 색인을 지웁니다.
+     */
+    public void invalidate(Long userId) {
+        indexes.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), nodeId + ":" + userId);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 이름 색인 무효화 전파 실패, 다른 노드는 TTL 만료 후 갱신됩니다: userId={}", userId, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case JOINED, LEFT, REJOINED -> invalidate(event.userId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 프로필이 바뀐 사용자를 1:1 채팅방 이름으로 보는 사용자들의 색인을 이 노드에서 지웁니다.
+     * 프로필 변경 메시지는 모든 노드가 받으므로 다시 전파하지 않습니다.
+     */
+    public void onProfileChanged(Long userId) {
+        List<Long> counterparts = chatParticipantRepository.findOneToOneCounterpartUserIds(userId, ChatParticipantStatus.ACTIVE);
+        counterparts.forEach(indexes::invalidate);
+        log.debug("프로필 변경으로 채팅방 이름 색인 무효화: userId={}, invalidated={}", userId, counterparts.size());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (PROFILE_CHANGED_TOPIC.getTopic().equals(channel)) {
+                onProfileChanged(Long.valueOf(body.trim()));
+                return;
+            }
+            int separator = body.lastIndexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            indexes.invalidate(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 채팅방 이름 색인 메시지: channel={}, body={}", channel, body);
+        }
+    }
+
+    private RoomNames load(Long userId) {
+        List<RoomNameSource> sources = chatRoomRepository.findRoomNameSources(userId, ChatParticipantStatus.ACTIVE);
+        List<Long> opponentIds = sources.stream()
+                .map(RoomNameSource::opponentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, UserResponseDto> opponentInfoMap = opponentIds.isEmpty() ? Map.of()
+                : userClient.getUsersInfo(opponentIds).stream()
+                .collect(Collectors.toMap(UserResponseDto::userId, Function.identity(), (first, second) -> first));
+
+        Map<Long, String> names = new HashMap<>();
+        for (RoomNameSource source : sources) {
+            String name;
+            if (source.group()) {
+                name = source.roomName();
+            } else {
+                UserResponseDto opponentInfo = opponentInfoMap.getOrDefault(source.opponentId(), UserResponseDto.unknown());
+                name = opponentInfo.firstName() + " " + opponentInfo.lastName();
+            }
+            if (name != null) {
+                names.putIfAbsent(source.roomId(), name);
+            }
+        }
+        return RoomNames.of(names);
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꿉니다. 한글 음절이 아닌 글자는 그대로 둡니다.
+     */
+    static String initials(String normalized) {
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints().forEach(codePoint -> {
+            if (codePoint >= HANGUL_BASE && codePoint <= HANGUL_LAST) {
+                builder.append(INITIALS[(codePoint - HANGUL_BASE) / SYLLABLES_PER_INITIAL]);
+            } else {
+                builder.appendCodePoint(codePoint);
+            }
+        });
+        return builder.toString();
+    }
+
+    private static boolean isInitialsOnly(String normalized) {
+        boolean hasInitial = false;
+        for (char c : normalized.toCharArray()) {
+            if (Arrays.binarySearch(INITIALS, c) >= 0) {
+                hasInitial = true;
+            } else if (c != ' ') {
+                return false;
+            }
+        }
+        return hasInitial;
+    }
+
+    private static List<String> bigrams(String normalized) {
+        int[] codePoints = normalized.codePoints().toArray();
+        List<String> grams = new ArrayList<>(Math.max(0, codePoints.length - 1));
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private static boolean isPrefix(String text, String keyword) {
+        return text.startsWith(keyword) || text.contains(" " + keyword);
+    }
+
+    /**
+     * @param roomId 채팅방 ID
+     * @param prefix 이름 또는 이름 속 단어의 시작과 맞으면 true
+     */
+    public record Match(Long roomId, boolean prefix) {
+    }
+
+    /**
+     * 한 사용자의 채팅방 이름 색인입니다. 만든 뒤에는 바뀌지 않으며, 갱신할 때는 새로 만들어 교체합니다.
+     */
+    static final class RoomNames {
+
+        private final Map<Long, String> names;
+        private final Map<Long, String> initials;
+        private final Map<String, Set<Long>> bigrams;
+
+        private RoomNames(Map<Long, String> names, Map<Long, String> initials, Map<String, Set<Long>> bigrams) {
+            this.names = names;
+            this.initials = initials;
+            this.bigrams = bigrams;
+        }
+
+        static RoomNames of(Map<Long, String> displayNames) {
+            Map<Long, String> names = new HashMap<>();
+            Map<Long, String> initials = new HashMap<>();
+            Map<String, Set<Long>> bigrams = new HashMap<>();
+            displayNames.forEach((roomId, displayName) -> {
+                String normalized = normalize(displayName);
+                names.put(roomId, normalized);
+                initials.put(roomId, ChatRoomNameIndex.initials(normalized));
+                for (String gram : ChatRoomNameIndex.bigrams(normalized)) {
+                    bigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(roomId);
+                }
+            });
+            return new RoomNames(names, initials, bigrams);
+        }
+
+        List<Match> search(String keyword) {
+            String normalized = normalize(keyword);
+            if (isInitialsOnly(normalized)) {
+                return scan(initials, names.keySet(), normalized);
+            }
+            return scan(names, candidates(normalized), normalized);
+        }
+
+        /**
+         * 검색어의 2-gram 중 가장 적은 채팅방을 가진 것으로 후보를 좁힙니다. 한 글자 이하의 검색어는 모든 채팅방이 후보입니다.
+         */
+        private Collection<Long> candidates(String normalized) {
+            List<String> grams = ChatRoomNameIndex.bigrams(normalized);
+            if (grams.isEmpty()) {
+                return names.keySet();
+            }
+            Set<Long> smallest = null;
+            for (String gram : grams) {
+                Set<Long> posting = bigrams.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                if (smallest == null || posting.size() < smallest.size()) {
+                    smallest = posting;
+                }
+            }
+            return smallest;
+        }
+
+        private static List<Match> scan(Map<Long, String> texts, Collection<Long> roomIds, String keyword) {
+            List<Match> matches = new ArrayList<>();
+            for (Long roomId : roomIds) {
+                String text = texts.get(roomId);
+                if (text.contains(keyword)) {
+                    matches.add(new Match(roomId, isPrefix(text, keyword)));
+                }
+            }
+            return matches;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package core.domain.chat.service;
 
 import core.domain.chat.client.UserClient;
 import core.domain.chat.dto.*;
-import core.domain.chat.entity.ChatMessage;
 import core.domain.chat.entity.ChatParticipant;
 import core.domain.chat.entity.ChatRoom;
 import core.domain.chat.repository.ChatMessageRepository;
@@ -13,11 +12,18 @@ import core.global.enums.ChatParticipantStatus;
 import core.global.enums.ErrorCode;
 import core.global.enums.ImageType;
 import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import core.global.pagination.CursorPageResponse;
+import core.global.pagination.CursorPages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
@@ -33,18 +39,127 @@ public class ChatRoomService {
     private final ChatParticipantRepository chatParticipantRepository;
     private final ChatMessageRepository chatMessageRepo;
     private final UserClient userClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatMessageColdStorage coldStorage;
+    private final ChatInboxStore inboxStore;
+    private final ChatRoomNameIndex roomNameIndex;
 
     private final ChatRoomRepository chatRoomRepository;
 
     private record ChatRoomWithTime(ChatRoom room, Instant lastMessageTime) {}
 
+    record RoomCursor(Instant lastMessageAt, Long roomId) {}
+
+    /**
+     * @apiNote 사용자의 채팅방 목록을 인박스({@link ChatInboxStore})에서 읽고 미읽음 개수를 합칩니다.
+     * 인박스가 없으면 원본에서 다시 만듭니다.
+     */
     @Transactional(readOnly = true)
     public List<ChatRoomSummaryResponse> getMyAllChatRoomSummaries(Long userId) {
-        List<ChatRoom> rooms = chatRoomRepo.findActiveChatRoomsByUserId(userId, ChatParticipantStatus.ACTIVE);
+        List<ChatInboxStore.Entry> entries = inboxStore.read(userId).orElseGet(() -> rebuildInbox(userId));
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> unreadCounts = unreadCounterService.countUnread(userId,
+                entries.stream().map(ChatInboxStore.Entry::roomId).toList());
+        return entries.stream()
+                .map(entry -> entry.toSummary(unreadCounts.getOrDefault(entry.roomId(), 0)))
+                .toList();
+    }
+
+    /**
+     * @apiNote 사용자의 전체 미읽음 개수(앱 배지)를 채팅방 목록을 만들지 않고 증분 합계에서 바로 조회합니다.
+     */
+    public UnreadBadgeResponse getUnreadBadge(Long userId) {
+        return new UnreadBadgeResponse(unreadCounterService.totalUnread(userId));
+    }
+
+    /**
+     * 참여 중인 채팅방과 메시지 원본으로 사용자의 인박스를 다시 만듭니다.
+     *
+     * @apiNote 마지막 메시지는 chat_room 의 마지막 메시지 컬럼에서 읽고, 정렬도 해당 인덱스 순서로 조회합니다.
+     *
+     * @return 마지막 메시지 시각 내림차순 인박스 항목
+     */
+    @Transactional(readOnly = true)
+    public List<ChatInboxStore.Entry> rebuildInbox(Long userId) {
+        List<ChatRoom> rooms = chatRoomRepo.findActiveChatRoomsByUserIdOrderByLastMessage(userId, ChatParticipantStatus.ACTIVE);
         if (rooms.isEmpty()) {
+            inboxStore.replace(userId, List.of());
             return List.of();
         }
 
+        List<ChatInboxStore.Entry> entries = toInboxEntries(userId, rooms);
+        inboxStore.replace(userId, entries);
+        return entries;
+    }
+
+    /**
+     * @apiNote 사용자의 채팅방 목록을 (마지막 메시지 시각, 채팅방 ID) 내림차순 커서로 나누어 조회합니다.
+     * 화면에 보일 페이지의 채팅방에 대해서만 상대방 정보, 채팅방 이미지, 미읽음 개수를 조회하므로
+     * 응답 시간이 전체 채팅방 수와 무관합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기
+     * @throws BusinessException 커서가 올바르지 않으면 INVALID_CURSOR
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ChatRoomSummaryResponse> getMyChatRoomSummaryPage(Long userId, String cursor, int size) {
+        List<ChatRoom> rows = findRoomPage(userId, decodeRoomCursor(cursor), PageRequest.of(0, size + 1));
+        CursorPageResponse<ChatRoom> page = CursorPages.ofLatest(rows, size, ChatRoom::getLastMessageAt, ChatRoom::getId);
+        if (page.items().isEmpty()) {
+            return new CursorPageResponse<>(List.of(), false, null);
+        }
+
+        List<ChatInboxStore.Entry> entries = toInboxEntries(userId, page.items());
+        Map<Long, Integer> unreadCounts = unreadCounterService.countUnread(userId,
+                entries.stream().map(ChatInboxStore.Entry::roomId).toList());
+        List<ChatRoomSummaryResponse> items = entries.stream()
+                .map(entry -> entry.toSummary(unreadCounts.getOrDefault(entry.roomId(), 0)))
+                .toList();
+        return new CursorPageResponse<>(items, page.hasNext(), page.nextCursor());
+    }
+
+    private List<ChatRoom> findRoomPage(Long userId, RoomCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return chatRoomRepo.findActiveChatRoomsByUserIdOrderByLastMessage(userId, ChatParticipantStatus.ACTIVE, pageable);
+        }
+        if (cursor.lastMessageAt() == null) {
+            return chatRoomRepo.findActiveChatRoomsByUserIdWithoutMessagesAfterCursor(
+                    userId, ChatParticipantStatus.ACTIVE, cursor.roomId(), pageable);
+        }
+        return chatRoomRepo.findActiveChatRoomsByUserIdAfterCursor(
+                userId, ChatParticipantStatus.ACTIVE, cursor.lastMessageAt(), cursor.roomId(), pageable);
+    }
+
+    static RoomCursor decodeRoomCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            Map<String, Object> payload = CursorCodec.decode(cursor);
+            if (payload.get("id") instanceof Number roomId) {
+                Object time = payload.get("t");
+                if (time == null) {
+                    return new RoomCursor(null, roomId.longValue());
+                }
+                if (time instanceof String lastMessageAt) {
+                    return new RoomCursor(Instant.parse(lastMessageAt), roomId.longValue());
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            log.debug("채팅방 목록 커서 디코딩 실패: {}", cursor, e);
+        }
+        throw new BusinessException(ErrorCode.INVALID_CURSOR);
+    }
+
+    /**
+     * 채팅방 목록 항목을 만듭니다. 1:1 상대방 정보와 그룹 채팅방 이미지는 각각 한 번에 조회합니다.
+     *
+     * @return rooms 와 같은 순서의 인박스 항목
+     */
+    private List<ChatInboxStore.Entry> toInboxEntries(Long userId, List<ChatRoom> rooms) {
         List<Long> opponentUserIds = new ArrayList<>();
         List<Long> groupRoomIds = new ArrayList<>();
         Map<Long, Long> roomToOpponentIdMap = new HashMap<>();
@@ -72,9 +187,6 @@ public class ChatRoomService {
 
         return rooms.stream()
                 .map(room -> {
-                    String lastMessageContent = getLastMessageContent(room.getId());
-                    Instant lastMessageTime   = getLastMessageTime(room.getId());
-                    int unreadCount           = countUnreadMessages(room.getId(), userId);
                     String roomName;
                     String roomImageUrl;
 
@@ -88,17 +200,15 @@ public class ChatRoomService {
                         roomImageUrl = opponentInfo.ImageUrl();
                     }
 
-                    return new ChatRoomSummaryResponse(
+                    return ChatInboxStore.Entry.of(
                             room.getId(),
                             roomName,
-                            lastMessageContent,
-                            lastMessageTime,
                             roomImageUrl,
-                            unreadCount,
+                            room.getLastMessagePreview(),
+                            room.getLastMessageAt(),
                             room.getParticipants().size()
                     );
                 })
-                .sorted(Comparator.comparing(ChatRoomSummaryResponse::lastMessageTime, Comparator.nullsLast(Comparator.reverseOrder())))
                 .toList();
     }
 
@@ -134,6 +244,7 @@ public class ChatRoomService {
 
         if (currentParticipant.isPresent() && currentParticipant.get().getStatus() == ChatParticipantStatus.LEFT) {
             currentParticipant.get().reJoin();
+            eventPublisher.publishEvent(new ChatRoomChangedEvent(room.getId(), currentUserId, ChatRoomChangedEvent.Type.REJOINED));
         }
         return room;
     }
@@ -148,7 +259,10 @@ public class ChatRoomService {
         newRoom.addParticipant(participant1);
         newRoom.addParticipant(participant2);
 
-        return chatRoomRepo.save(newRoom);
+        ChatRoom savedRoom = chatRoomRepo.save(newRoom);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(savedRoom.getId(), userId1, ChatRoomChangedEvent.Type.JOINED));
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(savedRoom.getId(), userId2, ChatRoomChangedEvent.Type.JOINED));
+        return savedRoom;
     }
 
     /**
@@ -176,6 +290,7 @@ public class ChatRoomService {
         }
 
         participant.leave();
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, userId, ChatRoomChangedEvent.Type.LEFT));
         deleteRoomIfEmpty(roomId);
     }
     /**
@@ -189,8 +304,16 @@ public class ChatRoomService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
         long remainingActiveParticipants = chatParticipantRepository.countByChatRoomIdAndStatus(roomId, ChatParticipantStatus.ACTIVE);
         if (remainingActiveParticipants == 0) {
+            List<Long> memberIds = room.getParticipants().stream()
+                    .map(ChatParticipant::getUserId)
+                    .distinct()
+                    .toList();
             chatMessageRepo.deleteByChatRoomId(roomId);
+            coldStorage.deleteRoom(roomId);
             chatRoomRepo.delete(room);
+            eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, null, ChatRoomChangedEvent.Type.DELETED));
+            memberIds.forEach(memberId ->
+                    eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, memberId, ChatRoomChangedEvent.Type.DELETED)));
         }
     }
 
@@ -227,64 +350,34 @@ public class ChatRoomService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @apiNote 사용자별 채팅방 이름 색인({@link ChatRoomNameIndex})에서 이름이 맞는 채팅방을 먼저 고른 뒤,
+     * 그 채팅방만 상대방 정보, 채팅방 이미지, 미읽음 개수로 꾸밉니다.
+     * 이름 또는 단어의 시작과 맞는 채팅방이 먼저 오고, 같은 그룹 안에서는 마지막 메시지 시각 내림차순입니다.
+     */
     @Transactional(readOnly = true)
     public List<ChatRoomSummaryResponse> searchRoomsByRoomName(Long userId, String roomNameKeyword) {
-        List<ChatRoom> allActiveRooms = chatRoomRepo.findActiveChatRoomsByUserId(userId, ChatParticipantStatus.ACTIVE);
-        if (allActiveRooms.isEmpty()) {
+        List<ChatRoomNameIndex.Match> matches = roomNameIndex.search(userId, roomNameKeyword);
+        if (matches.isEmpty()) {
             return List.of();
         }
 
-        List<Long> opponentUserIds = new ArrayList<>();
-        List<Long> groupRoomIds = new ArrayList<>();
-        Map<Long, Long> roomToOpponentIdMap = new HashMap<>();
-
-        for (ChatRoom room : allActiveRooms) {
-            if (room.getGroup()) {
-                groupRoomIds.add(room.getId());
-            } else {
-                room.getParticipants().stream()
-                        .map(ChatParticipant::getUserId)
-                        .filter(participantId -> !participantId.equals(userId))
-                        .findFirst()
-                        .ifPresent(opponentId -> {
-                            opponentUserIds.add(opponentId);
-                            roomToOpponentIdMap.put(room.getId(), opponentId);
-                        });
-            }
+        List<Long> matchedRoomIds = matches.stream().map(ChatRoomNameIndex.Match::roomId).toList();
+        Set<Long> prefixMatchedRoomIds = matches.stream()
+                .filter(ChatRoomNameIndex.Match::prefix)
+                .map(ChatRoomNameIndex.Match::roomId)
+                .collect(Collectors.toSet());
+        List<ChatRoom> rooms = chatRoomRepo.findActiveChatRoomsByUserIdAndIdIn(userId, ChatParticipantStatus.ACTIVE, matchedRoomIds);
+        if (rooms.isEmpty()) {
+            return List.of();
         }
 
-
-        Map<Long, UserResponseDto> opponentInfoMap = userClient.getUsersInfo(opponentUserIds).stream()
-                .collect(Collectors.toMap(UserResponseDto::userId, Function.identity()));
-        Map<Long, String> groupRoomImageMap = userClient.getImagesForChatRooms(groupRoomIds).stream()
-                .collect(Collectors.toMap(ImageDto::relatedId, ImageDto::imageUrl));
-
-        return allActiveRooms.stream()
-                .map(room -> {
-                    String lastMessageContent = getLastMessageContent(room.getId());
-                    Instant lastMessageTime   = getLastMessageTime(room.getId());
-                    int unreadCount           = countUnreadMessages(room.getId(), userId);
-                    String calculatedRoomName;
-                    String roomImageUrl;
-
-                    if (room.getGroup()) {
-                        calculatedRoomName = room.getRoomName();
-                        roomImageUrl = groupRoomImageMap.get(room.getId());
-                    } else {
-                        Long opponentId = roomToOpponentIdMap.get(room.getId());
-                        UserResponseDto opponentInfo = opponentInfoMap.getOrDefault(opponentId, UserResponseDto.unknown());
-                        calculatedRoomName = opponentInfo.firstName() + " " + opponentInfo.lastName();
-                        roomImageUrl = opponentInfo.ImageUrl();
-                    }
-
-                    return new ChatRoomSummaryResponse(
-                            room.getId(), calculatedRoomName, lastMessageContent, lastMessageTime,
-                            roomImageUrl, unreadCount, room.getParticipants().size()
-                    );
-                })
-                .filter(summary -> summary.roomName() != null &&
-                        summary.roomName().toLowerCase().contains(roomNameKeyword.toLowerCase()))
-                .sorted(Comparator.comparing(ChatRoomSummaryResponse::lastMessageTime, Comparator.nullsLast(Comparator.reverseOrder())))
+        List<ChatInboxStore.Entry> entries = toInboxEntries(userId, rooms);
+        Map<Long, Integer> unreadCounts = unreadCounterService.countUnread(userId,
+                entries.stream().map(ChatInboxStore.Entry::roomId).toList());
+        return entries.stream()
+                .sorted(Comparator.comparing((ChatInboxStore.Entry entry) -> !prefixMatchedRoomIds.contains(entry.roomId())))
+                .map(entry -> entry.toSummary(unreadCounts.getOrDefault(entry.roomId(), 0)))
                 .toList();
     }
 
@@ -293,6 +386,7 @@ public class ChatRoomService {
         ChatParticipant participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_CHAT_PARTICIPANT));
         participant.toggleTranslation(enable);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, userId, ChatRoomChangedEvent.Type.TRANSLATION_TOGGLED));
     }
 
     public ChatRoom getChatRoomById(Long roomId) {
@@ -300,32 +394,4 @@ public class ChatRoomService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
-
-    // 마지막 메시지 내용
-    private String getLastMessageContent(Long roomId) {
-        return chatMessageRepo.findTopByChatRoomIdOrderBySentAtDesc(roomId)
-                .map(ChatMessage::getContent)
-                .orElse(null);
-    }
-
-    // 마지막 메시지 시간
-    private Instant getLastMessageTime(Long roomId) {
-        return chatMessageRepo.findTopByChatRoomIdOrderBySentAtDesc(roomId)
-                .map(ChatMessage::getSentAt)
-                .orElse(null);
-    }
-
-    // 특정 사용자의 미읽음 개수
-    private int countUnreadMessages(Long roomId, Long userId) {
-        String lastReadId = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
-                .map(ChatParticipant::getLastReadMessageId)
-                .orElse(null);
-
-        if (lastReadId == null) {
-            return chatMessageRepo.countByChatRoomIdAndSenderIdNot(roomId, userId);
-        } else {
-            return chatMessageRepo.countByChatRoomIdAndIdGreaterThanAndSenderIdNot(roomId, lastReadId, userId);
-        }
-    }
-
 }
\ No newline at end of file
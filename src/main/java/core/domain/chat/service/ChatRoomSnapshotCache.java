@@ -0,0 +1,112 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.cache.LruCache;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 채팅방 스냅샷(그룹 여부, 방장, 이름, 참여자 상태/번역 설정)의 프로세스 내 캐시입니다.
+ *
+ * @apiNote 참여/나가기/재참여/번역 설정 변경/채팅방 삭제 시 발행되는 {@link ChatRoomChangedEvent}를
+ * 트랜잭션 커밋 이후에 받아 해당 채팅방을 무효화하고, 같은 내용을 Redis 채널로 전파하여 다른 노드의 캐시도 비웁니다.
+ * 캐시 크기와 유효 시간은 chat.room-cache.max-size, chat.room-cache.ttl 로 조정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSnapshotCache implements MessageListener {
+
+    static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("chat-room-invalidation");
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.room-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${chat.room-cache.ttl:PT5M}")
+    private Duration ttl;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private LruCache<Long, ChatRoomSnapshot> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new LruCache<>("chat.room-snapshot", maxSize, ttl, meterRegistry);
+        redisContainer.addMessageListener(this, INVALIDATION_TOPIC);
+    }
+
+    /**
+     * @param roomId 채팅방 ID
+     * @return 채팅방 스냅샷
+     * @throws BusinessException 채팅방이 없을 때 발생
+     */
+    public ChatRoomSnapshot get(Long roomId) {
+        ChatRoomSnapshot snapshot = cache.getOrLoad(roomId, id -> chatRoomRepository.findByIdWithParticipants(id)
+                .map(ChatRoomSnapshot::from)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 이 노드와 다른 노드의 캐시에서 채팅방을 제거합니다.
+     */
+    public void invalidate(Long roomId) {
+        cache.invalidate(roomId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC.getTopic(), nodeId + ":" + roomId);
+        } catch (DataAccessException e) {
+            log.warn("채팅방 캐시 무효화 전파 실패, 다른 노드는 TTL 만료 후 갱신됩니다: roomId={}", roomId, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        if (event.type() == ChatRoomChangedEvent.Type.DELETED && event.userId() != null) {
+            return;
+        }
+        invalidate(event.roomId());
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 메시지를 처리합니다. 자신이 보낸 메시지는 무시합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            cache.invalidate(Long.valueOf(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 채팅방 캐시 무효화 메시지: {}", body);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.global.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 토픽(/topic/rooms/{roomId}/**) 구독 요청이 해당 채팅방 참여자의 것인지 확인합니다.
+ *
+ * @apiNote 채팅방 토픽 전송 모드에서는 메시지 본문이 채팅방 토픽으로 발행되므로,
+ * STOMP SUBSCRIBE 시점에 참여 중인(나가지 않은) 사용자만 구독할 수 있도록 막습니다.
+ * 참여 여부는 채팅방 스냅샷 캐시로 확인합니다.
+ * chat.delivery.room-topic.enabled=false 이면 채팅방 토픽으로는 삭제·읽음 알림만 발행되므로 기존처럼 구독을 막지 않습니다.
+ * <p>
+ * SimpleBroker 는 구독 목적지를 Ant 패턴으로 비교하므로 /topic/rooms/** 같은 와일드카드 구독은 모든 채팅방과 사용자 토픽을 받습니다.
+ * 그래서 전송 모드와 관계없이 /topic 아래의 패턴 문자(*, ?, {)가 들어간 구독은 모두 거부합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSubscriptionGuard {
+
+    private static final String TOPIC_PREFIX = "/topic";
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/rooms/(\\d+)(/.*)?$");
+    private static final Pattern PATTERN_CHARACTERS = Pattern.compile("[*?{]");
+
+    private final ChatRoomSnapshotCache roomSnapshotCache;
+
+    @Value("${chat.delivery.room-topic.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * @param userId      구독을 요청한 사용자 ID (인증되지 않았으면 null)
+     * @param destination 구독 목적지
+     * @throws AccessDeniedException 토픽 목적지가 패턴이거나, 채팅방 토픽 전송 모드에서 채팅방 토픽인데 참여 중인 사용자가 아닐 때 발생
+     */
+    public void checkSubscribe(Long userId, String destination) {
+        if (destination == null) {
+            return;
+        }
+        if (destination.startsWith(TOPIC_PREFIX) && PATTERN_CHARACTERS.matcher(destination).find()) {
+            log.warn("패턴 토픽 구독 거부: userId={}, destination={}", userId, destination);
+            throw new AccessDeniedException("토픽은 패턴으로 구독할 수 없습니다.");
+        }
+        if (!enabled) {
+            return;
+        }
+        Matcher matcher = ROOM_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            return;
+        }
+        if (userId == null) {
+            throw new AccessDeniedException("인증되지 않은 채팅방 구독 요청입니다.");
+        }
+
+        Long roomId = Long.valueOf(matcher.group(1));
+        boolean activeMember;
+        try {
+            activeMember = roomSnapshotCache.get(roomId).member(userId)
+                    .filter(member -> !member.isLeft())
+                    .isPresent();
+        } catch (BusinessException e) {
+            activeMember = false;
+        }
+        if (!activeMember) {
+            log.warn("채팅방 토픽 구독 거부: userId={}, destination={}", userId, destination);
+            throw new AccessDeniedException("채팅방 참여자만 구독할 수 있습니다.");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 채팅방 요약(/topic/user/{id}/rooms) 전송을 모아서 보내는 코얼레서입니다.
+ *
+ * @apiNote (사용자, 채팅방)마다 가장 최근 요약만 보관하고, chat.summary.flush-interval-ms 마다 한 번씩 전송합니다.
+ * 미읽음 개수는 전송 시점에 다시 읽으므로 항상 최신 값이 전달됩니다.
+ * 전송 전에 더 새로운 요약으로 대체된 요약 수는 chat.summary.suppressed, 실제 전송 수는 chat.summary.sent 로 기록합니다.
+ * chat.summary.coalesce.enabled=false 이면 요약을 즉시 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomSummaryCoalescer {
+
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatPayloadBroadcaster payloadBroadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.summary.coalesce.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.summary.flush-interval-ms:250}")
+    private long flushIntervalMs;
+
+    private final ConcurrentHashMap<SummaryKey, PendingSummary> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+    private Counter suppressed;
+    private Counter sent;
+
+    @PostConstruct
+    void init() {
+        suppressed = Counter.builder("chat.summary.suppressed").register(meterRegistry);
+        sent = Counter.builder("chat.summary.sent").register(meterRegistry);
+        if (enabled) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chat-summary-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+
+    /**
+     * 요약 전송을 예약합니다. 아직 전송되지 않은 같은 (사용자, 채팅방)의 요약은 이 요약으로 대체됩니다.
+     *
+     * @param userId             요약을 받을 사용자 ID
+     * @param room               채팅방 스냅샷
+     * @param roomName           사용자에게 보여 줄 채팅방 이름
+     * @param roomImageUrl       사용자에게 보여 줄 채팅방 이미지
+     * @param lastMessageContent 마지막 메시지 내용
+     * @param lastMessageTime    마지막 메시지 시각
+     */
+    public void submit(Long userId, ChatRoomSnapshot room, String roomName, String roomImageUrl,
+                       String lastMessageContent, Instant lastMessageTime) {
+        PendingSummary summary = new PendingSummary(room, roomName, roomImageUrl, lastMessageContent, lastMessageTime);
+        if (!enabled) {
+            send(userId, summary, new HashMap<>());
+            return;
+        }
+        if (pending.put(new SummaryKey(userId, room.roomId()), summary) != null) {
+            suppressed.increment();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("채팅방 요약 전송 실패", e);
+        }
+    }
+
+    private void flush() {
+        Map<SummaryVariant, byte[]> encoded = new HashMap<>();
+        for (SummaryKey key : pending.keySet()) {
+            PendingSummary summary = pending.remove(key);
+            if (summary != null) {
+                send(key.userId(), summary, encoded);
+            }
+        }
+    }
+
+    private void send(Long userId, PendingSummary summary, Map<SummaryVariant, byte[]> encoded) {
+        int unreadCount = unreadCounterService.countUnread(summary.room().roomId(), userId);
+        byte[] payload = encoded.computeIfAbsent(SummaryVariant.of(summary, unreadCount), variant ->
+                payloadBroadcaster.encode(ChatRoomSummaryResponse.from(
+                        summary.room(),
+                        summary.lastMessageContent(),
+                        summary.lastMessageTime(),
+                        unreadCount,
+                        summary.roomName(),
+                        summary.roomImageUrl()
+                )));
+        payloadBroadcaster.send("/topic/user/" + userId + "/rooms", payload);
+        sent.increment();
+    }
+
+    private record SummaryKey(Long userId, Long roomId) {
+    }
+
+    private record PendingSummary(ChatRoomSnapshot room, String roomName, String roomImageUrl,
+                                  String lastMessageContent, Instant lastMessageTime) {
+    }
+
+    /**
+     * 전송할 요약 JSON을 결정하는 값만 담은 키입니다. 스냅샷 전체를 비교하지 않도록 참여자 목록 대신 참여자 수만 담습니다.
+     */
+    private record SummaryVariant(Long roomId, String roomName, String roomImageUrl, String lastMessageContent,
+                                  Instant lastMessageTime, int unreadCount, int participantCount) {
+
+        private static SummaryVariant of(PendingSummary summary, int unreadCount) {
+            return new SummaryVariant(
+                    summary.room().roomId(),
+                    summary.roomName(),
+                    summary.roomImageUrl(),
+                    summary.lastMessageContent(),
+                    summary.lastMessageTime(),
+                    unreadCount,
+                    summary.room().participants().size()
+            );
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatSendContext;
+import core.domain.chat.dto.SendMessageRequest;
+import core.domain.chat.entity.ChatMessage;
+import core.global.concurrent.KeyedSerialExecutor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 메시지 전송을 저장 → 보강 → 번역 → 전파 네 단계로 나누어 처리하는 파이프라인입니다.
+ *
+ * @apiNote STOMP inbound 스레드는 저장 단계가 끝날 때까지만 기다리고, 메시지가 저장되면 곧바로 돌아갑니다.
+ * 모든 단계는 단계별 유한 스레드 풀에서 채팅방별 순서대로 실행됩니다.
+ * 저장 단계는 메시지 저장과 보강 단계 예약을 한 작업 안에서 하므로, 같은 채팅방의 메시지는 저장된 순서(_id, seq)대로
+ * 다음 단계에 들어가고 모든 단계에서 그 순서가 유지됩니다.
+ * 파이프라인이 종료된 뒤 들어온 작업은 실행하지 않고 RejectedExecutionException으로 실패시킵니다.
+ * 단계별 대기 작업 수(chat.send.stage.queue)와 처리 시간(chat.send.stage.latency)을 메트릭으로 노출합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSendPipeline {
+
+    private final ChatMessageService chatMessageService;
+    private final ChatRoomActorRegistry roomActors;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.pipeline.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.pipeline.persist-threads:8}")
+    private int persistThreads;
+
+    @Value("${chat.pipeline.enrich-threads:4}")
+    private int enrichThreads;
+
+    @Value("${chat.pipeline.translate-threads:8}")
+    private int translateThreads;
+
+    @Value("${chat.pipeline.fan-out-threads:4}")
+    private int fanOutThreads;
+
+    @Value("${chat.pipeline.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private Stage persistStage;
+    private Stage enrichStage;
+    private Stage translateStage;
+    private Stage fanOutStage;
+
+    @PostConstruct
+    void init() {
+        persistStage = new Stage("persist", persistThreads);
+        enrichStage = new Stage("enrich", enrichThreads);
+        translateStage = new Stage("translate", translateThreads);
+        fanOutStage = new Stage("fan-out", fanOutThreads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        List<Stage> stages = List.of(persistStage, enrichStage, translateStage, fanOutStage);
+        for (Stage stage : stages) {
+            stage.pool.shutdown();
+        }
+        for (Stage stage : stages) {
+            try {
+                stage.pool.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 메시지를 저장한 뒤 나머지 단계를 비동기로 예약합니다.
+     * 저장이 실패하면 예외가 호출자에게 그대로 전달됩니다.
+     *
+     * @param req 전송 메시지 요청 (roomId, senderId, content)
+     * @return 전파 단계까지 끝나면 완료되는 Future
+     * @throws java.util.concurrent.RejectedExecutionException 파이프라인이 종료된 뒤 호출되었을 때 발생
+     */
+    public CompletableFuture<Void> submit(SendMessageRequest req) {
+        if (!enabled) {
+            chatMessageService.processAndSendChatMessage(req);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            return persistStage.submit(req.roomId(), () -> deliver(persist(req))).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 저장된 메시지의 보강 → 번역 → 전파 단계를 예약합니다. 저장 단계 작업 안에서 호출되므로 채팅방별로 저장된 순서대로 예약됩니다.
+     */
+    private CompletableFuture<Void> deliver(ChatMessage savedMessage) {
+        Long roomId = savedMessage.getChatRoomId();
+
+        return enrichStage.submit(roomId, () -> chatMessageService.enrichForSend(savedMessage))
+                .thenCompose(context -> context.isPresent()
+                        ? translateStage.submit(roomId, () -> Optional.of(chatMessageService.translateForSend(context.get())))
+                        : CompletableFuture.completedFuture(Optional.<ChatSendContext>empty()))
+                .thenCompose(context -> context.isPresent()
+                        ? fanOutStage.<Void>submit(roomId, () -> {
+                            chatMessageService.fanOut(context.get());
+                            return null;
+                        })
+                        : CompletableFuture.<Void>completedFuture(null))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error("메시지 전송 파이프라인 처리 실패: roomId={}, messageId={}", roomId, savedMessage.getId(), error);
+                    }
+                });
+    }
+
+    /**
+     * [전송 파이프라인 1단계] 방 액터 모드가 켜져 있으면 액터의 메일박스를 거쳐 순번과 함께 저장합니다.
+     */
+    private ChatMessage persist(SendMessageRequest req) {
+        if (roomActors.isEnabled()) {
+            return roomActors.persist(req);
+        }
+        return chatMessageService.saveMessage(req.roomId(), req.senderId(), req.content());
+    }
+
+    /**
+     * 파이프라인의 한 단계입니다. 유한 큐를 가진 스레드 풀 위에서 채팅방별 순서를 보장합니다.
+     * 큐가 가득 차면 작업을 넘긴 스레드가 직접 실행하여 앞 단계에 역압(backpressure)을 겁니다.
+     * 스레드 풀이 종료된 뒤에는 작업을 거절하므로, 작업의 Future는 RejectedExecutionException으로 실패합니다.
+     */
+    private final class Stage {
+        private final ThreadPoolExecutor pool;
+        private final KeyedSerialExecutor<Long> executor;
+        private final Timer latency;
+
+        private Stage(String name, int threads) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(
+                    threads, threads, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "chat-send-" + name + "-" + threadIndex.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("전송 파이프라인 " + name + " 단계가 종료되었습니다.");
+                        }
+                        runnable.run();
+                    }
+            );
+            this.executor = new KeyedSerialExecutor<>(pool);
+            this.latency = Timer.builder("chat.send.stage.latency").tag("stage", name).register(meterRegistry);
+            Gauge.builder("chat.send.stage.queue", executor, KeyedSerialExecutor::pendingCount)
+                    .tag("stage", name)
+                    .register(meterRegistry);
+        }
+
+        private <T> CompletableFuture<T> submit(Long roomId, Supplier<T> task) {
+            return executor.submit(roomId, () -> latency.record(task));
+        }
+    }
+}
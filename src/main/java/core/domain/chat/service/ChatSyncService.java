@@ -0,0 +1,294 @@
+package core.domain.chat.service;
+
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.ChatSyncRequest;
+import core.domain.chat.dto.ChatSyncResponse;
+import core.domain.chat.dto.ReadStatusResponse;
+import core.domain.chat.dto.UserResponseDto;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageTombstone;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageTombstoneRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.enums.ChatParticipantStatus;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import core.global.service.TranslationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 재연결한 클라이언트에게 참여 중인 모든 채팅방의 변경 사항을 한 번에 전달합니다.
+ *
+ * @apiNote 채팅방별 기준점은 요청의 마지막으로 받은 메시지 ID, 없으면 syncToken(직전 동기화 시각)입니다.
+ * 기준점 이후의 새 메시지, 삭제된 메시지 ID(chat_message_tombstones), 참여자별 현재 읽음 위치, 미읽음 개수를 반환합니다.
+ * 읽음 위치는 읽음 처리 시각을 따로 저장하지 않으므로 기준점 이후 바뀐 것만이 아니라 참여 중인 모든 참여자의 현재 값을 보내며,
+ * 클라이언트는 이 값으로 읽음 표시를 덮어쓰면 됩니다.
+ * 채팅방별 새 메시지 조회는 가상 스레드에서 동시에 실행하고, 삭제 기록과 미읽음 개수는 모든 채팅방을 한 번에 조회합니다.
+ * 채팅방이 많은 사용자나 동시 재연결이 MongoDB 커넥션 풀을 다 쓰지 않도록, 모든 동기화 요청을 합쳐
+ * 동시에 실행하는 채팅방별 조회는 chat.sync.max-concurrent-queries 개로 제한합니다.
+ * 미읽음 개수는 채팅방 목록과 같이 chat.unread.count-cap 으로 제한됩니다.
+ * 기준점이 없거나, 삭제 기록 보관 기간({@link ChatMessageTombstone#RETENTION})보다 오래되었거나,
+ * 새 메시지가 chat.sync.max-messages-per-room 개를 넘으면 해당 채팅방은 reset 으로 응답하여 처음부터 다시 불러오게 합니다.
+ * 메시지 ID는 각 노드 시계로 만들어지므로 syncToken 기준점은 chat.sync.clock-skew 만큼 앞당겨 비교하며,
+ * 이 때문에 이미 받은 메시지가 다시 올 수 있으므로 클라이언트는 메시지 ID로 중복을 제거해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSyncService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageTombstoneRepository tombstoneRepository;
+    private final ChatRoomSnapshotCache roomSnapshotCache;
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatReadFanIn readFanIn;
+    private final UserClient userClient;
+    private final TranslationService translationService;
+
+    @Value("${chat.sync.max-messages-per-room:100}")
+    private int maxMessagesPerRoom;
+
+    @Value("${chat.sync.clock-skew:PT5S}")
+    private Duration clockSkew;
+
+    @Value("${chat.sync.max-concurrent-queries:16}")
+    private int maxConcurrentQueries;
+
+    private final ExecutorService queryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore querySlots;
+
+    @PostConstruct
+    void init() {
+        querySlots = new Semaphore(maxConcurrentQueries);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        queryExecutor.close();
+    }
+
+    /**
+     * @param userId  요청한 사용자 ID
+     * @param request 기준점 정보
+     * @return 채팅방별 변경 사항과 다음 동기화 토큰
+     * @throws BusinessException syncToken 이 올바르지 않으면 INVALID_CURSOR
+     */
+    @Transactional(readOnly = true)
+    public ChatSyncResponse sync(Long userId, ChatSyncRequest request) {
+        Instant now = Instant.now();
+        Instant tokenTime = decodeSyncToken(request.syncToken());
+        Map<Long, String> lastSeen = request.lastSeenMessageIds() == null ? Map.of() : request.lastSeenMessageIds();
+
+        List<ChatRoom> rooms = chatRoomRepository.findActiveChatRoomsByUserId(userId, ChatParticipantStatus.ACTIVE);
+        Set<Long> activeRoomIds = rooms.stream().map(ChatRoom::getId).collect(Collectors.toSet());
+        List<Long> closedRoomIds = lastSeen.keySet().stream().filter(roomId -> !activeRoomIds.contains(roomId)).toList();
+        if (rooms.isEmpty()) {
+            return new ChatSyncResponse(encodeSyncToken(now), List.of(), closedRoomIds);
+        }
+
+        Map<Long, List<ChatMessage>> newMessages = new LinkedHashMap<>();
+        Map<Long, Boolean> translateEnabled = new HashMap<>();
+        Map<Long, CompletableFuture<List<ChatMessage>>> pendingMessages = new LinkedHashMap<>();
+        Map<Long, Instant> deletedAfterByRoom = new HashMap<>();
+        for (ChatRoom room : rooms) {
+            Long roomId = room.getId();
+            ChatRoomSnapshot.Member member = roomSnapshotCache.get(roomId).member(userId).orElse(null);
+            if (member == null) {
+                continue;
+            }
+            translateEnabled.put(roomId, member.translateEnabled());
+
+            String since = sinceMessageId(lastSeen.get(roomId), tokenTime);
+            Instant deletedAfter = tokenTime != null ? tokenTime : since == null ? null : new ObjectId(since).getDate().toInstant();
+            newMessages.put(roomId, null);
+            if (since == null || deletedAfter.isBefore(now.minus(ChatMessageTombstone.RETENTION))) {
+                continue;
+            }
+            deletedAfterByRoom.put(roomId, deletedAfter.minus(clockSkew));
+            pendingMessages.put(roomId, CompletableFuture.supplyAsync(() -> findNewMessages(roomId, since), queryExecutor));
+        }
+        readFanIn.time(ChatReadFanIn.Phase.MESSAGES, () -> {
+            pendingMessages.forEach((roomId, future) -> {
+                List<ChatMessage> messages = future.join();
+                newMessages.put(roomId, messages.size() > maxMessagesPerRoom ? null : messages);
+            });
+            return null;
+        });
+        Map<Long, List<String>> deletions = findDeletions(deletedAfterByRoom);
+
+        boolean anyTranslation = newMessages.entrySet().stream()
+                .anyMatch(entry -> entry.getValue() != null && !entry.getValue().isEmpty()
+                        && translateEnabled.getOrDefault(entry.getKey(), false));
+        CompletableFuture<UserResponseDto> currentUserFuture = null;
+        if (anyTranslation) {
+            currentUserFuture = readFanIn.call(ChatReadFanIn.Phase.PROFILE, () -> userClient.getUserProfile(userId));
+        }
+
+        Map<String, String> translations = translate(newMessages, translateEnabled, currentUserFuture);
+        Map<Long, UserResponseDto> senders = resolveSenders(newMessages);
+        Map<Long, Integer> unreadCounts = unreadCounterService.countUnread(userId, new ArrayList<>(newMessages.keySet()));
+        Map<Long, List<ReadStatusResponse>> readStates = chatParticipantRepository.findByChatRoomIdIn(newMessages.keySet()).stream()
+                .filter(participant -> participant.getStatus() == ChatParticipantStatus.ACTIVE && participant.getLastReadMessageId() != null)
+                .collect(Collectors.groupingBy(participant -> participant.getChatRoom().getId(),
+                        Collectors.mapping(this::toReadStatus, Collectors.toList())));
+
+        List<ChatSyncResponse.RoomDelta> deltas = new ArrayList<>(newMessages.size());
+        newMessages.forEach((roomId, messages) -> {
+            List<ChatMessageResponse> responses = messages == null ? List.of() : messages.stream()
+                    .map(message -> ChatMessageResponse.from(
+                            message,
+                            senders.getOrDefault(message.getSenderId(), UserResponseDto.unknown()),
+                            translations.get(message.getId())))
+                    .toList();
+            deltas.add(new ChatSyncResponse.RoomDelta(
+                    roomId,
+                    messages == null,
+                    responses,
+                    messages == null ? List.of() : deletions.getOrDefault(roomId, List.of()),
+                    readStates.getOrDefault(roomId, List.of()),
+                    unreadCounts.getOrDefault(roomId, 0)
+            ));
+        });
+        return new ChatSyncResponse(encodeSyncToken(now), deltas, closedRoomIds);
+    }
+
+    /**
+     * 기준 메시지 이후의 새 메시지를 최대 chat.sync.max-messages-per-room + 1 개 조회합니다. 조회 슬롯이 날 때까지 기다립니다.
+     */
+    private List<ChatMessage> findNewMessages(Long roomId, String since) {
+        querySlots.acquireUninterruptibly();
+        try {
+            return chatMessageRepository.findByChatRoomIdAndIdGreaterThan(
+                    roomId, since, PageRequest.of(0, maxMessagesPerRoom + 1, Sort.by(Sort.Direction.ASC, "id")));
+        } finally {
+            querySlots.release();
+        }
+    }
+
+    /**
+     * 채팅방별 삭제 기록을 한 번에 조회하고, 채팅방마다 자신의 기준 시각 이후 기록만 남깁니다.
+     */
+    private Map<Long, List<String>> findDeletions(Map<Long, Instant> deletedAfterByRoom) {
+        if (deletedAfterByRoom.isEmpty()) {
+            return Map.of();
+        }
+        Instant earliest = Collections.min(deletedAfterByRoom.values());
+        Map<Long, List<String>> deletions = new HashMap<>();
+        for (ChatMessageTombstone tombstone : tombstoneRepository.findByChatRoomIdInAndDeletedAtAfter(deletedAfterByRoom.keySet(), earliest)) {
+            Instant deletedAfter = deletedAfterByRoom.get(tombstone.getChatRoomId());
+            if (deletedAfter != null && tombstone.getDeletedAt().isAfter(deletedAfter)) {
+                deletions.computeIfAbsent(tombstone.getChatRoomId(), roomId -> new ArrayList<>()).add(tombstone.getMessageId());
+            }
+        }
+        return deletions;
+    }
+
+    /**
+     * 채팅방별 기준 메시지 ID를 정합니다. 마지막으로 받은 메시지 ID가 우선이고, 없으면 syncToken 시각으로 만든 ID입니다.
+     */
+    private String sinceMessageId(String lastSeenMessageId, Instant tokenTime) {
+        if (lastSeenMessageId != null && ObjectId.isValid(lastSeenMessageId)) {
+            return lastSeenMessageId;
+        }
+        if (tokenTime != null) {
+            return ObjectId.getSmallestWithDate(Date.from(tokenTime.minus(clockSkew))).toHexString();
+        }
+        return null;
+    }
+
+    private Map<String, String> translate(Map<Long, List<ChatMessage>> newMessages, Map<Long, Boolean> translateEnabled,
+                                          CompletableFuture<UserResponseDto> currentUserFuture) {
+        if (currentUserFuture == null) {
+            return Map.of();
+        }
+        UserResponseDto currentUser = readFanIn.await(currentUserFuture, UserResponseDto.unknown());
+        String targetLanguage = currentUser.translateLanguage();
+        if (targetLanguage == null || targetLanguage.isEmpty()) {
+            return Map.of();
+        }
+
+        List<ChatMessage> targets = newMessages.entrySet().stream()
+                .filter(entry -> entry.getValue() != null && translateEnabled.getOrDefault(entry.getKey(), false))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList();
+        List<String> originalContents = targets.stream().map(ChatMessage::getContent).toList();
+        List<String> translated = readFanIn.await(readFanIn.call(ChatReadFanIn.Phase.TRANSLATION,
+                () -> translationService.translateMessages(originalContents, targetLanguage)), null);
+        if (translated == null) {
+            return Map.of();
+        }
+        return IntStream.range(0, targets.size()).boxed()
+                .collect(Collectors.toMap(i -> targets.get(i).getId(), translated::get, (first, second) -> first));
+    }
+
+    private Map<Long, UserResponseDto> resolveSenders(Map<Long, List<ChatMessage>> newMessages) {
+        List<Long> senderIds = newMessages.values().stream()
+                .filter(messages -> messages != null)
+                .flatMap(List::stream)
+                .map(ChatMessage::getSenderId)
+                .distinct()
+                .toList();
+        if (senderIds.isEmpty()) {
+            return Map.of();
+        }
+        return readFanIn.await(readFanIn.call(ChatReadFanIn.Phase.SENDERS, () -> userClient.getUsersInfo(senderIds).stream()
+                .collect(Collectors.toMap(UserResponseDto::userId, Function.identity()))), Map.of());
+    }
+
+    private ReadStatusResponse toReadStatus(ChatParticipant participant) {
+        return new ReadStatusResponse(participant.getChatRoom().getId(), participant.getUserId(), participant.getLastReadMessageId());
+    }
+
+    private static String encodeSyncToken(Instant time) {
+        return CursorCodec.encode(Map.of("t", time.toEpochMilli()));
+    }
+
+    private static Instant decodeSyncToken(String syncToken) {
+        if (syncToken == null || syncToken.isBlank()) {
+            return null;
+        }
+        try {
+            if (CursorCodec.decode(syncToken).get("t") instanceof Number millis) {
+                return Instant.ofEpochMilli(millis.longValue());
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("동기화 토큰 디코딩 실패: {}", syncToken, e);
+        }
+        throw new BusinessException(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,144 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.dto.UnreadBadgeResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 전체 미읽음 개수(/topic/user/{id}/badge)를 모아서 보내는 퍼블리셔입니다.
+ *
+ * @apiNote 메시지 전송, 읽음 처리, 참여/나가기로 미읽음 개수가 바뀐 사용자를 모아 두고 chat.badge.flush-interval-ms 마다 한 번씩 처리하므로,
+ * 짧은 시간에 메시지가 몰려도 사용자당 한 번만 전송합니다.
+ * 합계는 {@link ChatUnreadCounterService#totalUnread(Long)}에서 읽고, 마지막으로 전송한 값과 같으면 전송하지 않습니다.
+ * 읽음 처리로 값이 지워진 채팅방은 전송 전에 다시 계산해 합계에 포함시킵니다.
+ * 실제 전송 수는 chat.badge.sent, 값이 같아 생략한 수는 chat.badge.unchanged 로 기록합니다.
+ * chat.badge.push.enabled=false 이면 전송하지 않고 REST 조회만 제공합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadBadgePublisher {
+
+    private final ChatUnreadCounterService unreadCounterService;
+    private final ChatPayloadBroadcaster payloadBroadcaster;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.badge.push.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.badge.flush-interval-ms:250}")
+    private long flushIntervalMs;
+
+    private final ConcurrentHashMap<Long, Set<Long>> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+    private Counter sent;
+    private Counter unchanged;
+
+    @PostConstruct
+    void init() {
+        sent = Counter.builder("chat.badge.sent").register(meterRegistry);
+        unchanged = Counter.builder("chat.badge.unchanged").register(meterRegistry);
+        if (enabled) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chat-badge-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+
+    /**
+     * 사용자의 배지 전송을 예약합니다.
+     *
+     * @param userId 배지를 받을 사용자 ID
+     * @param roomId 미읽음 개수가 바뀐 채팅방 ID (나간 채팅방처럼 다시 계산하지 않아야 하면 null)
+     */
+    public void submit(Long userId, Long roomId) {
+        if (!enabled) {
+            return;
+        }
+        pending.compute(userId, (id, roomIds) -> {
+            Set<Long> rooms = roomIds == null ? new HashSet<>() : roomIds;
+            if (roomId != null) {
+                rooms.add(roomId);
+            }
+            return rooms;
+        });
+    }
+
+    public void submit(Collection<Long> userIds, Long roomId) {
+        userIds.forEach(userId -> submit(userId, roomId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case JOINED, REJOINED -> submit(event.userId(), event.roomId());
+            case LEFT -> submit(event.userId(), null);
+            default -> {
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("미읽음 배지 전송 실패", e);
+        }
+    }
+
+    private void flush() {
+        for (Long userId : pending.keySet()) {
+            Set<Long> roomIds = pending.remove(userId);
+            if (roomIds == null) {
+                continue;
+            }
+            try {
+                publish(userId, roomIds);
+            } catch (RuntimeException e) {
+                log.warn("미읽음 배지 전송 실패: userId={}", userId, e);
+            }
+        }
+    }
+
+    private void publish(Long userId, Set<Long> roomIds) {
+        roomIds.forEach(roomId -> unreadCounterService.countUnread(roomId, userId));
+        int total = unreadCounterService.totalUnread(userId);
+        if (!unreadCounterService.markBadgeSent(userId, total)) {
+            unchanged.increment();
+            return;
+        }
+        payloadBroadcaster.send("/topic/user/" + userId + "/badge",
+                payloadBroadcaster.encode(new UnreadBadgeResponse(total)));
+        sent.increment();
+    }
+}
@@ -0,0 +1,439 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.concurrent.RedisLeaseLock;
+import core.global.enums.ChatParticipantStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 채팅방 미읽음 개수를 증분으로 관리하는 저장소입니다.
+ *
+ * @apiNote Redis에 사용자마다 해시(chat:unread:{userId})를 두고 필드는 채팅방 ID, 값은 미읽음 개수입니다.
+ * 메시지를 보내면 발신자를 제외한 참여자의 값을 한 번의 스크립트 호출로 1씩 올리고,
+ * 읽음 처리 시 값을 초기화합니다. 아직 값이 없는 (사용자, 채팅방)은 처음 조회할 때 MongoDB에서 계산해 채워 넣습니다.
+ * Redis에 접근할 수 없으면 노드 로컬 메모리에 같은 방식으로 기록하며,
+ * 어긋난 값은 주기적인 보정 작업(reconcile)이 MongoDB 기준으로 바로잡습니다.
+ * 보정 작업은 임대({@link RedisLeaseLock})를 잡은 한 노드만 Redis 값을 훑고, 훑던 위치(SCAN 커서)를
+ * chat:unread-reconcile:cursor 에 저장해 다음 실행 때 이어서 훑습니다. 노드 로컬 값은 각 노드가 보정합니다.
+ * <p>
+ * 같은 해시의 _total 필드는 사용자의 전체 미읽음 개수(배지)입니다. 처음 조회할 때 참여 중인 모든 채팅방을 채운 뒤 합계로 만들고,
+ * 이후에는 채팅방 값을 바꾸는 모든 스크립트가 같은 호출 안에서 차이만큼 함께 바꿉니다.
+ * _badge 필드는 마지막으로 전송한 배지 값으로, 값이 바뀌었을 때만 배지를 전송하는 데 씁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCounterService {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String TOTAL_FIELD = "_total";
+    private static final String RECONCILE_CURSOR_KEY = "chat:unread-reconcile:cursor";
+    private static final String RECONCILE_LEASE = "unread-reconcile";
+
+    /**
+     * 이미 값이 있는 필드만 1 증가시킵니다. 값이 없는 필드는 다음 조회 때 원본에서 계산되므로 건드리지 않습니다.
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('HEXISTS', key, ARGV[1]) == 1 then " +
+            "    redis.call('HINCRBY', key, ARGV[1], 1) " +
+            "    if redis.call('HEXISTS', key, '_total') == 1 then redis.call('HINCRBY', key, '_total', 1) end " +
+            "  end " +
+            "end " +
+            "return #KEYS",
+            Long.class
+    );
+
+    /**
+     * 채팅방 값을 덮어쓰고 합계를 차이만큼 바꿉니다. ARGV[3]이 '1'이면 값이 없을 때만 씁니다.
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "local old = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if old and ARGV[3] == '1' then return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if redis.call('HEXISTS', KEYS[1], '_total') == 1 then " +
+            "  redis.call('HINCRBY', KEYS[1], '_total', tonumber(ARGV[2]) - tonumber(old or '0')) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 채팅방 값을 지우고 합계에서 뺍니다.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local old = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not old then return 0 end " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "if redis.call('HEXISTS', KEYS[1], '_total') == 1 then " +
+            "  redis.call('HINCRBY', KEYS[1], '_total', -tonumber(old)) " +
+            "end " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * 채팅방 값을 모두 더해 합계를 다시 씁니다. ARGV[1]이 '1'이 아니면 합계가 이미 있을 때만 씁니다.
+     *
+     * @return 합계. 쓰지 않았으면 -1
+     */
+    private static final RedisScript<Long> TOTAL_SCRIPT = new DefaultRedisScript<>(
+            "if ARGV[1] ~= '1' and redis.call('HEXISTS', KEYS[1], '_total') == 0 then return -1 end " +
+            "local sum = 0 " +
+            "local values = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #values, 2 do " +
+            "  if string.sub(values[i], 1, 1) ~= '_' then sum = sum + tonumber(values[i + 1]) end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], '_total', sum) " +
+            "return sum",
+            Long.class
+    );
+
+    /**
+     * 마지막으로 전송한 배지 값과 다를 때만 새 값으로 바꿉니다.
+     *
+     * @return 바꿨으면 1
+     */
+    private static final RedisScript<Long> BADGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], '_badge') == ARGV[1] then return 0 end " +
+            "redis.call('HSET', KEYS[1], '_badge', ARGV[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    /**
+     * KEYS[1]에 저장된 커서부터 SCAN 한 페이지를 읽고 다음 커서를 저장합니다. ARGV[1]은 패턴, ARGV[2]는 COUNT 입니다.
+     *
+     * @return {다음 커서, 키 목록}. 다음 커서가 0이면 한 바퀴를 다 돈 것입니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCAN_PAGE_SCRIPT = new DefaultRedisScript<>(
+            "local cursor = redis.call('GET', KEYS[1]) or '0' " +
+            "local page = redis.call('SCAN', cursor, 'MATCH', ARGV[1], 'COUNT', ARGV[2]) " +
+            "redis.call('SET', KEYS[1], page[1]) " +
+            "return page",
+            List.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLeaseLock leaseLock;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+
+    @Value("${chat.unread.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    @Value("${chat.unread.reconcile-lease-ttl:PT5M}")
+    private Duration reconcileLeaseTtl;
+
+    @Value("${chat.unread.count-cap:100}")
+    private int countCap;
+
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, Integer>> localCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 메시지 전송 시 수신자들의 미읽음 개수를 1씩 올립니다.
+     *
+     * @param roomId       메시지가 전송된 채팅방 ID
+     * @param recipientIds 발신자를 제외한 참여자 ID 목록
+     */
+    public void increment(Long roomId, Collection<Long> recipientIds) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = recipientIds.stream().map(this::key).toList();
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, keys, roomId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 카운터 증가 실패, 로컬 카운터를 사용합니다: roomId={}", roomId, e);
+            recipientIds.forEach(userId -> localRoomCounters(userId).computeIfPresent(roomId, (id, count) -> count + 1));
+        }
+    }
+
+    /**
+     * 채팅방의 모든 메시지를 읽은 경우 미읽음 개수를 0으로 만듭니다.
+     */
+    public void reset(Long roomId, Long userId) {
+        put(roomId, userId, 0);
+    }
+
+    /**
+     * 읽은 위치가 바뀌어 현재 값을 신뢰할 수 없을 때 값을 지웁니다. 다음 조회 때 원본에서 다시 계산됩니다.
+     */
+    public void evict(Long roomId, Long userId) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(userId)), roomId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 카운터 삭제 실패: roomId={}, userId={}", roomId, userId, e);
+        }
+        localRoomCounters(userId).remove(roomId);
+    }
+
+    /**
+     * 미읽음 개수를 반환합니다. 저장된 값이 없으면 MongoDB에서 계산하고 저장소에 채워 넣습니다.
+     */
+    public int countUnread(Long roomId, Long userId) {
+        OptionalInt cached = get(roomId, userId);
+        if (cached.isPresent()) {
+            return cached.getAsInt();
+        }
+        int count = countFromSource(roomId, userId);
+        seed(roomId, userId, count);
+        return count;
+    }
+
+    /**
+     * 한 사용자의 여러 채팅방 미읽음 개수를 한 번에 조회합니다. 저장된 값이 없는 채팅방만 MongoDB에서 한 번에 계산합니다.
+     * chat.unread.count-cap 이 있으면 값은 최대 cap 이며, cap 은 "cap-1+"(예: 99+)로 표시할 값입니다.
+     * 계산한 값은 모두 저장소에 채우며, cap 에 걸린 채팅방은 cap 값으로 채우고 보정 작업이 정확한 값으로 바로잡습니다.
+     *
+     * @return 채팅방 ID별 미읽음 개수
+     */
+    public Map<Long, Integer> countUnread(Long userId, List<Long> roomIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return counts;
+        }
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key(userId),
+                    roomIds.stream().<Object>map(Object::toString).toList());
+            for (int i = 0; i < roomIds.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    counts.put(roomIds.get(i), Integer.parseInt(value.toString()));
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 카운터 일괄 조회 실패, 로컬 카운터를 사용합니다: userId={}", userId, e);
+            Map<Long, Integer> local = localRoomCounters(userId);
+            roomIds.stream().filter(local::containsKey).forEach(roomId -> counts.put(roomId, local.get(roomId)));
+        }
+        List<Long> missing = roomIds.stream().filter(roomId -> !counts.containsKey(roomId)).toList();
+        if (!missing.isEmpty()) {
+            Map<Long, Integer> computed = countAllFromSource(userId, missing);
+            computed.forEach((roomId, count) -> seed(roomId, userId, countCap > 0 ? Math.min(count, countCap) : count));
+            counts.putAll(computed);
+        }
+        if (countCap > 0) {
+            counts.replaceAll((roomId, count) -> Math.min(count, countCap));
+        }
+        return counts;
+    }
+
+    /**
+     * 사용자의 전체 미읽음 개수(배지)를 반환합니다. 합계가 아직 없으면 참여 중인 모든 채팅방 값을 채운 뒤 만듭니다.
+     * 채팅방 값은 {@link #countUnread(Long, List)}가 채우므로 chat.unread.count-cap 에 걸린 채팅방은 cap 값으로 합계에 포함됩니다.
+     */
+    public int totalUnread(Long userId) {
+        try {
+            Object total = redisTemplate.opsForHash().get(key(userId), TOTAL_FIELD);
+            if (total != null) {
+                return Integer.parseInt(total.toString());
+            }
+            List<Long> roomIds = chatParticipantRepository.findChatRoomIdsByUserIdAndStatus(userId, ChatParticipantStatus.ACTIVE);
+            countUnread(userId, roomIds);
+            Long built = redisTemplate.execute(TOTAL_SCRIPT, List.of(key(userId)), "1");
+            return built == null ? 0 : built.intValue();
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 합계 조회 실패, 로컬 카운터를 사용합니다: userId={}", userId, e);
+            return localRoomCounters(userId).values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /**
+     * 배지 값을 전송한 값으로 기록합니다.
+     *
+     * @return 마지막으로 전송한 값과 달라 전송해야 하면 true. Redis에 접근할 수 없으면 항상 true
+     */
+    public boolean markBadgeSent(Long userId, int total) {
+        try {
+            Long changed = redisTemplate.execute(BADGE_SCRIPT, List.of(key(userId)), String.valueOf(total));
+            return changed != null && changed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("Redis 배지 전송 기록 실패: userId={}", userId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 여러 채팅방의 미읽음 개수를 참여 정보 조회 한 번과 MongoDB aggregation 한 번으로 계산합니다.
+     * 채팅방별로 chat.unread.count-cap 개까지만 셉니다.
+     */
+    public Map<Long, Integer> countAllFromSource(Long userId, Collection<Long> roomIds) {
+        Map<Long, String> lastReadIds = new HashMap<>();
+        roomIds.forEach(roomId -> lastReadIds.put(roomId, null));
+        chatParticipantRepository.findByUserIdAndChatRoomIdIn(userId, roomIds)
+                .forEach(participant -> lastReadIds.put(participant.getChatRoom().getId(), participant.getLastReadMessageId()));
+
+        Map<Long, Integer> counts = new HashMap<>();
+        roomIds.forEach(roomId -> counts.put(roomId, 0));
+        chatMessageRepository.countUnreadByRoom(userId, lastReadIds, countCap)
+                .forEach(unread -> counts.put(unread.roomId(), unread.unreadCount().intValue()));
+        return counts;
+    }
+
+    /**
+     * 참여자의 마지막 읽은 메시지를 기준으로 MongoDB에서 미읽음 개수를 직접 계산합니다.
+     */
+    public int countFromSource(Long roomId, Long userId) {
+        String lastReadId = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId)
+                .map(ChatParticipant::getLastReadMessageId)
+                .orElse(null);
+
+        if (lastReadId == null) {
+            return chatMessageRepository.countByChatRoomIdAndSenderIdNot(roomId, userId);
+        } else {
+            return chatMessageRepository.countByChatRoomIdAndIdGreaterThanAndSenderIdNot(roomId, lastReadId, userId);
+        }
+    }
+
+    /**
+     * 채팅방을 나가거나 채팅방이 삭제된 사용자의 값을 정리합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(ChatRoomChangedEvent event) {
+        if (event.type() == ChatRoomChangedEvent.Type.LEFT && event.userId() != null) {
+            evict(event.roomId(), event.userId());
+        }
+    }
+
+    /**
+     * 저장된 미읽음 개수를 MongoDB 기준으로 다시 계산하여 어긋난 값을 바로잡고, 검사한 사용자의 합계도 다시 계산합니다.
+     * Redis 값은 지난 실행이 멈춘 SCAN 커서부터 페이지 단위로 훑으며, 한 번에 chat.unread.reconcile-batch-size 개의
+     * (사용자, 채팅방)을 넘기면 그 페이지까지만 검사합니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        ReconcileStats shared = new ReconcileStats();
+        leaseLock.runExclusively(RECONCILE_LEASE, reconcileLeaseTtl, () -> reconcileShared(shared));
+        int checked = shared.checked;
+        int repaired = shared.repaired;
+
+        for (Map.Entry<Long, ConcurrentHashMap<Long, Integer>> userEntry : localCounters.entrySet()) {
+            for (Map.Entry<Long, Integer> roomEntry : new ArrayList<>(userEntry.getValue().entrySet())) {
+                if (reconcileOne(roomEntry.getKey(), userEntry.getKey(), roomEntry.getValue())) {
+                    repaired++;
+                }
+                checked++;
+            }
+        }
+
+        if (repaired > 0) {
+            log.info("미읽음 카운터 보정 완료: checked={}, repaired={}", checked, repaired);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void reconcileShared(ReconcileStats stats) {
+        try {
+            while (stats.checked < reconcileBatchSize) {
+                List<Object> page = redisTemplate.execute(SCAN_PAGE_SCRIPT, List.of(RECONCILE_CURSOR_KEY),
+                        KEY_PREFIX + "*", "100");
+                if (page == null || page.size() < 2) {
+                    return;
+                }
+                for (String key : (List<String>) page.get(1)) {
+                    reconcileUser(key, stats);
+                }
+                if ("0".equals(page.get(0))) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 카운터 보정 실패, 로컬 카운터만 보정합니다.", e);
+        }
+    }
+
+    private void reconcileUser(String key, ReconcileStats stats) {
+        Long userId = Long.valueOf(key.substring(KEY_PREFIX.length()));
+        Map<Object, Object> counters = redisTemplate.opsForHash().entries(key);
+        for (Map.Entry<Object, Object> entry : counters.entrySet()) {
+            if (entry.getKey().toString().startsWith("_")) {
+                continue;
+            }
+            Long roomId = Long.valueOf(entry.getKey().toString());
+            if (reconcileOne(roomId, userId, Integer.parseInt(entry.getValue().toString()))) {
+                stats.repaired++;
+            }
+            stats.checked++;
+        }
+        redisTemplate.execute(TOTAL_SCRIPT, List.of(key), "0");
+    }
+
+    private boolean reconcileOne(Long roomId, Long userId, int stored) {
+        Optional<ChatParticipant> participant = chatParticipantRepository.findByChatRoomIdAndUserId(roomId, userId);
+        if (participant.isEmpty() || participant.get().getStatus() == ChatParticipantStatus.LEFT) {
+            evict(roomId, userId);
+            return true;
+        }
+        int actual = countFromSource(roomId, userId);
+        if (actual != stored) {
+            put(roomId, userId, actual);
+            return true;
+        }
+        return false;
+    }
+
+    private OptionalInt get(Long roomId, Long userId) {
+        try {
+            Object value = redisTemplate.opsForHash().get(key(userId), roomId.toString());
+            return value == null ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(value.toString()));
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 카운터 조회 실패, 로컬 카운터를 사용합니다: roomId={}, userId={}", roomId, userId, e);
+            Integer local = localRoomCounters(userId).get(roomId);
+            return local == null ? OptionalInt.empty() : OptionalInt.of(local);
+        }
+    }
+
+    private void seed(Long roomId, Long userId, int count) {
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(userId)), roomId.toString(), String.valueOf(count), "1");
+        } catch (DataAccessException e) {
+            localRoomCounters(userId).putIfAbsent(roomId, count);
+        }
+    }
+
+    private void put(Long roomId, Long userId, int count) {
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(userId)), roomId.toString(), String.valueOf(count), "0");
+        } catch (DataAccessException e) {
+            log.warn("Redis 미읽음 카운터 저장 실패, 로컬 카운터를 사용합니다: roomId={}, userId={}", roomId, userId, e);
+            localRoomCounters(userId).put(roomId, count);
+        }
+    }
+
+    private ConcurrentHashMap<Long, Integer> localRoomCounters(Long userId) {
+        return localCounters.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static final class ReconcileStats {
+        private int checked;
+        private int repaired;
+    }
+}
@@ -13,6 +13,7 @@ import core.global.enums.ErrorCode;
 import core.global.enums.ImageType;
 import core.global.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +34,7 @@ public class GroupChatService {
     private final ChatParticipantRepository participantRepo;
     private final UserClient userClient;
     private final ChatParticipantRepository chatParticipantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 그룹 채팅방의 상세 정보를 조회합니다.
@@ -121,11 +123,13 @@ public class GroupChatService {
                                 throw new BusinessException(ErrorCode.ALREADY_CHAT_PARTICIPANT);
                             } else {
                                 participant.reJoin();
+                                eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, userId, ChatRoomChangedEvent.Type.REJOINED));
                             }
                         },
                         () -> {
                             ChatParticipant newParticipant = new ChatParticipant(room, userId);
                             participantRepo.save(newParticipant);
+                            eventPublisher.publishEvent(new ChatRoomChangedEvent(roomId, userId, ChatRoomChangedEvent.Type.JOINED));
                         }
                 );
     }
@@ -243,6 +247,7 @@ public class GroupChatService {
         ChatRoom savedRoom = chatRoomRepository.save(newRoom);
         ChatParticipant ownerParticipant = new ChatParticipant(savedRoom, userId);
         chatParticipantRepository.save(ownerParticipant);
+        eventPublisher.publishEvent(new ChatRoomChangedEvent(savedRoom.getId(), userId, ChatRoomChangedEvent.Type.JOINED));
 
         if (request.roomImageUrl() != null && !request.roomImageUrl().isBlank()) {
             userClient.upsertChatRoomImage(
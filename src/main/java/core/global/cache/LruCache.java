@@ -0,0 +1,135 @@
+package core.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 최대 개수(LRU)와 유효 시간(TTL)으로 제한되는 프로세스 내 캐시입니다.
+ *
+ * @apiNote 모든 연산은 캐시 단위로 동기화됩니다. 값을 읽어 오는 loader는 락 밖에서 실행되며,
+ * 로딩 중에 무효화가 일어나면 로딩 결과를 저장하지 않아 오래된 값이 다시 들어가지 않습니다.
+ * Micrometer 캐시 메트릭과 같은 이름(cache.gets, cache.evictions, cache.size)에 cache 태그를 붙여 기록합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * @param name          메트릭 태그로 쓰일 캐시 이름
+     * @param maxSize       최대 항목 수. 넘치면 가장 오래 사용되지 않은 항목부터 제거합니다.
+     * @param ttl           항목 유효 시간. null 또는 0이면 만료되지 않습니다.
+     * @param meterRegistry 메트릭 레지스트리
+     */
+    public LruCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttlNanos = (ttl == null || ttl.isZero()) ? 0 : ttl.toNanos();
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.size", this, LruCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시된 값. 없거나 만료되었으면 null
+     */
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(entry, System.nanoTime())) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 loader로 읽어 저장합니다. loader가 null을 반환하면 저장하지 않습니다.
+     */
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    putInternal(key, loaded);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public synchronized void put(K key, V value) {
+        putInternal(key, value);
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void putInternal(K key, V value) {
+        long now = System.nanoTime();
+        entries.put(key, new CacheEntry<>(value, now));
+        evictExpiredAndOverflow(now);
+    }
+
+    private void evictExpiredAndOverflow(long now) {
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, CacheEntry<V>> eldest = iterator.next();
+            if (entries.size() > maxSize || isExpired(eldest.getValue(), now)) {
+                iterator.remove();
+                evictions.increment();
+            } else {
+                break;
+            }
+        }
+    }
+
+    private boolean isExpired(CacheEntry<V> entry, long now) {
+        return ttlNanos > 0 && now - entry.storedAt() > ttlNanos;
+    }
+
+    private record CacheEntry<V>(V value, long storedAt) {
+    }
+}
@@ -0,0 +1,89 @@
+package core.global.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키(예: 채팅방 ID)로 제출된 작업을 제출 순서대로 하나씩 실행하는 실행기입니다.
+ * 서로 다른 키의 작업은 위임 실행기(delegate)에서 병렬로 실행됩니다.
+ *
+ * @apiNote 키마다 마지막 작업의 완료 신호(꼬리)만 보관하고, 꼬리가 끝나면 맵에서 제거하므로
+ * 한가한 키는 메모리에 남지 않습니다.
+ * 꼬리 교체는 맵 연산 안에서 하고, 위임 실행기로의 전달은 맵 연산이 끝난 뒤에 하므로
+ * CallerRunsPolicy로 제출 스레드에서 작업이 실행되어도 맵의 버킷 잠금을 잡은 채 실행되지 않습니다.
+ * 위임 실행기가 작업을 거절하면 그 작업의 Future를 RejectedExecutionException으로 실패시키고 다음 작업을 이어서 실행합니다.
+ *
+ * @param <K> 순서를 보장할 키 타입
+ */
+public class KeyedSerialExecutor<K> {
+
+    private final Executor delegate;
+    private final ConcurrentHashMap<K, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public KeyedSerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 키에 대한 이전 작업이 모두 끝난 뒤 task를 실행합니다.
+     * 이전 작업의 성공/실패 여부와 관계없이 다음 작업은 실행됩니다.
+     *
+     * @param key  순서를 보장할 키
+     * @param task 실행할 작업
+     * @return task의 결과를 담은 Future
+     */
+    public <T> CompletableFuture<T> submit(K key, Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        pending.incrementAndGet();
+
+        CompletableFuture<?> previous = tails.put(key, done);
+        done.whenComplete((ignored, error) -> tails.remove(key, done));
+
+        Runnable run = () -> {
+            pending.decrementAndGet();
+            try {
+                result.complete(task.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                done.complete(null);
+            }
+        };
+        if (previous == null) {
+            dispatch(run, result, done);
+        } else {
+            previous.whenComplete((ignored, error) -> dispatch(run, result, done));
+        }
+        return result;
+    }
+
+    private void dispatch(Runnable run, CompletableFuture<?> result, CompletableFuture<Void> done) {
+        try {
+            delegate.execute(run);
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            result.completeExceptionally(e);
+            done.complete(null);
+        }
+    }
+
+    /**
+     * 제출되었지만 아직 실행을 시작하지 않은 작업 수입니다.
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * 현재 실행 중이거나 대기 중인 작업이 있는 키의 수입니다.
+     */
+    public int activeKeyCount() {
+        return tails.size();
+    }
+}
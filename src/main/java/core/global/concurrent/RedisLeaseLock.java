@@ -0,0 +1,96 @@
+package core.global.concurrent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 노드 중 한 노드만 작업을 실행하도록 Redis 키로 임대(lease)를 잡는 잠금입니다.
+ *
+ * @apiNote 키는 lease:{name}, 값은 획득할 때마다 새로 만드는 토큰이며 SET NX PX 로 잡습니다.
+ * 해제는 토큰이 같을 때만 키를 지우므로, 임대 시간이 지나 다른 노드가 잡은 임대를 지우지 않습니다.
+ * 작업이 임대 시간보다 오래 걸리면 다른 노드가 같은 작업을 시작할 수 있으므로 임대 시간은 작업 시간보다 넉넉히 잡아야 합니다.
+ * Redis에 접근할 수 없으면 임대를 잡지 못한 것으로 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final String KEY_PREFIX = "lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 임대를 잡습니다.
+     *
+     * @param name 임대 이름 (예: unread-reconcile, cold-storage:room:1)
+     * @param ttl  임대 시간. 해제하지 않아도 이 시간이 지나면 풀립니다.
+     * @return 잡은 임대. 다른 노드가 잡고 있거나 Redis에 접근할 수 없으면 Optional.empty()
+     */
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(key, token)) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("임대 획득 실패, 작업을 건너뜁니다: name={}", name, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 임대를 잡은 경우에만 작업을 실행하고, 끝나면 임대를 해제합니다.
+     *
+     * @return 작업을 실행했으면 true
+     */
+    public boolean runExclusively(String name, Duration ttl, Runnable task) {
+        Optional<Lease> lease = tryAcquire(name, ttl);
+        if (lease.isEmpty()) {
+            return false;
+        }
+        try (Lease ignored = lease.get()) {
+            task.run();
+        }
+        return true;
+    }
+
+    /**
+     * 잡은 임대입니다. 닫으면 아직 자신의 임대일 때만 해제합니다.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+
+        private Lease(String key, String token) {
+            this.key = key;
+            this.token = token;
+        }
+
+        @Override
+        public void close() {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (DataAccessException e) {
+                log.warn("임대 해제 실패, 임대 시간이 지나면 풀립니다: key={}", key, e);
+            }
+        }
+    }
+}
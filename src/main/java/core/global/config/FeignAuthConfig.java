@@ -9,20 +9,54 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.util.function.Supplier;
+
+/**
+ * Feign 호출에 현재 요청의 Authorization 헤더를 실어 보냅니다.
+ *
+ * @apiNote 요청 스레드가 아닌 곳(가상 스레드 등)에서 호출할 때는 요청 스레드에서 {@link #currentAuthorization()}으로 읽어 둔 값을
+ * {@link #withAuthorization(String, Supplier)}로 넘깁니다. 요청 객체 자체는 넘기지 않으므로 요청이 끝난 뒤에 실행되어도 안전합니다.
+ */
 @Configuration
 public class FeignAuthConfig {
 
+    private static final ThreadLocal<String> FORWARDED_AUTHORIZATION = new ThreadLocal<>();
+
     @Bean
     public RequestInterceptor bearerForwardingInterceptor() {
         return template -> {
-            var attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attrs == null) return;
-
-            HttpServletRequest req = attrs.getRequest();
-            String auth = req.getHeader(HttpHeaders.AUTHORIZATION);
+            String auth = FORWARDED_AUTHORIZATION.get();
+            if (auth == null) {
+                auth = currentAuthorization();
+            }
             if (StringUtils.hasText(auth)) {
                 template.header(HttpHeaders.AUTHORIZATION, auth);
             }
         };
     }
+
+    /**
+     * 현재 스레드에 묶인 요청의 Authorization 헤더를 읽습니다.
+     *
+     * @return 요청이 없거나 헤더가 없으면 null
+     */
+    public static String currentAuthorization() {
+        var attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attrs == null) return null;
+
+        HttpServletRequest req = attrs.getRequest();
+        return req.getHeader(HttpHeaders.AUTHORIZATION);
+    }
+
+    /**
+     * 주어진 Authorization 헤더로 Feign 호출을 실행합니다. 끝나면 현재 스레드에서 값을 지웁니다.
+     */
+    public static <T> T withAuthorization(String authorization, Supplier<T> call) {
+        FORWARDED_AUTHORIZATION.set(authorization);
+        try {
+            return call.get();
+        } finally {
+            FORWARDED_AUTHORIZATION.remove();
+        }
+    }
 }
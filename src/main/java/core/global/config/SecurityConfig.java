@@ -38,6 +38,8 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 채팅 운영 엔드포인트는 사용자 데이터를 바꾸거나 캐시를 비우므로 /actuator/** 공개 대상에서 제외합니다.
+                        .requestMatchers("/actuator/chatinbox", "/actuator/chatinbox/**").authenticated()
                         .requestMatchers(
                                 "/api/v1/member/refresh",
                                 "/api/v1/images/presign",
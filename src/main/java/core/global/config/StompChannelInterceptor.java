@@ -1,5 +1,6 @@
 package core.global.config;
 
+import core.domain.chat.service.ChatRoomSubscriptionGuard;
 import core.global.enums.ErrorCode;
 import core.global.service.RedisService;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
+    private final ChatRoomSubscriptionGuard chatRoomSubscriptionGuard;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -73,6 +75,13 @@ public class StompChannelInterceptor implements ChannelInterceptor {
             } else {
                 log.warn("STOMP UNAUTHORIZED: WebSocket 세션에 인증 정보가 없습니다, command={}", accessor.getCommand());
             }
+
+            if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                Long userId = (auth != null && auth.getPrincipal() instanceof CustomUserDetails principal)
+                        ? principal.getUserId()
+                        : null;
+                chatRoomSubscriptionGuard.checkSubscribe(userId, accessor.getDestination());
+            }
         }
         return message;
     }
@@ -0,0 +1,177 @@
+package core.global.service;
+
+import core.global.cache.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 번역 결과를 (원문 해시, 번역 언어)로 캐시하는 2단 캐시입니다.
+ *
+ * @apiNote 1단은 노드 메모리의 LRU({@link LruCache}, translation.cache.local-max-size / local-ttl),
+ * 2단은 모든 노드가 공유하는 Redis(translation:{언어}:{SHA-256}, translation.cache.redis-ttl)입니다.
+ * 2단에서 찾은 번역은 1단에 채워 넣습니다. Redis에 접근할 수 없으면 2단을 건너뛰고 1단만 사용합니다.
+ * 조회 결과는 translation.cache.lookups(result=local|redis|miss), 캐시로 번역하지 않은 원문 글자 수는
+ * translation.cache.saved.characters, 적중률은 translation.cache.hit.ratio 로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationCache {
+
+    private static final String KEY_PREFIX = "translation:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${translation.cache.local-max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${translation.cache.local-ttl:PT1H}")
+    private Duration localTtl;
+
+    @Value("${translation.cache.redis-ttl:P7D}")
+    private Duration redisTtl;
+
+    private LruCache<String, String> local;
+    private Counter localHits;
+    private Counter redisHits;
+    private Counter misses;
+    private Counter savedCharacters;
+
+    @PostConstruct
+    void init() {
+        local = new LruCache<>("translation", localMaxSize, localTtl, meterRegistry);
+        localHits = Counter.builder("translation.cache.lookups").tag("result", "local").register(meterRegistry);
+        redisHits = Counter.builder("translation.cache.lookups").tag("result", "redis").register(meterRegistry);
+        misses = Counter.builder("translation.cache.lookups").tag("result", "miss").register(meterRegistry);
+        savedCharacters = Counter.builder("translation.cache.saved.characters").register(meterRegistry);
+        Gauge.builder("translation.cache.hit.ratio", this, TranslationCache::hitRatio).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 원문 목록의 캐시된 번역을 찾습니다.
+     *
+     * @return 원문과 같은 순서의 번역 목록. 캐시에 없는 원문 자리는 null
+     */
+    public List<String> getAll(List<String> contents, String targetLanguage) {
+        List<String> keys = contents.stream().map(content -> key(content, targetLanguage)).toList();
+        List<String> translations = new ArrayList<>(contents.size());
+        List<Integer> localMisses = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String cached = local.get(keys.get(i));
+            translations.add(cached);
+            if (cached != null) {
+                localHits.increment();
+                savedCharacters.increment(contents.get(i).length());
+            } else {
+                localMisses.add(i);
+            }
+        }
+        if (localMisses.isEmpty()) {
+            return translations;
+        }
+
+        List<String> shared = fetchShared(localMisses.stream().map(keys::get).toList());
+        for (int i = 0; i < localMisses.size(); i++) {
+            int index = localMisses.get(i);
+            String cached = shared.get(i);
+            if (cached != null) {
+                translations.set(index, cached);
+                local.put(keys.get(index), cached);
+                redisHits.increment();
+                savedCharacters.increment(contents.get(index).length());
+            } else {
+                misses.increment();
+            }
+        }
+        return translations;
+    }
+
+    /**
+     * 새로 번역한 결과를 두 단에 모두 저장합니다.
+     *
+     * @param translations 원문별 번역
+     */
+    public void putAll(Map<String, String> translations, String targetLanguage) {
+        Map<String, String> entries = new HashMap<>();
+        translations.forEach((content, translated) -> {
+            if (translated != null) {
+                String key = key(content, targetLanguage);
+                local.put(key, translated);
+                entries.put(key, translated);
+            }
+        });
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                entries.forEach((key, translated) -> stringConnection.setEx(key, redisTtl.toSeconds(), translated));
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("번역 캐시 저장 실패, 이 노드의 메모리에만 저장합니다: count={}", entries.size(), e);
+        }
+    }
+
+    private List<String> fetchShared(List<String> keys) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values != null) {
+                return values;
+            }
+        } catch (DataAccessException e) {
+            log.warn("번역 캐시 조회 실패, 원본 번역을 사용합니다: count={}", keys.size(), e);
+        }
+        List<String> empty = new ArrayList<>(keys.size());
+        keys.forEach(key -> empty.add(null));
+        return empty;
+    }
+
+    private double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static String key(String content, String targetLanguage) {
+        return KEY_PREFIX + targetLanguage + ":" + sha256(content);
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -11,27 +11,69 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TranslationService {
 
+    private final TranslationCache translationCache;
+
     @Value("${google.cloud.project.id}")
     private String projectId;
 
 
 
+    /**
+     * @apiNote 원문 목록을 번역합니다. {@link TranslationCache}에 있는 번역은 그대로 쓰고,
+     * 캐시에 없는 원문만 중복을 제거해 한 번에 Google 번역 API로 보낸 뒤 원래 순서대로 합칩니다.
+     *
+     * @return 원문과 같은 순서의 번역 목록
+     * @throws BusinessException 번역 API 호출에 실패하면 TRANSLATE_FAIL
+     */
     public List<String> translateMessages(List<String> messages, String targetLanguage) {
         if (messages == null || messages.isEmpty() || targetLanguage == null || targetLanguage.isEmpty()) {
             return messages;
         }
+        if (!translationCache.isEnabled()) {
+            return translateUpstream(messages, targetLanguage);
+        }
+
+        List<String> translations = new ArrayList<>(translationCache.getAll(messages, targetLanguage));
+        List<String> missing = new ArrayList<>(new LinkedHashSet<>(IntStream.range(0, messages.size())
+                .filter(i -> translations.get(i) == null)
+                .mapToObj(messages::get)
+                .toList()));
+        if (missing.isEmpty()) {
+            return translations;
+        }
+
+        List<String> translatedMissing = translateUpstream(missing, targetLanguage);
+        Map<String, String> fetched = new HashMap<>();
+        for (int i = 0; i < missing.size(); i++) {
+            fetched.put(missing.get(i), translatedMissing.get(i));
+        }
+        translationCache.putAll(fetched, targetLanguage);
+
+        for (int i = 0; i < messages.size(); i++) {
+            if (translations.get(i) == null) {
+                translations.set(i, fetched.get(messages.get(i)));
+            }
+        }
+        return translations;
+    }
 
-         try (TranslationServiceClient client = TranslationServiceClient.create()) {
+    private List<String> translateUpstream(List<String> messages, String targetLanguage) {
+        try (TranslationServiceClient client = TranslationServiceClient.create()) {
             LocationName parent = LocationName.of(projectId, "global");
 
             TranslateTextRequest request = TranslateTextRequest.newBuilder()
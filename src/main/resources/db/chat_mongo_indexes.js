@@ -0,0 +1,24 @@
+// 채팅 MongoDB 인덱스 생성 (prod 는 auto-index-creation: false 이므로 배포 전에 mongosh 로 실행합니다)
+//   mongosh "$MONGODB_ATLAS_URI" src/main/resources/db/chat_mongo_indexes.js
+// 엔티티(@CompoundIndex, @Indexed) 선언과 같은 이름/정의이며, 이미 같은 인덱스가 있으면 아무것도 하지 않습니다.
+// 큰 컬렉션에서는 인덱스를 만드는 동안 쓰기 지연이 생길 수 있으므로 트래픽이 적은 시간에 실행합니다.
+// 시작 시 ChatMessageIndexVerifier 가 chat_messages 쿼리의 인덱스 사용 여부를 검사하므로, 빠진 인덱스는 경고 로그로 드러납니다.
+
+// chat_messages (ChatMessage)
+db.chat_messages.createIndex({ room_id: 1, _id: -1 }, { name: "room_id_desc" });
+db.chat_messages.createIndex({ room_id: 1, sender_id: 1, _id: 1 }, { name: "room_sender_id" });
+db.chat_messages.createIndex({ room_id: 1, sent_at: -1 }, { name: "room_sent_at_desc" });
+// 같은 (room_id, seq)를 가진 메시지가 이미 있으면 실패합니다. 이 경우 중복 순번을 먼저 정리한 뒤 다시 실행합니다.
+db.chat_messages.createIndex(
+    { room_id: 1, seq: -1 },
+    { name: "room_seq_unique", unique: true, partialFilterExpression: { seq: { $exists: true } } }
+);
+
+// chat_message_buckets (ChatMessageBucket)
+db.chat_message_buckets.createIndex({ room_id: 1, last_id: -1 }, { name: "room_last_id_desc" });
+db.chat_message_buckets.createIndex({ room_id: 1, first_id: 1 }, { name: "room_first_id_unique", unique: true });
+db.chat_message_buckets.createIndex({ room_id: 1, last_id: 1, first_id: 1 }, { name: "room_last_first_id" });
+
+// chat_message_tombstones (ChatMessageTombstone)
+db.chat_message_tombstones.createIndex({ room_id: 1, deleted_at: 1 }, { name: "room_deleted_at" });
+db.chat_message_tombstones.createIndex({ deleted_at: 1 }, { name: "deleted_at_ttl", expireAfterSeconds: 604800 });
@@ -0,0 +1,11 @@
+-- chat_room 마지막 메시지 컬럼 추가 (ddl-auto: validate 이므로 배포 전에 실행합니다)
+-- 기존 채팅방의 값은 비어 있으며, 배포 후 ChatRoomLastMessageRepairJob 이 MongoDB 기준으로 채웁니다.
+
+ALTER TABLE chat_room
+    ADD COLUMN IF NOT EXISTS last_message_id        VARCHAR(24),
+    ADD COLUMN IF NOT EXISTS last_message_preview   VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS last_message_sender_id BIGINT,
+    ADD COLUMN IF NOT EXISTS last_message_at        TIMESTAMP(6) WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_chat_room_last_message_at
+    ON chat_room (last_message_at DESC NULLS LAST, chatroom_id DESC);
@@ -0,0 +1,34 @@
+import http from "k6/http";
+import { check } from "k6";
+import { Trend } from "k6/metrics";
+
+// 특정 메시지 주변 조회(/messages/around)의 응답 시간을 측정합니다.
+// docker compose up mongo 로 띄운 로컬 MongoDB에서, 최근 메시지 버퍼를 끄고(chat.hot-tail.enabled=false)
+// 변경 전(조회 3회 + 원격 호출 순차 실행)과 변경 후(aggregation 1회 + 원격 호출 동시 실행) 빌드를 같은 조건으로 실행해
+// around_latency 의 p50/p95를 비교합니다.
+//
+// 실행 예: k6 run -e TOKEN=<access token> -e ROOM_ID=1 -e MESSAGE_IDS=<id1>,<id2>,... chat_around.js
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080/chat/v1";
+const TOKEN = __ENV.TOKEN;
+const ROOM_ID = __ENV.ROOM_ID || "1";
+const MESSAGE_IDS = (__ENV.MESSAGE_IDS || "").split(",").filter((id) => id.length > 0);
+
+const aroundLatency = new Trend("around_latency", true);
+
+export const options = {
+    vus: Number(__ENV.VUS || 10),
+    duration: __ENV.DURATION || "1m",
+};
+
+export default function () {
+    const params = { headers: { Authorization: `Bearer ${TOKEN}` } };
+    const messageId = MESSAGE_IDS[Math.floor(Math.random() * MESSAGE_IDS.length)];
+
+    const res = http.get(`${BASE_URL}/rooms/${ROOM_ID}/messages/around?messageId=${messageId}`, params);
+    check(res, {
+        "주변 조회 200": (r) => r.status === 200,
+        "기준 메시지 포함": (r) => r.status === 200 && r.json().data.some((m) => m.id === messageId),
+    });
+    aroundLatency.add(res.timings.duration);
+}
@@ -0,0 +1,73 @@
+import ws from "k6/ws";
+import { check } from "k6";
+import { Counter } from "k6/metrics";
+
+// 인기 그룹 채팅방에 메시지가 몰리는 상황을 재현하는 부하 테스트
+// chat.batch-writer.enabled=false / true 로 각각 서버를 띄운 뒤 같은 조건으로 실행하여
+// sent_messages 처리량(messages/sec)과 서버의 chat.send.stage.latency{stage=persist}를 비교합니다.
+//
+// 실행 예: k6 run -e TOKEN=<access token> -e ROOM_ID=1 -e RATE=2000 chat_burst.js
+
+const sentMessages = new Counter("sent_messages");
+
+const WS_URL = __ENV.WS_URL || "ws://localhost:8080/ws";
+const TOKEN = __ENV.TOKEN;
+const ROOM_ID = Number(__ENV.ROOM_ID || 1);
+const SENDER_ID = Number(__ENV.SENDER_ID || 1);
+const MESSAGES_PER_CONNECTION = Number(__ENV.MESSAGES_PER_CONNECTION || 50);
+
+export const options = {
+    scenarios: {
+        burst: {
+            executor: "constant-arrival-rate",
+            rate: Number(__ENV.RATE || 1000) / MESSAGES_PER_CONNECTION,
+            timeUnit: "1s",
+            duration: __ENV.DURATION || "30s",
+            preAllocatedVUs: 200,
+            maxVUs: 1000,
+        },
+    },
+};
+
+function frame(command, headers, body) {
+    let out = command + "\n";
+    for (const key in headers) {
+        out += `${key}:${headers[key]}\n`;
+    }
+    return out + "\n" + (body || "") + "\0";
+}
+
+export default function () {
+    const res = ws.connect(WS_URL, {}, function (socket) {
+        socket.on("open", function () {
+            socket.send(frame("CONNECT", {
+                "accept-version": "1.2",
+                "heart-beat": "0,0",
+                Authorization: `Bearer ${TOKEN}`,
+            }));
+        });
+
+        socket.on("message", function (msg) {
+            if (!msg.startsWith("CONNECTED")) {
+                return;
+            }
+            for (let i = 0; i < MESSAGES_PER_CONNECTION; i++) {
+                const payload = JSON.stringify({
+                    roomId: ROOM_ID,
+                    senderId: SENDER_ID,
+                    content: `burst ${__VU}-${__ITER}-${i}`,
+                });
+                socket.send(frame("SEND", {
+                    destination: "/app/chat.sendMessage",
+                    "content-type": "application/json",
+                }, payload));
+                sentMessages.add(1);
+            }
+            socket.close();
+        });
+
+        socket.setTimeout(() => socket.close(), 5000);
+    });
+
+    check(res, { "WS 연결 101": (r) => r && r.status === 101 });
+}
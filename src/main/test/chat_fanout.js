@@ -0,0 +1,98 @@
+import ws from "k6/ws";
+import { check } from "k6";
+import { SharedArray } from "k6/data";
+import { Trend } from "k6/metrics";
+
+// 참여자 수가 10 / 100 / 1000 명인 채팅방에서 메시지 1건이 전원에게 도착하기까지의 시간을 측정합니다.
+// 참여자 전원이 /topic/user/{id}/messages 를 구독한 상태에서 첫 번째 참여자가 메시지를 보냅니다.
+// 서버 쪽에서는 같은 조건으로 process_cpu_usage 와 jvm_gc_memory_allocated_bytes_total 을 함께 비교합니다.
+//
+// 준비물: 방 크기별 참여자 토큰 파일 ([{ "userId": 1, "token": "..." }, ...])
+// 실행 예: k6 run -e ROOM_ID=10 -e PARTICIPANTS=100 -e TOKENS_FILE=./fanout_tokens_100.json chat_fanout.js
+
+const PARTICIPANTS = Number(__ENV.PARTICIPANTS || 10);
+const ROOM_ID = Number(__ENV.ROOM_ID || 1);
+const WS_URL = __ENV.WS_URL || "ws://localhost:8080/ws";
+const ROUNDS = Number(__ENV.ROUNDS || 20);
+
+const participants = new SharedArray("fanout_tokens", function () {
+    return JSON.parse(open(__ENV.TOKENS_FILE || "./fanout_tokens.json")).slice(0, PARTICIPANTS);
+});
+
+const deliveryLatency = new Trend("fanout_delivery_latency", true);
+
+export const options = {
+    scenarios: {
+        fanout: {
+            executor: "per-vu-iterations",
+            vus: PARTICIPANTS,
+            iterations: 1,
+            maxDuration: "5m",
+        },
+    },
+};
+
+function frame(command, headers, body) {
+    let out = command + "\n";
+    for (const key in headers) {
+        out += `${key}:${headers[key]}\n`;
+    }
+    return out + "\n" + (body || "") + "\0";
+}
+
+export default function () {
+    const me = participants[__VU - 1];
+    const isSender = __VU === 1;
+    let received = 0;
+
+    const res = ws.connect(WS_URL, {}, function (socket) {
+        socket.on("open", function () {
+            socket.send(frame("CONNECT", {
+                "accept-version": "1.2",
+                "heart-beat": "0,0",
+                Authorization: `Bearer ${me.token}`,
+            }));
+        });
+
+        socket.on("message", function (msg) {
+            if (msg.startsWith("CONNECTED")) {
+                socket.send(frame("SUBSCRIBE", {
+                    id: "messages",
+                    destination: `/topic/user/${me.userId}/messages`,
+                }));
+                if (isSender) {
+                    // 모든 참여자가 구독을 마칠 시간을 준 뒤 일정 간격으로 전송합니다.
+                    socket.setTimeout(function () {
+                        for (let i = 0; i < ROUNDS; i++) {
+                            socket.setTimeout(function () {
+                                socket.send(frame("SEND", {
+                                    destination: "/app/chat.sendMessage",
+                                    "content-type": "application/json",
+                                }, JSON.stringify({
+                                    roomId: ROOM_ID,
+                                    senderId: me.userId,
+                                    content: `fanout ${Date.now()}`,
+                                })));
+                            }, i * 500);
+                        }
+                    }, 3000);
+                }
+                return;
+            }
+            if (msg.startsWith("MESSAGE")) {
+                const body = msg.substring(msg.indexOf("\n\n") + 2, msg.length - 1);
+                const sentAtMillis = Number(JSON.parse(body).originContent.split(" ")[1]);
+                deliveryLatency.add(Date.now() - sentAtMillis);
+                received++;
+                if (received >= ROUNDS) {
+                    socket.close();
+                }
+            }
+        });
+
+        socket.setTimeout(() => socket.close(), 3000 + ROUNDS * 500 + 10000);
+    });
+
+    check(res, { "WS 연결 101": (r) => r && r.status === 101 });
+    check(received, { "모든 메시지 수신": (n) => n === ROUNDS });
+}
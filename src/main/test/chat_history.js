@@ -0,0 +1,57 @@
+import http from "k6/http";
+import { check } from "k6";
+import { Trend } from "k6/metrics";
+
+// 메시지가 100만 건 쌓인 채팅방에서 커서 기반 메시지 기록 조회가 페이지 깊이와 무관하게 일정한지 확인합니다.
+// 한 VU가 nextCursor를 따라 1페이지부터 PAGES 페이지까지 내려가며 구간별 응답 시간을 기록합니다.
+// page_latency_1_10 과 page_latency_491_500 의 p95가 비슷해야 합니다.
+//
+// 실행 예: k6 run -e TOKEN=<access token> -e ROOM_ID=1 -e PAGES=500 chat_history.js
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080/chat/v1";
+const TOKEN = __ENV.TOKEN;
+const ROOM_ID = __ENV.ROOM_ID || "1";
+const PAGES = Number(__ENV.PAGES || 500);
+const SIZE = Number(__ENV.SIZE || 20);
+
+const BUCKETS = [
+    [1, 10],
+    [101, 110],
+    [241, 250],
+    [491, 500],
+];
+const trends = {};
+for (const [from, to] of BUCKETS) {
+    trends[`${from}_${to}`] = new Trend(`page_latency_${from}_${to}`, true);
+}
+
+export const options = {
+    vus: Number(__ENV.VUS || 5),
+    iterations: Number(__ENV.VUS || 5),
+};
+
+export default function () {
+    const params = { headers: { Authorization: `Bearer ${TOKEN}` } };
+    let cursor = null;
+
+    for (let page = 1; page <= PAGES; page++) {
+        const query = cursor ? `&cursor=${encodeURIComponent(cursor)}` : "";
+        const res = http.get(`${BASE_URL}/rooms/${ROOM_ID}/messages/history?size=${SIZE}${query}`, params);
+        check(res, { "기록 조회 200": (r) => r.status === 200 });
+        if (res.status !== 200) {
+            return;
+        }
+
+        for (const [from, to] of BUCKETS) {
+            if (page >= from && page <= to) {
+                trends[`${from}_${to}`].add(res.timings.duration);
+            }
+        }
+
+        const body = res.json().data;
+        if (!body.hasNext) {
+            return;
+        }
+        cursor = body.nextCursor;
+    }
+}
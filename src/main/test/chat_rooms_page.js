@@ -0,0 +1,46 @@
+import http from "k6/http";
+import { check } from "k6";
+import { Trend } from "k6/metrics";
+
+// 채팅방 목록 커서 조회의 첫 페이지 응답 시간이 사용자의 전체 채팅방 수와 무관한지 확인합니다.
+// 채팅방이 적은 사용자(SMALL_TOKEN)와 500개인 사용자(LARGE_TOKEN)의 첫 페이지를 번갈아 조회하고,
+// 비교를 위해 500개 사용자의 전체 목록(/rooms)도 함께 조회합니다.
+// first_page_small 과 first_page_large 의 p95가 비슷하고, full_list_large 보다 작아야 합니다.
+// 전체 목록은 인박스 캐시를 거치므로 실행 전에 DELETE /actuator/chatinbox 로 비우면 캐시 미스 비용까지 비교할 수 있습니다.
+//
+// 실행 예: k6 run -e SMALL_TOKEN=<access token> -e LARGE_TOKEN=<access token> -e SIZE=20 chat_rooms_page.js
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8080/chat/v1";
+const SMALL_TOKEN = __ENV.SMALL_TOKEN;
+const LARGE_TOKEN = __ENV.LARGE_TOKEN;
+const SIZE = Number(__ENV.SIZE || 20);
+
+const firstPageSmall = new Trend("first_page_small", true);
+const firstPageLarge = new Trend("first_page_large", true);
+const fullListLarge = new Trend("full_list_large", true);
+
+export const options = {
+    vus: Number(__ENV.VUS || 5),
+    duration: __ENV.DURATION || "1m",
+};
+
+function auth(token) {
+    return { headers: { Authorization: `Bearer ${token}` } };
+}
+
+export default function () {
+    const small = http.get(`${BASE_URL}/rooms/page?size=${SIZE}`, auth(SMALL_TOKEN));
+    check(small, { "첫 페이지 200 (small)": (r) => r.status === 200 });
+    firstPageSmall.add(small.timings.duration);
+
+    const large = http.get(`${BASE_URL}/rooms/page?size=${SIZE}`, auth(LARGE_TOKEN));
+    check(large, {
+        "첫 페이지 200 (large)": (r) => r.status === 200,
+        "첫 페이지 크기": (r) => r.status === 200 && r.json().data.items.length === SIZE,
+    });
+    firstPageLarge.add(large.timings.duration);
+
+    const full = http.get(`${BASE_URL}/rooms`, auth(LARGE_TOKEN));
+    check(full, { "전체 목록 200 (large)": (r) => r.status === 200 });
+    fullListLarge.add(full.timings.duration);
+}
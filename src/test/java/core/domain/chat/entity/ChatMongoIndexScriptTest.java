@@ -0,0 +1,67 @@
+package core.domain.chat.entity;
+
+import core.support.MongoContainerTest;
+import org.bson.Document;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.testcontainers.containers.Container;
+import org.testcontainers.utility.MountableFile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * prod 배포 전에 실행하는 db/chat_mongo_indexes.js 가 엔티티에 선언된 인덱스를 빠짐없이 같은 정의로 만드는지 확인합니다.
+ */
+class ChatMongoIndexScriptTest extends MongoContainerTest {
+
+    private static final String SCRIPT = "/tmp/chat_mongo_indexes.js";
+
+    @ParameterizedTest
+    @ValueSource(classes = {ChatMessage.class, ChatMessageBucket.class, ChatMessageTombstone.class})
+    void scriptCreatesDeclaredIndexes(Class<?> entityType) throws Exception {
+        runScript();
+        runScript();
+
+        Map<String, Document> created = new HashMap<>();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(entityType)).listIndexes()
+                .forEach(index -> created.put(index.getString("name"), index));
+        MongoPersistentEntityIndexResolver resolver =
+                new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        for (IndexDefinition declared : resolver.resolveIndexFor(entityType)) {
+            Document options = declared.getIndexOptions();
+            Document index = created.get(options.getString("name"));
+
+            assertThat(index).as(options.getString("name")).isNotNull();
+            assertThat(keys(index.get("key", Document.class))).isEqualTo(keys(declared.getIndexKeys()));
+            assertThat(index.getBoolean("unique", false)).isEqualTo(options.getBoolean("unique", false));
+            assertThat(index.get("partialFilterExpression")).isEqualTo(options.get("partialFilterExpression"));
+            assertThat(seconds(index.get("expireAfterSeconds"))).isEqualTo(seconds(options.get("expireAfterSeconds")));
+        }
+    }
+
+    private static void runScript() throws Exception {
+        MONGO.copyFileToContainer(MountableFile.forClasspathResource("db/chat_mongo_indexes.js"), SCRIPT);
+        Container.ExecResult result = MONGO.execInContainer("mongosh", "--quiet", "mongodb://localhost:27017/test", SCRIPT);
+        assertThat(result.getExitCode()).as(result.getStderr()).isZero();
+    }
+
+    /**
+     * mongosh 는 숫자를 double 로 보내므로 방향 값을 정수로 맞추고, 필드 순서를 포함해 비교합니다.
+     */
+    private static List<String> keys(Document keys) {
+        return keys.entrySet().stream()
+                .map(entry -> entry.getKey() + ":" + (entry.getValue() instanceof Number number ? number.intValue() : entry.getValue()))
+                .toList();
+    }
+
+    private static Long seconds(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
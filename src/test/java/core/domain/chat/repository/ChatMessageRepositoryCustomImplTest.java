@@ -0,0 +1,147 @@
+package core.domain.chat.repository;
+
+import core.domain.chat.dto.UnreadCountDto;
+import core.domain.chat.entity.ChatMessage;
+import core.support.MongoContainerTest;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageRepositoryCustomImplTest extends MongoContainerTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long OTHER_ID = 20L;
+
+    private MongoTemplate template;
+    private ChatMessageRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        template = spy(mongoTemplate);
+        repository = new ChatMessageRepositoryCustomImpl(template);
+    }
+
+    @Test
+    void countsMessagesAfterReadMarkerExcludingOwnMessages() {
+        ChatMessage read = save(1L, OTHER_ID);
+        save(1L, OTHER_ID);
+        save(1L, USER_ID);
+        save(1L, OTHER_ID);
+
+        List<UnreadCountDto> counts = repository.countUnreadByRoom(USER_ID, Map.of(1L, read.getId()), 0);
+
+        assertThat(counts).containsExactly(new UnreadCountDto(1L, 2L));
+    }
+
+    @Test
+    void stopsCountingAtCap() {
+        for (int i = 0; i < 5; i++) {
+            save(1L, OTHER_ID);
+        }
+
+        assertThat(repository.countUnreadByRoom(USER_ID, nullMarkers(1L), 3))
+                .containsExactly(new UnreadCountDto(1L, 3L));
+    }
+
+    @Test
+    void treatsMalformedReadMarkerAsNoMarker() {
+        save(1L, OTHER_ID);
+        save(1L, OTHER_ID);
+
+        List<UnreadCountDto> counts = repository.countUnreadByRoom(USER_ID, Map.of(1L, "legacy-42"), 0);
+
+        assertThat(counts).containsExactly(new UnreadCountDto(1L, 2L));
+    }
+
+    @Test
+    void splitsRoomsIntoFixedSizeAggregations() {
+        int rooms = ChatMessageRepositoryCustomImpl.UNREAD_ROOMS_PER_AGGREGATION * 2 + 1;
+        Map<Long, String> markers = new HashMap<>();
+        for (long roomId = 1; roomId <= rooms; roomId++) {
+            save(roomId, OTHER_ID);
+            markers.put(roomId, null);
+        }
+
+        List<UnreadCountDto> counts = repository.countUnreadByRoom(USER_ID, markers, 0);
+
+        assertThat(counts).hasSize(rooms).allMatch(count -> count.unreadCount() == 1L);
+        assertThat(counts).extracting(UnreadCountDto::roomId).containsExactlyInAnyOrderElementsOf(markers.keySet());
+        verify(template, times(3)).aggregate(any(Aggregation.class), anyString(), eq(UnreadCountDto.class));
+    }
+
+    @Test
+    void loadsWindowAroundTargetInOneAggregation() {
+        List<ChatMessage> messages = saveAll(1L, 60);
+        saveAll(2L, 10);
+
+        List<ChatMessage> window = repository.findWindowAround(1L, messages.get(30).getId(), 20, 20);
+
+        assertThat(window).extracting(ChatMessage::getId)
+                .containsExactlyElementsOf(messages.subList(10, 51).stream().map(ChatMessage::getId).toList());
+        assertThat(window).allSatisfy(message -> {
+            assertThat(message.getChatRoomId()).isEqualTo(1L);
+            assertThat(message.getContent()).isNotNull();
+            assertThat(message.getSentAt()).isNotNull();
+        });
+        verify(template, times(1)).aggregate(any(Aggregation.class), anyString(), eq(ChatMessage.class));
+    }
+
+    @Test
+    void returnsShortWindowNearEdgesOfRoom() {
+        List<ChatMessage> messages = saveAll(1L, 30);
+
+        List<ChatMessage> nearStart = repository.findWindowAround(1L, messages.get(5).getId(), 20, 20);
+        List<ChatMessage> nearEnd = repository.findWindowAround(1L, messages.get(27).getId(), 20, 20);
+
+        assertThat(nearStart).extracting(ChatMessage::getId)
+                .containsExactlyElementsOf(messages.subList(0, 26).stream().map(ChatMessage::getId).toList());
+        assertThat(nearEnd).extracting(ChatMessage::getId)
+                .containsExactlyElementsOf(messages.subList(7, 30).stream().map(ChatMessage::getId).toList());
+    }
+
+    @Test
+    void leavesOutTargetOfAnotherRoom() {
+        saveAll(1L, 5);
+        ChatMessage foreign = save(2L, OTHER_ID);
+        saveAll(1L, 5);
+
+        List<ChatMessage> window = repository.findWindowAround(1L, foreign.getId(), 20, 20);
+
+        assertThat(window).hasSize(10).extracting(ChatMessage::getId).doesNotContain(foreign.getId());
+    }
+
+    private List<ChatMessage> saveAll(Long roomId, int count) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(save(roomId, OTHER_ID));
+        }
+        return messages;
+    }
+
+    private ChatMessage save(Long roomId, Long senderId) {
+        ChatMessage message = new ChatMessage(roomId, senderId, "hi");
+        message.assignId(ObjectId.get().toHexString());
+        return mongoTemplate.insert(message);
+    }
+
+    private static Map<Long, String> nullMarkers(Long roomId) {
+        Map<Long, String> markers = new HashMap<>();
+        markers.put(roomId, null);
+        return markers;
+    }
+}
@@ -0,0 +1,164 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.UserResponseDto;
+import core.domain.chat.entity.ChatMessage;
+import core.global.config.JacksonConfig;
+import core.global.enums.ChatParticipantStatus;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.support.MongoContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 MongoDB에서 보관 버킷과 chat_messages 를 이어 한 줄에 메시지 하나씩 내보내는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatHistoryExportServiceTest extends MongoContainerTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ChatRoomSnapshotCache roomSnapshotCache;
+    @Mock
+    private UserClient userClient;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private ChatMessageColdStorage coldStorage;
+    private ChatHistoryExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        coldStorage = new ChatMessageColdStorage(mongoTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(coldStorage, "bucketSize", 3);
+        ReflectionTestUtils.setField(coldStorage, "minBucketSize", 1);
+        ReflectionTestUtils.setField(coldStorage, "compress", true);
+        coldStorage.init();
+        exportService = new ChatHistoryExportService(mongoTemplate, roomSnapshotCache, userClient, objectMapper, coldStorage);
+        ReflectionTestUtils.setField(exportService, "chunkSize", 2);
+    }
+
+    @Test
+    void exportsArchivedThenLiveMessagesOldestFirst() throws IOException {
+        givenMember(null);
+        givenUsers();
+        List<String> ids = new ArrayList<>();
+        ids.add(save(ROOM_ID, 10L, 0));
+        ids.add(save(ROOM_ID, 20L, 1));
+        ids.add(save(ROOM_ID, 10L, 2));
+        coldStorage.compactRoom(ROOM_ID, new ObjectId(Date.from(BASE.plusSeconds(5))));
+        ids.add(save(ROOM_ID, 10L, 10));
+        ids.add(save(ROOM_ID, 20L, 11));
+        ids.add(save(ROOM_ID, 30L, 12));
+        ids.add(save(ROOM_ID, 10L, 13));
+        save(2L, 10L, 14);
+
+        List<String> lines = export();
+
+        assertThat(lines).hasSize(7);
+        assertThat(lines.stream().map(this::idOf)).containsExactlyElementsOf(ids);
+        assertThat(objectMapper.readTree(lines.get(5)).get("senderFirstName").asText()).isEqualTo("first30");
+        verify(userClient).getUsersInfo(List.of(10L, 20L));
+        verify(userClient).getUsersInfo(List.of(30L));
+        verifyNoMoreInteractions(userClient);
+    }
+
+    @Test
+    void leftParticipantOnlyReceivesMessagesAfterLeaving() throws IOException {
+        givenMember(BASE.plusSeconds(1).plusMillis(500));
+        givenUsers();
+        save(ROOM_ID, 10L, 0);
+        save(ROOM_ID, 10L, 1);
+        String archivedAfterLeaving = save(ROOM_ID, 10L, 2);
+        coldStorage.compactRoom(ROOM_ID, new ObjectId(Date.from(BASE.plusSeconds(5))));
+        String live = save(ROOM_ID, 10L, 10);
+
+        assertThat(export().stream().map(this::idOf)).containsExactly(archivedAfterLeaving, live);
+    }
+
+    @Test
+    void exportsUnknownSenderWhenLookupFails() throws IOException {
+        givenMember(null);
+        when(userClient.getUsersInfo(anyList())).thenThrow(new IllegalStateException("user service down"));
+        save(ROOM_ID, 10L, 0);
+
+        List<String> lines = export();
+
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines.getFirst()).get("senderId").asLong()).isZero();
+    }
+
+    @Test
+    void rejectsNonParticipantBeforeStreaming() {
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, 99L, "room", List.of()));
+
+        assertThatThrownBy(() -> exportService.export(ROOM_ID, USER_ID))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.NOT_CHAT_PARTICIPANT);
+        verify(userClient, never()).getUsersInfo(anyList());
+    }
+
+    private List<String> export() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ROOM_ID, USER_ID).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    private String idOf(String line) {
+        try {
+            return objectMapper.readTree(line).get("id").asText();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void givenMember(Instant lastLeftAt) {
+        ChatParticipantStatus status = lastLeftAt == null ? ChatParticipantStatus.ACTIVE : ChatParticipantStatus.LEFT;
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, USER_ID, "room",
+                List.of(new ChatRoomSnapshot.Member(USER_ID, status, false, lastLeftAt))));
+    }
+
+    private void givenUsers() {
+        when(userClient.getUsersInfo(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).stream()
+                .map(userId -> new UserResponseDto(userId, "user" + userId, "first" + userId, "last" + userId,
+                        null, null, null, null, null, null, null, null, null, null, null, null, null,
+                        false, false, false, null))
+                .toList());
+    }
+
+    private String save(Long roomId, Long senderId, int second) {
+        Instant at = BASE.plusSeconds(second);
+        ChatMessage message = new ChatMessage(roomId, senderId, "m" + second);
+        message.assignId(new ObjectId(Date.from(at)).toHexString());
+        ReflectionTestUtils.setField(message, "sentAt", at);
+        return mongoTemplate.insert(message).getId();
+    }
+}
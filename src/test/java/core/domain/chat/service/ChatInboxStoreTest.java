@@ -0,0 +1,146 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.dto.ChatRoomChangedEvent;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ChatInboxStoreTest extends RedisContainerTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Instant T1 = Instant.parse("2026-10-16T12:00:00Z");
+    private static final Instant T2 = T1.plusSeconds(60);
+    private static final Instant T3 = T2.plusSeconds(60);
+
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+
+    private ChatInboxStore inboxStore;
+
+    @BeforeEach
+    void setUp() {
+        inboxStore = new ChatInboxStore(redisTemplate, new ObjectMapper(), chatParticipantRepository);
+        ReflectionTestUtils.setField(inboxStore, "enabled", true);
+        ReflectionTestUtils.setField(inboxStore, "ttl", Duration.ofMinutes(30));
+    }
+
+    @Test
+    void readsEntriesNewestFirstAndTellsMissingFromEmpty() {
+        assertThat(inboxStore.read(USER_ID)).isEmpty();
+
+        inboxStore.replace(USER_ID, List.of());
+        assertThat(inboxStore.read(USER_ID)).contains(List.of());
+
+        inboxStore.replace(USER_ID, List.of(entry(1L, "old", T1), entry(2L, "new", T2)));
+        assertThat(inboxStore.read(USER_ID).orElseThrow())
+                .extracting(ChatInboxStore.Entry::roomId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    void readDoesNotExtendExpiry() {
+        inboxStore.replace(USER_ID, List.of(entry(1L, "hi", T1)));
+        redisTemplate.expire("chat:inbox:" + USER_ID, Duration.ofSeconds(5));
+        redisTemplate.expire("chat:inbox:" + USER_ID + ":rooms", Duration.ofSeconds(5));
+
+        inboxStore.read(USER_ID);
+
+        assertThat(redisTemplate.getExpire("chat:inbox:" + USER_ID)).isBetween(0L, 5L);
+        assertThat(redisTemplate.getExpire("chat:inbox:" + USER_ID + ":rooms")).isBetween(0L, 5L);
+    }
+
+    @Test
+    void recordsNewerMessagesOnlyIntoExistingInboxes() {
+        inboxStore.replace(USER_ID, List.of(entry(1L, "first", T2)));
+
+        inboxStore.recordMessage(1L, T1, Map.of(USER_ID, entry(1L, "older", T1)));
+        assertThat(lastMessages()).containsExactly("first");
+
+        inboxStore.recordMessage(1L, T3, Map.of(USER_ID, entry(1L, "newest", T3), 20L, entry(1L, "newest", T3)));
+        assertThat(lastMessages()).containsExactly("newest");
+        assertThat(redisTemplate.hasKey("chat:inbox:20:rooms")).isFalse();
+    }
+
+    @Test
+    void rewritesPreviewWhenDeletedMessageWasTheLastOne() {
+        inboxStore.replace(USER_ID, List.of(entry(1L, "deleted", T2), entry(2L, "other", T1.minusSeconds(60))));
+        ChatMessage previous = new ChatMessage(1L, 20L, "previous");
+        ReflectionTestUtils.setField(previous, "sentAt", T1);
+
+        inboxStore.replaceLastMessage(1L, T2, previous, List.of(USER_ID));
+
+        ChatInboxStore.Entry entry = inboxStore.read(USER_ID).orElseThrow().getFirst();
+        assertThat(entry.roomId()).isEqualTo(1L);
+        assertThat(entry.lastMessageContent()).isEqualTo("previous");
+        assertThat(entry.lastMessageAt()).isEqualTo(T1.toEpochMilli());
+        assertThat(redisTemplate.opsForZSet().score("chat:inbox:" + USER_ID, "1")).isEqualTo((double) T1.toEpochMilli());
+    }
+
+    @Test
+    void keepsPreviewWhenNewerMessageArrivedAfterTheDeletedOne() {
+        inboxStore.replace(USER_ID, List.of(entry(1L, "newer", T3)));
+
+        inboxStore.replaceLastMessage(1L, T2, null, List.of(USER_ID));
+
+        assertThat(lastMessages()).containsExactly("newer");
+    }
+
+    @Test
+    void clearsPreviewWhenNoMessageRemains() {
+        inboxStore.replace(USER_ID, List.of(entry(1L, "only", T2)));
+
+        inboxStore.replaceLastMessage(1L, T2, null, List.of(USER_ID));
+
+        ChatInboxStore.Entry entry = inboxStore.read(USER_ID).orElseThrow().getFirst();
+        assertThat(entry.lastMessageContent()).isNull();
+        assertThat(entry.lastMessageAt()).isNull();
+    }
+
+    @Test
+    void removesEntryOfFormerParticipantWhenRoomIsDeleted() {
+        inboxStore.replace(USER_ID, List.of(entry(1L, "a", T1), entry(2L, "b", T2)));
+
+        inboxStore.onRoomChanged(new ChatRoomChangedEvent(1L, null, ChatRoomChangedEvent.Type.DELETED));
+        assertThat(inboxStore.read(USER_ID).orElseThrow()).hasSize(2);
+
+        inboxStore.onRoomChanged(new ChatRoomChangedEvent(1L, USER_ID, ChatRoomChangedEvent.Type.DELETED));
+        assertThat(inboxStore.read(USER_ID).orElseThrow())
+                .extracting(ChatInboxStore.Entry::roomId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void entryKeepsMissingLastMessageTimeAsNull() {
+        ChatInboxStore.Entry empty = ChatInboxStore.Entry.of(1L, "room", null, null, null, 2);
+        ChatRoomSummaryResponse summary = entry(1L, "hi", T1).toSummary(3);
+
+        assertThat(empty.toSummary(0).lastMessageTime()).isNull();
+        assertThat(summary.lastMessageTime()).isEqualTo(T1);
+        assertThat(summary.unreadCount()).isEqualTo(3);
+        assertThat(summary.participantCount()).isEqualTo(2);
+    }
+
+    private List<String> lastMessages() {
+        return inboxStore.read(USER_ID).orElseThrow().stream().map(ChatInboxStore.Entry::lastMessageContent).toList();
+    }
+
+    private static ChatInboxStore.Entry entry(Long roomId, String lastMessage, Instant lastMessageAt) {
+        return ChatInboxStore.Entry.of(roomId, "room" + roomId, null, lastMessage, lastMessageAt, 2);
+    }
+}
@@ -0,0 +1,123 @@
+package core.domain.chat.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteConcernError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.IndexOptions;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.support.MongoContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 MongoDB의 (room_id, seq) 유일 인덱스로 배치 일부 실패와 재시도를 확인합니다.
+ */
+class ChatMessageBatchWriterTest extends MongoContainerTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private MongoTemplate template;
+    private ChatMessageBatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.getCollection("chat_messages").createIndex(
+                new Document("room_id", 1).append("seq", -1),
+                new IndexOptions().name("room_seq_unique").unique(true)
+                        .partialFilterExpression(new Document("seq", new Document("$exists", true))));
+        template = spy(mongoTemplate);
+        batchWriter = new ChatMessageBatchWriter(mock(ChatMessageRepository.class), template, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(batchWriter, "enabled", true);
+        ReflectionTestUtils.setField(batchWriter, "windowMs", 50L);
+        ReflectionTestUtils.setField(batchWriter, "maxBatchSize", 16);
+        batchWriter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchWriter.shutdown();
+    }
+
+    @Test
+    void failsOnlyConflictingMessageAndAcceptsItsRetry() {
+        mongoTemplate.insert(message(2));
+        ChatMessage first = message(1);
+        ChatMessage conflicting = message(2);
+        ChatMessage third = message(3);
+
+        CompletableFuture<ChatMessage> firstFuture = batchWriter.enqueue(first);
+        CompletableFuture<ChatMessage> conflictingFuture = batchWriter.enqueue(conflicting);
+        CompletableFuture<ChatMessage> thirdFuture = batchWriter.enqueue(third);
+
+        assertThat(firstFuture.join().getId()).isEqualTo(first.getId());
+        assertThat(thirdFuture.join().getId()).isEqualTo(third.getId());
+        assertThatThrownBy(conflictingFuture::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+
+        String assignedId = conflicting.getId();
+        conflicting.assignSequence(4);
+        ChatMessage retried = batchWriter.insert(conflicting);
+
+        assertThat(retried.getId()).isEqualTo(assignedId);
+        assertThat(mongoTemplate.count(new Query(), ChatMessage.class)).isEqualTo(4);
+        assertThat(mongoTemplate.findById(assignedId, ChatMessage.class).getSequence()).isEqualTo(4L);
+    }
+
+    @Test
+    void resubmittingStoredMessageIsRejectedAsDuplicate() {
+        ChatMessage stored = batchWriter.insert(message(1));
+
+        assertThatThrownBy(() -> batchWriter.insert(stored)).isInstanceOf(DuplicateKeyException.class);
+        assertThat(mongoTemplate.count(new Query(), ChatMessage.class)).isEqualTo(1);
+    }
+
+    @Test
+    void failsWholeBatchOnWriteConcernError() {
+        BulkOperations bulkOperations = mock(BulkOperations.class);
+        doReturn(bulkOperations).when(template).bulkOps(any(BulkOperations.BulkMode.class), any(Class.class));
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(new DataIntegrityViolationException("waiting for replication timed out",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(),
+                        new WriteConcernError(64, "WriteConcernFailed", "waiting for replication timed out", new BsonDocument()),
+                        new ServerAddress(), Set.of())));
+
+        CompletableFuture<ChatMessage> first = batchWriter.enqueue(message(1));
+        CompletableFuture<ChatMessage> second = batchWriter.enqueue(message(2));
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    private static ChatMessage message(long sequence) {
+        ChatMessage message = new ChatMessage(ROOM_ID, 10L, "m" + sequence);
+        message.assignSequence(sequence);
+        return message;
+    }
+}
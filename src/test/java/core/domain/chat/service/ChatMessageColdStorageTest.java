@@ -0,0 +1,171 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageColdStorageTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Captor
+    private ArgumentCaptor<ChatMessageBucket> buckets;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageColdStorage coldStorage;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coldStorage = new ChatMessageColdStorage(mongoTemplate, meterRegistry);
+        ReflectionTestUtils.setField(coldStorage, "bucketSize", 3);
+        ReflectionTestUtils.setField(coldStorage, "minBucketSize", 2);
+        ReflectionTestUtils.setField(coldStorage, "compress", false);
+        coldStorage.init();
+    }
+
+    @Test
+    void compactsFullBucketsAndLargeEnoughRemainder() {
+        List<ChatMessage> messages = messages(5);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessage.class))).thenReturn(messages.stream());
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessage.class))).thenReturn(messages);
+
+        int compacted = coldStorage.compactRoom(ROOM_ID, new ObjectId());
+
+        assertThat(compacted).isEqualTo(5);
+        verify(mongoTemplate, times(2)).insert(buckets.capture());
+        assertThat(buckets.getAllValues()).extracting(ChatMessageBucket::getCount).containsExactly(3, 2);
+        assertThat(buckets.getAllValues().getFirst().getFirstMessageId()).isEqualTo(messages.get(0).getId());
+        assertThat(buckets.getAllValues().getFirst().getLastMessageId()).isEqualTo(messages.get(2).getId());
+        assertThat(buckets.getAllValues().getLast().getMaxSequence()).isEqualTo(5L);
+        verify(mongoTemplate, times(2)).remove(any(Query.class), eq(ChatMessage.class));
+        assertThat(meterRegistry.get("chat.cold-storage.buckets.created").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("chat.cold-storage.messages.compacted").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void leavesRemainderSmallerThanMinimumForNextRun() {
+        List<ChatMessage> messages = messages(4);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessage.class))).thenReturn(messages.stream());
+        when(mongoTemplate.find(any(Query.class), eq(ChatMessage.class))).thenReturn(messages);
+
+        int compacted = coldStorage.compactRoom(ROOM_ID, new ObjectId());
+
+        assertThat(compacted).isEqualTo(3);
+        verify(mongoTemplate, times(1)).insert(any(ChatMessageBucket.class));
+    }
+
+    @Test
+    void stopsAndCleansUpWhenRangeWasAlreadyCompacted() {
+        List<ChatMessage> messages = messages(3);
+        ChatMessageBucket existing = new ChatMessageBucket(ROOM_ID, messages, null);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessage.class))).thenReturn(messages.stream());
+        when(mongoTemplate.insert(any(ChatMessageBucket.class))).thenThrow(new DuplicateKeyException("room_first_id_unique"));
+        when(mongoTemplate.findOne(any(Query.class), eq(ChatMessageBucket.class))).thenReturn(null, existing);
+
+        int compacted = coldStorage.compactRoom(ROOM_ID, new ObjectId());
+
+        assertThat(compacted).isZero();
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(ChatMessage.class));
+        assertThat(meterRegistry.get("chat.cold-storage.buckets.created").counter().count()).isZero();
+    }
+
+    @Test
+    void removesMessageFromBucketAndKeepsMaxSequence() {
+        List<ChatMessage> messages = messages(3);
+        ChatMessageBucket bucket = new ChatMessageBucket(ROOM_ID, messages, null);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> Stream.of(bucket));
+
+        assertThat(coldStorage.remove(ROOM_ID, messages.get(2).getId())).isTrue();
+
+        verify(mongoTemplate).save(bucket);
+        assertThat(bucket.getMessages()).containsExactly(messages.get(0), messages.get(1));
+        assertThat(bucket.getCount()).isEqualTo(2);
+        assertThat(bucket.getLastMessageId()).isEqualTo(messages.get(1).getId());
+        assertThat(bucket.getMaxSequence()).isEqualTo(3L);
+    }
+
+    @Test
+    void deletesBucketWhenLastMessageIsRemoved() {
+        List<ChatMessage> messages = messages(1);
+        ChatMessageBucket bucket = new ChatMessageBucket(ROOM_ID, messages, null);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> Stream.of(bucket));
+
+        assertThat(coldStorage.remove(ROOM_ID, messages.getFirst().getId())).isTrue();
+
+        verify(mongoTemplate).remove(bucket);
+        verify(mongoTemplate, never()).save(any(ChatMessageBucket.class));
+    }
+
+    @Test
+    void retriesRemovalAfterConcurrentBucketUpdate() {
+        List<ChatMessage> messages = messages(2);
+        ChatMessageBucket bucket = new ChatMessageBucket(ROOM_ID, messages, null);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> Stream.of(bucket));
+        when(mongoTemplate.save(bucket)).thenThrow(new OptimisticLockingFailureException("version")).thenReturn(bucket);
+
+        assertThat(coldStorage.remove(ROOM_ID, messages.getFirst().getId())).isTrue();
+
+        verify(mongoTemplate, times(2)).save(bucket);
+    }
+
+    @Test
+    void givesUpAfterRepeatedConcurrentUpdates() {
+        List<ChatMessage> messages = messages(2);
+        ChatMessageBucket bucket = new ChatMessageBucket(ROOM_ID, messages, null);
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> Stream.of(bucket));
+        when(mongoTemplate.save(bucket)).thenThrow(new OptimisticLockingFailureException("version"));
+
+        assertThatThrownBy(() -> coldStorage.remove(ROOM_ID, messages.getFirst().getId()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void ignoresMessageThatIsNotArchived() {
+        when(mongoTemplate.stream(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> Stream.empty());
+
+        assertThat(coldStorage.remove(ROOM_ID, new ObjectId().toHexString())).isFalse();
+        assertThat(coldStorage.remove(ROOM_ID, "not-an-object-id")).isFalse();
+        verify(mongoTemplate, never()).save(any(ChatMessageBucket.class));
+    }
+
+    private static List<ChatMessage> messages(int count) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ChatMessage message = new ChatMessage(ROOM_ID, 10L, "m" + i);
+            message.assignId(new ObjectId().toHexString());
+            message.assignSequence(i + 1);
+            messages.add(message);
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,136 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatMessageBucket;
+import core.domain.chat.entity.ChatMessageTombstone;
+import core.global.concurrent.RedisLeaseLock;
+import core.support.MongoContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 MongoDB에서 압축 도중 삭제된 메시지가 버킷에 남지 않는지, 압축 작업이 대상 채팅방을 하나씩 찾아 가는지 확인합니다.
+ */
+class ChatMessageCompactionTest extends MongoContainerTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private MongoTemplate template;
+    private ChatMessageColdStorage coldStorage;
+
+    @BeforeEach
+    void setUp() {
+        template = spy(mongoTemplate);
+        coldStorage = new ChatMessageColdStorage(template, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(coldStorage, "bucketSize", 3);
+        ReflectionTestUtils.setField(coldStorage, "minBucketSize", 1);
+        ReflectionTestUtils.setField(coldStorage, "compress", true);
+        coldStorage.init();
+    }
+
+    @Test
+    void messageDeletedBeforeBucketInsertIsNotArchived() {
+        List<ChatMessage> messages = saveMessages(ROOM_ID, 3, Instant.now().minus(Duration.ofDays(60)));
+        ChatMessage deleted = messages.get(1);
+        doAnswer(invocation -> {
+            mongoTemplate.remove(new Query(Criteria.where("id").is(new ObjectId(deleted.getId()))), ChatMessage.class);
+            mongoTemplate.insert(new ChatMessageTombstone(deleted.getId(), ROOM_ID));
+            return invocation.callRealMethod();
+        }).when(template).insert(any(ChatMessageBucket.class));
+
+        int compacted = coldStorage.compactRoom(ROOM_ID, new ObjectId());
+
+        assertThat(compacted).isEqualTo(2);
+        assertThat(archivedIds()).containsExactly(messages.get(2).getId(), messages.get(0).getId());
+        assertThat(coldStorage.findById(ROOM_ID, deleted.getId())).isEmpty();
+        assertThat(mongoTemplate.count(new Query(), ChatMessage.class)).isZero();
+    }
+
+    @Test
+    void messageTombstonedAfterBucketInsertIsPulledFromBucket() {
+        List<ChatMessage> messages = saveMessages(ROOM_ID, 3, Instant.now().minus(Duration.ofDays(60)));
+        ChatMessage deleted = messages.get(0);
+        doAnswer(invocation -> {
+            Object bucket = invocation.callRealMethod();
+            mongoTemplate.insert(new ChatMessageTombstone(deleted.getId(), ROOM_ID));
+            return bucket;
+        }).when(template).insert(any(ChatMessageBucket.class));
+
+        int compacted = coldStorage.compactRoom(ROOM_ID, new ObjectId());
+
+        assertThat(compacted).isEqualTo(2);
+        assertThat(archivedIds()).containsExactly(messages.get(2).getId(), messages.get(1).getId());
+    }
+
+    @Test
+    void removesBucketWhenEveryMessageWasDeleted() {
+        List<ChatMessage> messages = saveMessages(ROOM_ID, 1, Instant.now().minus(Duration.ofDays(60)));
+        doAnswer(invocation -> {
+            mongoTemplate.remove(new Query(), ChatMessage.class);
+            return invocation.callRealMethod();
+        }).when(template).insert(any(ChatMessageBucket.class));
+
+        assertThat(coldStorage.compactRoom(ROOM_ID, new ObjectId())).isZero();
+        assertThat(coldStorage.findById(ROOM_ID, messages.getFirst().getId())).isEmpty();
+        assertThat(coldStorage.hasMessages(ROOM_ID)).isFalse();
+    }
+
+    @Test
+    void tieringJobVisitsEachRoomWithOldMessagesOnce() {
+        Instant old = Instant.now().minus(Duration.ofDays(60));
+        saveMessages(3L, 2, old);
+        saveMessages(1L, 1, old);
+        saveMessages(2L, 4, old);
+        saveMessages(4L, 2, Instant.now());
+        RedisLeaseLock leaseLock = mock(RedisLeaseLock.class);
+        when(leaseLock.tryAcquire(anyString(), any(Duration.class)))
+                .thenAnswer(invocation -> Optional.of(mock(RedisLeaseLock.Lease.class)));
+        ChatMessageTieringJob job = new ChatMessageTieringJob(template, coldStorage, leaseLock);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "age", Duration.ofDays(30));
+        ReflectionTestUtils.setField(job, "leaseTtl", Duration.ofMinutes(10));
+
+        job.compact();
+
+        assertThat(coldStorage.hasMessages(1L)).isTrue();
+        assertThat(coldStorage.hasMessages(2L)).isTrue();
+        assertThat(coldStorage.hasMessages(3L)).isTrue();
+        assertThat(coldStorage.hasMessages(4L)).isFalse();
+        assertThat(mongoTemplate.count(new Query(), ChatMessage.class)).isEqualTo(2);
+    }
+
+    private List<String> archivedIds() {
+        return coldStorage.findOlder(ROOM_ID, null, null, 10).stream().map(ChatMessage::getId).toList();
+    }
+
+    private List<ChatMessage> saveMessages(Long roomId, int count, Instant createdAt) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ChatMessage message = new ChatMessage(roomId, 10L, "m" + i);
+            message.assignId(new ObjectId(Date.from(createdAt.plusMillis(i * 1000L))).toHexString());
+            messages.add(mongoTemplate.insert(message));
+        }
+        return messages;
+    }
+}
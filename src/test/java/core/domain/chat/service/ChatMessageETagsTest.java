@@ -0,0 +1,159 @@
+package core.domain.chat.service;
+
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.UserResponseDto;
+import core.global.enums.ChatParticipantStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageETagsTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final String VERSION_KEY = "chat:room-version:" + ROOM_ID;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private ChatRoomSnapshotCache roomSnapshotCache;
+    @Mock
+    private UserClient userClient;
+
+    private ChatMessageETags eTags;
+
+    @BeforeEach
+    void setUp() {
+        ChatReadFanIn readFanIn = new ChatReadFanIn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(readFanIn, "profileTimeout", Duration.ofSeconds(1));
+        eTags = new ChatMessageETags(redisTemplate, roomSnapshotCache, userClient, readFanIn);
+        ReflectionTestUtils.setField(eTags, "enabled", true);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void sameInputsGiveSameWeakETag() {
+        givenMember(false);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+
+        Optional<String> first = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc", "20");
+        Optional<String> second = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc", "20");
+
+        assertThat(first).isPresent();
+        assertThat(first.get()).startsWith("W/\"").endsWith("\"");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void versionBumpChangesETag() {
+        givenMember(false);
+        when(valueOperations.get(VERSION_KEY)).thenReturn(null, "1");
+
+        Optional<String> before = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc");
+        Optional<String> after = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc");
+
+        assertThat(before).isPresent();
+        assertThat(after).isPresent().isNotEqualTo(before);
+    }
+
+    @Test
+    void positionIsPartOfETag() {
+        givenMember(false);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("0");
+
+        assertThat(eTags.compute(ROOM_ID, USER_ID, false, "before", "abc"))
+                .isNotEqualTo(eTags.compute(ROOM_ID, USER_ID, false, "before", "abd"));
+    }
+
+    @Test
+    void translatingMemberETagFollowsCurrentLanguage() {
+        givenMember(true);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("0");
+        UserResponseDto english = profile("en");
+        UserResponseDto korean = profile("ko");
+        when(userClient.getUserProfile(USER_ID)).thenReturn(english, english, korean);
+
+        Optional<String> first = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc");
+        Optional<String> second = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc");
+        Optional<String> afterChange = eTags.compute(ROOM_ID, USER_ID, false, "before", "abc");
+
+        assertThat(first).isPresent().isEqualTo(second);
+        assertThat(afterChange).isPresent().isNotEqualTo(first);
+    }
+
+    @Test
+    void translatingMemberGetsNoETagWhenProfileIsUnavailable() {
+        givenMember(true);
+        when(userClient.getUserProfile(USER_ID)).thenThrow(new IllegalStateException("main-service down"));
+
+        assertThat(eTags.compute(ROOM_ID, USER_ID, false, "before", "abc")).isEmpty();
+    }
+
+    @Test
+    void nonTranslatingMemberSkipsProfileLookup() {
+        givenMember(false);
+        when(valueOperations.get(VERSION_KEY)).thenReturn("0");
+
+        assertThat(eTags.compute(ROOM_ID, USER_ID, false, "before", "abc")).isPresent();
+        verifyNoInteractions(userClient);
+    }
+
+    @Test
+    void nonMemberGetsNoETag() {
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, 99L, "room", List.of()));
+
+        assertThat(eTags.compute(ROOM_ID, USER_ID, false, "before", "abc")).isEmpty();
+    }
+
+    @Test
+    void redisFailureGivesNoETag() {
+        givenMember(false);
+        when(valueOperations.get(VERSION_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(eTags.compute(ROOM_ID, USER_ID, false, "before", "abc")).isEmpty();
+    }
+
+    @Test
+    void matchesComparesWeaklyAcrossCandidates() {
+        String eTag = "W/\"abc\"";
+
+        assertThat(ChatMessageETags.matches("W/\"abc\"", eTag)).isTrue();
+        assertThat(ChatMessageETags.matches("\"abc\"", eTag)).isTrue();
+        assertThat(ChatMessageETags.matches("\"x\", W/\"abc\"", eTag)).isTrue();
+        assertThat(ChatMessageETags.matches("*", eTag)).isTrue();
+        assertThat(ChatMessageETags.matches("\"x\"", eTag)).isFalse();
+        assertThat(ChatMessageETags.matches(null, eTag)).isFalse();
+    }
+
+    private static UserResponseDto profile(String translateLanguage) {
+        UserResponseDto profile = mock(UserResponseDto.class);
+        when(profile.translateLanguage()).thenReturn(translateLanguage);
+        return profile;
+    }
+
+    private void givenMember(boolean translateEnabled) {
+        ChatRoomSnapshot.Member member = new ChatRoomSnapshot.Member(USER_ID, ChatParticipantStatus.ACTIVE, translateEnabled, null);
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, 99L, "room", List.of(member)));
+    }
+}
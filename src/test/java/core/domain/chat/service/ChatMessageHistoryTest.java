@@ -0,0 +1,163 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageRepositoryCustomImpl;
+import core.global.enums.ChatParticipantStatus;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import core.global.pagination.CursorPageResponse;
+import core.support.MongoContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 MongoDB에서 메시지 기록 커서로 끝까지 넘겼을 때 빠지거나 겹치는 메시지가 없는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatMessageHistoryTest extends MongoContainerTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long OTHER_ROOM_ID = 2L;
+    private static final Long USER_ID = 10L;
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ChatRoomSnapshotCache roomSnapshotCache;
+    @Mock
+    private ChatRoomHotTail hotTail;
+    @Mock
+    private ChatMessageColdStorage coldStorage;
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    private ChatReadFanIn readFanIn;
+
+    @BeforeEach
+    void setUp() {
+        ChatMessageRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(
+                ChatMessageRepository.class, RepositoryFragments.just(new ChatMessageRepositoryCustomImpl(mongoTemplate)));
+        readFanIn = new ChatReadFanIn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(readFanIn, "profileTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(readFanIn, "sendersTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(readFanIn, "translationTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(chatMessageService, "chatMessageRepository", repository);
+        ReflectionTestUtils.setField(chatMessageService, "readFanIn", readFanIn);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readFanIn.shutdown();
+        chatMessageService.shutdown();
+    }
+
+    @Test
+    void walksHistoryInIdOrderEvenWhenSentAtIsSkewed() {
+        givenMember(null);
+        List<String> ids = saveMessages(ROOM_ID, 45, i -> BASE.minusSeconds((i * 7L) % 45));
+        saveMessages(OTHER_ROOM_ID, 5, i -> BASE);
+
+        List<String> walked = new ArrayList<>();
+        List<Boolean> hasNext = new ArrayList<>();
+        CursorPageResponse<ChatMessageResponse> page = null;
+        do {
+            String cursor = page == null ? null : page.nextCursor();
+            page = chatMessageService.getMessageHistory(ROOM_ID, USER_ID, cursor, 20);
+            page.items().forEach(item -> walked.add(item.id()));
+            hasNext.add(page.hasNext());
+        } while (page.hasNext());
+
+        assertThat(walked).containsExactlyElementsOf(ids.stream().sorted(Comparator.reverseOrder()).toList());
+        assertThat(hasNext).containsExactly(true, true, false);
+    }
+
+    @Test
+    void reportsNoNextPageWhenLastPageIsExactlyFull() {
+        givenMember(null);
+        saveMessages(ROOM_ID, 20, i -> BASE.plusSeconds(i));
+
+        CursorPageResponse<ChatMessageResponse> page = chatMessageService.getMessageHistory(ROOM_ID, USER_ID, null, 20);
+        CursorPageResponse<ChatMessageResponse> beyond =
+                chatMessageService.getMessageHistory(ROOM_ID, USER_ID, page.nextCursor(), 20);
+
+        assertThat(page.items()).hasSize(20);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(beyond.items()).isEmpty();
+        assertThat(beyond.nextCursor()).isNull();
+    }
+
+    @Test
+    void leftParticipantOnlyPagesThroughMessagesAfterLeaving() {
+        Instant leftAt = BASE.plusSeconds(9).plusMillis(500);
+        givenMember(leftAt);
+        List<String> ids = saveMessages(ROOM_ID, 30, i -> BASE.plusSeconds(i));
+
+        CursorPageResponse<ChatMessageResponse> first = chatMessageService.getMessageHistory(ROOM_ID, USER_ID, null, 15);
+        CursorPageResponse<ChatMessageResponse> second =
+                chatMessageService.getMessageHistory(ROOM_ID, USER_ID, first.nextCursor(), 15);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+        List<String> walked = new ArrayList<>();
+        first.items().forEach(item -> walked.add(item.id()));
+        second.items().forEach(item -> walked.add(item.id()));
+        assertThat(walked).containsExactlyElementsOf(ids.subList(10, 30).reversed());
+    }
+
+    @Test
+    void rejectsCursorThatIsNotAMessageId() {
+        givenMember(null);
+        String forged = CursorCodec.encode(Map.of("id", "not-an-object-id"));
+
+        assertThatThrownBy(() -> chatMessageService.getMessageHistory(ROOM_ID, USER_ID, forged, 20))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> chatMessageService.getMessageHistory(ROOM_ID, USER_ID, "%%%", 20))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private void givenMember(Instant lastLeftAt) {
+        ChatParticipantStatus status = lastLeftAt == null ? ChatParticipantStatus.ACTIVE : ChatParticipantStatus.LEFT;
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, USER_ID, "room",
+                List.of(new ChatRoomSnapshot.Member(USER_ID, status, false, lastLeftAt))));
+    }
+
+    private List<String> saveMessages(Long roomId, int count, IntFunction<Instant> sentAt) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ChatMessage message = new ChatMessage(roomId, 20L, "m" + i);
+            message.assignId(new ObjectId().toHexString());
+            ReflectionTestUtils.setField(message, "sentAt", sentAt.apply(i));
+            mongoTemplate.insert(message);
+            ids.add(message.getId());
+        }
+        return ids;
+    }
+}
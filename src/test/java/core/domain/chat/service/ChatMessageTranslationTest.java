@@ -0,0 +1,134 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.ChatSendContext;
+import core.domain.chat.dto.UserResponseDto;
+import core.domain.chat.entity.ChatMessage;
+import core.global.enums.ChatParticipantStatus;
+import core.global.service.TranslationService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageTranslationTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String CONTENT = "안녕하세요";
+
+    @Mock
+    private TranslationService translationService;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @AfterEach
+    void tearDown() {
+        chatMessageService.shutdown();
+    }
+
+    @Test
+    void translatesOncePerLanguageAndSharesResult() {
+        when(translationService.translateMessages(List.of(CONTENT), "en")).thenReturn(List.of("hello"));
+        ChatSendContext context = context(
+                member(1L, "en", true), member(2L, "en", true), member(3L, "en", true), member(4L, "en", false)
+        );
+
+        ChatSendContext translated = chatMessageService.translateForSend(context);
+
+        verify(translationService, times(1)).translateMessages(List.of(CONTENT), "en");
+        assertThat(translated.translatedContents())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(1L, "hello", 2L, "hello", 3L, "hello"));
+        assertThat(translated.translationsByLanguage()).containsExactlyEntriesOf(Map.of("en", "hello"));
+        DistributionSummary saved = meterRegistry.find("chat.translation.saved.ratio").summary();
+        assertThat(saved.count()).isEqualTo(1);
+        assertThat(saved.totalAmount()).isCloseTo(2.0 / 3, offset(1e-9));
+    }
+
+    @Test
+    void sendsOriginalToRecipientsOfFailedLanguageOnly() {
+        when(translationService.translateMessages(List.of(CONTENT), "en")).thenReturn(List.of("hello"));
+        when(translationService.translateMessages(List.of(CONTENT), "ja")).thenThrow(new IllegalStateException("quota"));
+        ChatSendContext context = context(member(1L, "en", true), member(2L, "ja", true));
+
+        ChatSendContext translated = chatMessageService.translateForSend(context);
+
+        assertThat(translated.translatedContents()).containsExactlyEntriesOf(Map.of(1L, "hello"));
+        assertThat(translated.translationsByLanguage()).containsEntry("en", "hello").containsEntry("ja", null);
+    }
+
+    @Test
+    void translatesDifferentLanguagesConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean(true);
+        when(translationService.translateMessages(eq(List.of(CONTENT)), eq("en"))).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            overlapped.compareAndSet(true, bothStarted.await(5, TimeUnit.SECONDS));
+            return List.of("hello");
+        });
+        when(translationService.translateMessages(eq(List.of(CONTENT)), eq("ja"))).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            overlapped.compareAndSet(true, bothStarted.await(5, TimeUnit.SECONDS));
+            return List.of("こんにちは");
+        });
+
+        ChatSendContext translated = chatMessageService.translateForSend(context(member(1L, "en", true), member(2L, "ja", true)));
+
+        assertThat(overlapped).isTrue();
+        assertThat(translated.translatedContents()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "hello", 2L, "こんにちは"));
+    }
+
+    @Test
+    void skipsTranslationWhenNobodyTranslates() {
+        ChatSendContext context = context(member(1L, "en", false), member(2L, null, true));
+
+        ChatSendContext translated = chatMessageService.translateForSend(context);
+
+        assertThat(translated).isSameAs(context);
+        verify(translationService, never()).translateMessages(List.of(CONTENT), "en");
+        assertThat(meterRegistry.find("chat.translation.saved.ratio").summary()).isNull();
+    }
+
+    private record Recipient(ChatRoomSnapshot.Member member, UserResponseDto user) {}
+
+    private Recipient member(Long userId, String translateLanguage, boolean translateEnabled) {
+        UserResponseDto user = new UserResponseDto(userId, "user" + userId, "", "", null, null, null, null, null, null,
+                translateLanguage, null, null, null, null, null, null, false, false, false, null);
+        return new Recipient(new ChatRoomSnapshot.Member(userId, ChatParticipantStatus.ACTIVE, translateEnabled, null), user);
+    }
+
+    private ChatSendContext context(Recipient... recipients) {
+        ChatMessage message = new ChatMessage(ROOM_ID, 99L, CONTENT);
+        message.assignId("000000000000000000000001");
+        List<ChatRoomSnapshot.Member> members = Arrays.stream(recipients).map(Recipient::member).toList();
+        Map<Long, UserResponseDto> users = new HashMap<>();
+        Arrays.stream(recipients).forEach(recipient -> users.put(recipient.user().userId(), recipient.user()));
+        ChatRoomSnapshot room = new ChatRoomSnapshot(ROOM_ID, true, 99L, "room", members);
+        return new ChatSendContext(message, room, users, null, Map.of(), Map.of());
+    }
+}
@@ -0,0 +1,91 @@
+package core.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import core.domain.chat.dto.ChatMessageResponse;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.domain.chat.dto.UnreadBadgeResponse;
+import core.domain.chat.dto.UserResponseDto;
+import core.domain.chat.entity.ChatMessage;
+import core.global.config.JacksonConfig;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.AbstractMessageChannel;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 직렬화한 페이로드가 convertAndSend (애플리케이션 ObjectMapper를 쓰는 STOMP 컨버터) 결과와 같은 바이트인지 확인합니다.
+ */
+class ChatPayloadBroadcasterTest {
+
+    private final List<Message<?>> sent = new ArrayList<>();
+    private SimpMessagingTemplate messagingTemplate;
+    private ChatPayloadBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+        AbstractMessageChannel channel = new AbstractMessageChannel() {
+            @Override
+            protected boolean sendInternal(Message<?> message, long timeout) {
+                sent.add(message);
+                return true;
+            }
+        };
+        // 스프링 부트가 STOMP 브로커 메시지 컨버터를 구성하는 방식과 같게, 애플리케이션 ObjectMapper를 사용합니다.
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        messagingTemplate = new SimpMessagingTemplate(channel);
+        messagingTemplate.setMessageConverter(converter);
+        broadcaster = new ChatPayloadBroadcaster(messagingTemplate, objectMapper);
+    }
+
+    @Test
+    void encodesMessageLikeConvertAndSend() {
+        ChatMessage message = new ChatMessage(1L, 20L, "안녕하세요 \"quoted\"");
+        message.assignId(new ObjectId().toHexString());
+        message.assignSequence(7);
+
+        assertSameBytes(ChatMessageResponse.from(message, UserResponseDto.unknown(), "hello"));
+        assertSameBytes(ChatMessageResponse.from(message, UserResponseDto.unknown(), null));
+    }
+
+    @Test
+    void encodesRoomSummaryAndBadgeLikeConvertAndSend() {
+        assertSameBytes(new ChatRoomSummaryResponse(1L, "room", "last", Instant.parse("2026-10-16T12:00:00.123456Z"), null, 3, 2));
+        assertSameBytes(new ChatRoomSummaryResponse(2L, "empty", null, null, "https://image", 0, 1));
+        assertSameBytes(new UnreadBadgeResponse(42));
+    }
+
+    @Test
+    void sendsSharedBytesAsJson() {
+        byte[] payload = broadcaster.encode(new UnreadBadgeResponse(1));
+
+        broadcaster.send("/topic/user/1/badge", payload);
+        broadcaster.send("/topic/user/2/badge", payload);
+
+        assertThat(sent).hasSize(2).allSatisfy(message -> {
+            assertThat(message.getPayload()).isSameAs(payload);
+            assertThat(message.getHeaders().get(MessageHeaders.CONTENT_TYPE).toString())
+                    .isEqualTo(MimeTypeUtils.APPLICATION_JSON_VALUE);
+        });
+    }
+
+    private void assertSameBytes(Object payload) {
+        sent.clear();
+        messagingTemplate.convertAndSend("/topic/test", payload);
+        byte[] converted = (byte[]) sent.getFirst().getPayload();
+
+        assertThat(new String(broadcaster.encode(payload))).isEqualTo(new String(converted));
+    }
+}
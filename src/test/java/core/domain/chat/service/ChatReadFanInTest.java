@@ -0,0 +1,107 @@
+package core.domain.chat.service;
+
+import core.global.config.FeignAuthConfig;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatReadFanInTest {
+
+    private final RequestInterceptor interceptor = new FeignAuthConfig().bearerForwardingInterceptor();
+    private SimpleMeterRegistry meterRegistry;
+    private ChatReadFanIn readFanIn;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        readFanIn = new ChatReadFanIn(meterRegistry);
+        ReflectionTestUtils.setField(readFanIn, "profileTimeout", Duration.ofMillis(100));
+        ReflectionTestUtils.setField(readFanIn, "sendersTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(readFanIn, "translationTimeout", Duration.ofSeconds(1));
+
+        request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        readFanIn.shutdown();
+    }
+
+    @Test
+    void forwardsAuthorizationReadOnRequestThreadAfterRequestEnded() {
+        CountDownLatch requestEnded = new CountDownLatch(1);
+        CompletableFuture<Collection<String>> future = readFanIn.call(ChatReadFanIn.Phase.SENDERS, () -> {
+            awaitQuietly(requestEnded);
+            return feignHeaders();
+        });
+
+        request.removeHeader(HttpHeaders.AUTHORIZATION);
+        RequestContextHolder.resetRequestAttributes();
+        requestEnded.countDown();
+
+        assertThat(future.join()).containsExactly("Bearer token");
+    }
+
+    @Test
+    void doesNotExposeRequestAttributesToWorkerThread() {
+        CompletableFuture<Object> future = readFanIn.call(ChatReadFanIn.Phase.SENDERS, RequestContextHolder::getRequestAttributes);
+
+        assertThat(future.join()).isNull();
+    }
+
+    @Test
+    void sendsNoAuthorizationWithoutRequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        CompletableFuture<Collection<String>> future = readFanIn.call(ChatReadFanIn.Phase.SENDERS, this::feignHeaders);
+
+        assertThat(future.join()).isNull();
+    }
+
+    @Test
+    void fallsBackWhenCallTimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> future = readFanIn.call(ChatReadFanIn.Phase.PROFILE, () -> {
+            awaitQuietly(release);
+            return "late";
+        });
+
+        assertThat(readFanIn.await(future, "fallback")).isEqualTo("fallback");
+        release.countDown();
+        assertThat(meterRegistry.get("chat.read.phase.latency").tag("phase", "profile").tag("outcome", "timeout").timer().count())
+                .isEqualTo(1);
+    }
+
+    private Collection<String> feignHeaders() {
+        RequestTemplate template = new RequestTemplate();
+        interceptor.apply(template);
+        return template.headers().get(HttpHeaders.AUTHORIZATION);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
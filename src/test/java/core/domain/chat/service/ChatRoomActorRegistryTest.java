@@ -0,0 +1,179 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.SendMessageRequest;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.global.enums.ChatParticipantStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomActorRegistryTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long SENDER_ID = 10L;
+
+    @Mock
+    private ChatRoomSnapshotCache roomSnapshotCache;
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatMessageService chatMessageService;
+    @Mock
+    private ChatMessageColdStorage coldStorage;
+
+    private final List<ChatRoomActorRegistry> registries = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        registries.forEach(ChatRoomActorRegistry::shutdown);
+    }
+
+    @Test
+    void seedsFromLargerOfHotAndColdSequence() {
+        givenMember();
+        when(chatMessageRepository.findMaxSequence(ROOM_ID)).thenReturn(5L);
+        when(coldStorage.findMaxSequence(ROOM_ID)).thenReturn(7L);
+        givenSaveReturnsMessage();
+        ChatRoomActorRegistry registry = registry(3);
+
+        assertThat(registry.persist(request()).getSequence()).isEqualTo(8L);
+        assertThat(registry.persist(request()).getSequence()).isEqualTo(9L);
+        verify(chatMessageRepository, times(1)).findMaxSequence(ROOM_ID);
+    }
+
+    @Test
+    void reseedsAndRetriesWhenAnotherNodeUsedTheSequence() {
+        givenMember();
+        when(chatMessageRepository.findMaxSequence(ROOM_ID)).thenReturn(0L, 4L);
+        when(chatMessageService.saveMessageForActiveMember(eq(ROOM_ID), eq(SENDER_ID), any(), anyLong()))
+                .thenThrow(new DuplicateKeyException("room_seq_unique"))
+                .thenAnswer(invocation -> message(invocation.getArgument(3)));
+        ChatRoomActorRegistry registry = registry(3);
+
+        assertThat(registry.persist(request()).getSequence()).isEqualTo(5L);
+        verify(chatMessageService).saveMessageForActiveMember(ROOM_ID, SENDER_ID, "hi", 1L);
+        verify(chatMessageService).saveMessageForActiveMember(ROOM_ID, SENDER_ID, "hi", 5L);
+    }
+
+    @Test
+    void givesUpAfterConfiguredRetries() {
+        givenMember();
+        when(chatMessageService.saveMessageForActiveMember(eq(ROOM_ID), eq(SENDER_ID), any(), anyLong()))
+                .thenThrow(new DuplicateKeyException("room_seq_unique"));
+        ChatRoomActorRegistry registry = registry(2);
+
+        assertThatThrownBy(() -> registry.persist(request())).isInstanceOf(DuplicateKeyException.class);
+        verify(chatMessageService, times(2)).saveMessageForActiveMember(eq(ROOM_ID), eq(SENDER_ID), any(), anyLong());
+    }
+
+    @Test
+    void assignsDistinctConsecutiveSequencesToConcurrentSenders() throws Exception {
+        givenMember();
+        givenSaveReturnsMessage();
+        ChatRoomActorRegistry registry = registry(3);
+
+        List<Long> sequences = persistConcurrently(List.of(registry), 200);
+
+        assertThat(sequences).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, 200).boxed().toList());
+    }
+
+    @Test
+    void nodesSharingARoomNeverStoreTheSameSequence() throws Exception {
+        givenMember();
+        ConcurrentSkipListSet<Long> stored = new ConcurrentSkipListSet<>();
+        // (room_id, seq) 유일 인덱스처럼 이미 쓰인 순번의 저장을 거부합니다.
+        when(chatMessageService.saveMessageForActiveMember(eq(ROOM_ID), eq(SENDER_ID), any(), anyLong()))
+                .thenAnswer(invocation -> {
+                    long sequence = invocation.getArgument(3);
+                    if (!stored.add(sequence)) {
+                        throw new DuplicateKeyException("room_seq_unique");
+                    }
+                    return message(sequence);
+                });
+        when(chatMessageRepository.findMaxSequence(ROOM_ID))
+                .thenAnswer(invocation -> stored.isEmpty() ? 0L : stored.last());
+        ChatRoomActorRegistry first = registry(1_000);
+        ChatRoomActorRegistry second = registry(1_000);
+
+        List<Long> sequences = persistConcurrently(List.of(first, second), 200);
+
+        assertThat(sequences).hasSize(200).doesNotHaveDuplicates();
+        assertThat(stored).hasSize(200);
+    }
+
+    private List<Long> persistConcurrently(List<ChatRoomActorRegistry> nodes, int count) throws Exception {
+        ExecutorService senders = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                ChatRoomActorRegistry node = nodes.get(i % nodes.size());
+                tasks.add(() -> node.persist(request()).getSequence());
+            }
+            List<Long> sequences = new ArrayList<>();
+            for (Future<Long> future : senders.invokeAll(tasks)) {
+                sequences.add(future.get());
+            }
+            return sequences;
+        } finally {
+            senders.shutdownNow();
+        }
+    }
+
+    private ChatRoomActorRegistry registry(int sequenceRetries) {
+        ChatRoomActorRegistry registry = new ChatRoomActorRegistry(
+                roomSnapshotCache, chatMessageRepository, chatMessageService, coldStorage, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(registry, "enabled", true);
+        ReflectionTestUtils.setField(registry, "sequenceRetries", sequenceRetries);
+        registry.init();
+        registries.add(registry);
+        return registry;
+    }
+
+    private void givenMember() {
+        ChatRoomSnapshot.Member member = new ChatRoomSnapshot.Member(SENDER_ID, ChatParticipantStatus.ACTIVE, false, null);
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, SENDER_ID, "room", List.of(member)));
+    }
+
+    private void givenSaveReturnsMessage() {
+        lenient().when(chatMessageService.saveMessageForActiveMember(eq(ROOM_ID), eq(SENDER_ID), any(), anyLong()))
+                .thenAnswer(invocation -> message(invocation.getArgument(3)));
+    }
+
+    private static SendMessageRequest request() {
+        return new SendMessageRequest(ROOM_ID, SENDER_ID, "hi");
+    }
+
+    private static ChatMessage message(long sequence) {
+        ChatMessage message = new ChatMessage(ROOM_ID, SENDER_ID, "hi");
+        message.assignSequence(sequence);
+        return message;
+    }
+}
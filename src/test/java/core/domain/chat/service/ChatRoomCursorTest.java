@@ -0,0 +1,74 @@
+package core.domain.chat.service;
+
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import core.global.pagination.CursorCodec;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatRoomCursorTest {
+
+    @Test
+    void decodesCursorProducedForLatestPage() {
+        Instant lastMessageAt = Instant.parse("2026-10-16T12:34:56.789Z");
+
+        ChatRoomService.RoomCursor cursor = ChatRoomService.decodeRoomCursor(CursorCodec.encodeLatest(lastMessageAt, 42L));
+
+        assertThat(cursor).isEqualTo(new ChatRoomService.RoomCursor(lastMessageAt, 42L));
+    }
+
+    @Test
+    void decodesCursorOfRoomWithoutMessages() {
+        ChatRoomService.RoomCursor cursor = ChatRoomService.decodeRoomCursor(CursorCodec.encodeLatest(null, 7L));
+
+        assertThat(cursor).isEqualTo(new ChatRoomService.RoomCursor(null, 7L));
+    }
+
+    @Test
+    void firstPageHasNoCursor() {
+        assertThat(ChatRoomService.decodeRoomCursor(null)).isNull();
+        assertThat(ChatRoomService.decodeRoomCursor(" ")).isNull();
+    }
+
+    @Test
+    void rejectsCursorWithoutRoomId() {
+        String cursor = CursorCodec.encode(Map.of("t", "2026-10-16T00:00:00Z"));
+
+        assertInvalid(cursor);
+    }
+
+    @Test
+    void rejectsCursorWithMalformedTime() {
+        String cursor = CursorCodec.encode(Map.of("t", "yesterday", "id", 1));
+
+        assertInvalid(cursor);
+    }
+
+    @Test
+    void rejectsCursorThatIsNotEncodedJson() {
+        assertInvalid("not a cursor!");
+        assertInvalid(Base64.getUrlEncoder().withoutPadding().encodeToString("{".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void codecRoundTripsPayload() {
+        String encoded = CursorCodec.encode(Map.of("id", 5, "t", "2026-10-16T00:00:00Z"));
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(CursorCodec.decode(encoded)).containsEntry("id", 5).containsEntry("t", "2026-10-16T00:00:00Z");
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> ChatRoomService.decodeRoomCursor(cursor))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+}
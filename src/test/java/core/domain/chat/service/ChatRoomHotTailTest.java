@@ -0,0 +1,158 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomHotTailTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatMessageColdStorage coldStorage;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisContainer;
+
+    private ChatRoomHotTail hotTail;
+
+    @BeforeEach
+    void setUp() {
+        hotTail = new ChatRoomHotTail(chatMessageRepository, coldStorage, redisTemplate, redisContainer, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(hotTail, "enabled", true);
+        ReflectionTestUtils.setField(hotTail, "capacity", 5);
+        ReflectionTestUtils.setField(hotTail, "maxBytes", 1_000_000L);
+        hotTail.init();
+    }
+
+    @Test
+    void warmsFromRepositoryAndServesLatestNewestFirst() {
+        List<ChatMessage> stored = messages(3);
+        when(chatMessageRepository.findByChatRoomId(eq(ROOM_ID), any(Pageable.class))).thenReturn(stored.reversed());
+
+        assertThat(hotTail.latest(ROOM_ID, 3)).contains(stored.reversed());
+        assertThat(hotTail.latest(ROOM_ID, 2)).contains(stored.reversed().subList(0, 2));
+        verify(chatMessageRepository, times(1)).findByChatRoomId(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    void mergesAppendsAndRemovalsThatArriveWhileWarming() {
+        List<ChatMessage> stored = messages(3);
+        ChatMessage arrived = message("new");
+        when(chatMessageRepository.findByChatRoomId(eq(ROOM_ID), any(Pageable.class))).thenAnswer(invocation -> {
+            hotTail.append(arrived);
+            hotTail.remove(ROOM_ID, stored.get(1).getId());
+            return stored.reversed();
+        });
+
+        Optional<List<ChatMessage>> latest = hotTail.latest(ROOM_ID, 5);
+
+        assertThat(latest).contains(List.of(arrived, stored.get(2), stored.get(0)));
+    }
+
+    @Test
+    void doesNotServeWhileAnotherThreadIsWarming() {
+        List<ChatMessage> stored = messages(2);
+        List<Optional<List<ChatMessage>>> nested = new ArrayList<>();
+        when(chatMessageRepository.findByChatRoomId(eq(ROOM_ID), any(Pageable.class))).thenAnswer(invocation -> {
+            nested.add(hotTail.latest(ROOM_ID, 2));
+            return stored.reversed();
+        });
+
+        assertThat(hotTail.latest(ROOM_ID, 2)).isPresent();
+        assertThat(nested).containsExactly(Optional.empty());
+    }
+
+    @Test
+    void missesWhenTrimmedTailCannotFillTheRequest() {
+        List<ChatMessage> stored = messages(5);
+        when(chatMessageRepository.findByChatRoomId(eq(ROOM_ID), any(Pageable.class))).thenReturn(stored.reversed());
+        hotTail.latest(ROOM_ID, 1);
+
+        hotTail.remove(ROOM_ID, stored.get(4).getId());
+
+        assertThat(hotTail.latest(ROOM_ID, 5)).isEmpty();
+        assertThat(hotTail.latest(ROOM_ID, 4)).isPresent();
+    }
+
+    @Test
+    void appliesAppendFromAnotherNodeWithoutRewarming() {
+        when(chatMessageRepository.findByChatRoomId(eq(ROOM_ID), any(Pageable.class))).thenReturn(List.of());
+        when(coldStorage.hasMessages(ROOM_ID)).thenReturn(false);
+        hotTail.latest(ROOM_ID, 1);
+        ChatMessage remote = message("remote");
+        when(chatMessageRepository.findById(remote.getId())).thenReturn(Optional.of(remote));
+
+        hotTail.onMessage(changeMessage("other-node:A:" + ROOM_ID + ":" + remote.getId()), null);
+
+        assertThat(hotTail.latest(ROOM_ID, 1)).contains(List.of(remote));
+        verify(chatMessageRepository, times(1)).findByChatRoomId(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    void ignoresRemoteAppendForRoomThatIsNotCached() {
+        hotTail.onMessage(changeMessage("other-node:A:" + ROOM_ID + ":" + new ObjectId().toHexString()), null);
+
+        verify(chatMessageRepository, never()).findById(any());
+    }
+
+    @Test
+    void appliesRemovalFromAnotherNode() {
+        List<ChatMessage> stored = messages(2);
+        when(chatMessageRepository.findByChatRoomId(eq(ROOM_ID), any(Pageable.class))).thenReturn(stored.reversed());
+        when(coldStorage.hasMessages(ROOM_ID)).thenReturn(false);
+        hotTail.latest(ROOM_ID, 1);
+
+        hotTail.onMessage(changeMessage("other-node:R:" + ROOM_ID + ":" + stored.get(1).getId()), null);
+
+        assertThat(hotTail.latest(ROOM_ID, 2)).contains(List.of(stored.get(0)));
+    }
+
+    private List<ChatMessage> messages(int count) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(message("m" + i));
+        }
+        return messages;
+    }
+
+    private static ChatMessage message(String content) {
+        ChatMessage message = new ChatMessage(ROOM_ID, 10L, content);
+        message.assignId(new ObjectId().toHexString());
+        return message;
+    }
+
+    private static DefaultMessage changeMessage(String body) {
+        return new DefaultMessage(
+                ChatRoomHotTail.INVALIDATION_TOPIC.getTopic().getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,167 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageRepositoryCustomImpl;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.concurrent.RedisLeaseLock;
+import core.support.MongoContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 MongoDB의 마지막 메시지(보관 버킷 포함)를 기준으로 chat_room 컬럼을 바로잡는지 확인합니다.
+ * Postgres 갱신은 조건부 UPDATE 쿼리 호출로 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomLastMessageRepairJobTest extends MongoContainerTest {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+    private static final String CURSOR_KEY = "chat:last-message-repair:cursor";
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private RedisLeaseLock leaseLock;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ChatMessageColdStorage coldStorage;
+    private ChatRoomLastMessageRepairJob job;
+
+    @BeforeEach
+    void setUp() {
+        ChatMessageRepository chatMessageRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(
+                ChatMessageRepository.class, RepositoryFragments.just(new ChatMessageRepositoryCustomImpl(mongoTemplate)));
+        coldStorage = new ChatMessageColdStorage(mongoTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(coldStorage, "bucketSize", 3);
+        ReflectionTestUtils.setField(coldStorage, "minBucketSize", 1);
+        ReflectionTestUtils.setField(coldStorage, "compress", true);
+        coldStorage.init();
+        job = new ChatRoomLastMessageRepairJob(
+                chatRoomRepository, chatMessageRepository, coldStorage, transactionTemplate, leaseLock, redisTemplate);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "leaseTtl", Duration.ofMinutes(5));
+
+        lenient().when(leaseLock.runExclusively(eq("last-message-repair"), any(Duration.class), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void alignsColumnsWithLastHotOrArchivedMessage() {
+        ReflectionTestUtils.setField(job, "batchSize", 10);
+        save(1L, 0);
+        ChatMessage roomOneLast = save(1L, 1);
+        ChatMessage roomTwoLast = save(2L, 2);
+        ChatMessage roomThreeLast = save(3L, 3);
+        ChatMessage archived = save(4L, 4);
+        coldStorage.compactRoom(4L, new ObjectId(Date.from(BASE.plusSeconds(10))));
+        String deletedId = new ObjectId(Date.from(BASE.plusSeconds(100))).toHexString();
+        givenRooms(0L, 10, room(1L, null), room(2L, deletedId), room(3L, roomThreeLast.getId()), room(4L, null));
+
+        job.repair();
+
+        verify(chatRoomRepository).advanceLastMessage(1L, roomOneLast.getId(), "m1", 20L, BASE.plusSeconds(1));
+        verify(chatRoomRepository).replaceLastMessage(2L, roomTwoLast.getId(), "m2", 20L, BASE.plusSeconds(2));
+        verify(chatRoomRepository, never()).advanceLastMessage(eq(3L), anyString(), any(), any(), any());
+        verify(chatRoomRepository, never()).replaceLastMessage(eq(3L), any(), any(), any(), any());
+        verify(chatRoomRepository).advanceLastMessage(4L, archived.getId(), "m4", 20L, BASE.plusSeconds(4));
+        verify(valueOperations).set(CURSOR_KEY, "0");
+    }
+
+    @Test
+    void clearsColumnsWhenRoomHasNoMessagesLeft() {
+        ReflectionTestUtils.setField(job, "batchSize", 10);
+        givenRooms(0L, 10, room(5L, new ObjectId().toHexString()));
+
+        job.repair();
+
+        verify(chatRoomRepository).replaceLastMessage(5L, null, null, null, null);
+    }
+
+    @Test
+    void resumesFromSharedCursorAndIsolatesFailingRoom() {
+        ReflectionTestUtils.setField(job, "batchSize", 2);
+        when(valueOperations.get(CURSOR_KEY)).thenReturn("5");
+        ChatMessage failing = save(6L, 0);
+        ChatMessage healthy = save(7L, 1);
+        givenRooms(5L, 2, room(6L, null), room(7L, null));
+        when(chatRoomRepository.advanceLastMessage(eq(6L), anyString(), any(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("deadlock"));
+
+        job.repair();
+
+        verify(chatRoomRepository).advanceLastMessage(6L, failing.getId(), "m0", 20L, BASE);
+        verify(chatRoomRepository).advanceLastMessage(7L, healthy.getId(), "m1", 20L, BASE.plusSeconds(1));
+        verify(valueOperations).set(CURSOR_KEY, "7");
+    }
+
+    @Test
+    void previewKeepsWholeCodePoints() {
+        String content = "😀".repeat(ChatRoom.PREVIEW_LENGTH + 50);
+
+        String preview = ChatRoom.preview(content);
+
+        assertThat(preview.codePointCount(0, preview.length())).isEqualTo(ChatRoom.PREVIEW_LENGTH);
+        assertThat(preview).isEqualTo("😀".repeat(ChatRoom.PREVIEW_LENGTH));
+        assertThat(ChatRoom.preview("short")).isEqualTo("short");
+    }
+
+    private void givenRooms(Long afterId, int batchSize, ChatRoom... rooms) {
+        when(chatRoomRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, batchSize)))
+                .thenReturn(List.of(rooms));
+    }
+
+    private ChatRoom room(Long roomId, String lastMessageId) {
+        ChatRoom room = new ChatRoom(true, BASE);
+        ReflectionTestUtils.setField(room, "id", roomId);
+        ReflectionTestUtils.setField(room, "lastMessageId", lastMessageId);
+        return room;
+    }
+
+    private ChatMessage save(Long roomId, int second) {
+        Instant at = BASE.plusSeconds(second);
+        ChatMessage message = new ChatMessage(roomId, 20L, "m" + second);
+        message.assignId(new ObjectId(Date.from(at)).toHexString());
+        ReflectionTestUtils.setField(message, "sentAt", at);
+        return mongoTemplate.insert(message);
+    }
+}
@@ -0,0 +1,77 @@
+package core.domain.chat.service;
+
+import core.domain.chat.service.ChatRoomNameIndex.Match;
+import core.domain.chat.service.ChatRoomNameIndex.RoomNames;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomNameIndexTest {
+
+    private final RoomNames roomNames = RoomNames.of(Map.of(
+            1L, "강철수 동호회",
+            2L, "Weekend  Hiking",
+            3L, "김철수",
+            4L, "서울 여행"
+    ));
+
+    @Test
+    void normalizesComposedFormCaseAndWhitespace() {
+        String decomposed = Normalizer.normalize("김철수", Normalizer.Form.NFD);
+
+        assertThat(decomposed).isNotEqualTo("김철수");
+        assertThat(ChatRoomNameIndex.normalize(decomposed)).isEqualTo("김철수");
+        assertThat(ChatRoomNameIndex.normalize("  Weekend \t Hiking ")).isEqualTo("weekend hiking");
+    }
+
+    @Test
+    void turnsHangulSyllablesIntoInitials() {
+        assertThat(ChatRoomNameIndex.initials("강철수 동호회")).isEqualTo("ㄱㅊㅅ ㄷㅎㅎ");
+        assertThat(ChatRoomNameIndex.initials("까치 abc 1")).isEqualTo("ㄲㅊ abc 1");
+        assertThat(ChatRoomNameIndex.initials("힣")).isEqualTo("ㅎ");
+    }
+
+    @Test
+    void matchesInitialsOnlyKeywordAgainstInitials() {
+        assertThat(roomNames.search("ㅊㅅ"))
+                .containsExactlyInAnyOrder(new Match(1L, false), new Match(3L, false));
+        assertThat(roomNames.search("ㄱㅊㅅ"))
+                .containsExactlyInAnyOrder(new Match(1L, true), new Match(3L, true));
+        assertThat(roomNames.search("ㄷㅎ")).containsExactly(new Match(1L, true));
+    }
+
+    @Test
+    void matchesSubstringThroughBigrams() {
+        assertThat(roomNames.search("철수"))
+                .containsExactlyInAnyOrder(new Match(1L, false), new Match(3L, false));
+        assertThat(roomNames.search("HIK")).containsExactly(new Match(2L, true));
+        assertThat(roomNames.search("eekend")).containsExactly(new Match(2L, false));
+    }
+
+    @Test
+    void requiresWholeKeywordNotJustSharedBigrams() {
+        assertThat(roomNames.search("철수여행")).isEmpty();
+        assertThat(roomNames.search("수동")).isEmpty();
+    }
+
+    @Test
+    void matchesDecomposedKeyword() {
+        String decomposed = Normalizer.normalize("여행", Normalizer.Form.NFD);
+
+        assertThat(roomNames.search(decomposed)).containsExactly(new Match(4L, true));
+    }
+
+    @Test
+    void singleCharacterKeywordScansAllRooms() {
+        assertThat(roomNames.search("서")).containsExactly(new Match(4L, true));
+        assertThat(roomNames.search("g")).containsExactly(new Match(2L, false));
+    }
+
+    @Test
+    void emptyKeywordMatchesEveryRoom() {
+        assertThat(roomNames.search("")).extracting(Match::roomId).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+}
@@ -0,0 +1,105 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.global.enums.ChatParticipantStatus;
+import core.global.enums.ErrorCode;
+import core.global.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSubscriptionGuardTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long MEMBER_ID = 10L;
+
+    @Mock
+    private ChatRoomSnapshotCache roomSnapshotCache;
+
+    private ChatRoomSubscriptionGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new ChatRoomSubscriptionGuard(roomSnapshotCache);
+        ReflectionTestUtils.setField(guard, "enabled", true);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/rooms/*", "/topic/rooms/**", "/topic/**", "/topic/rooms/1/*",
+            "/topic/user/*/messages", "/topic/rooms/?", "/topic/rooms/{roomId}"})
+    void rejectsPatternSubscriptions(String destination) {
+        assertThatThrownBy(() -> guard.checkSubscribe(MEMBER_ID, destination))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(roomSnapshotCache);
+    }
+
+    @Test
+    void rejectsPatternSubscriptionsEvenWhenRoomTopicModeIsOff() {
+        ReflectionTestUtils.setField(guard, "enabled", false);
+
+        assertThatThrownBy(() -> guard.checkSubscribe(MEMBER_ID, "/topic/**"))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void allowsActiveMember() {
+        givenMember(MEMBER_ID, ChatParticipantStatus.ACTIVE);
+
+        assertThatCode(() -> guard.checkSubscribe(MEMBER_ID, "/topic/rooms/1")).doesNotThrowAnyException();
+        assertThatCode(() -> guard.checkSubscribe(MEMBER_ID, "/topic/rooms/1/read-status")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsNonMember() {
+        givenMember(MEMBER_ID, ChatParticipantStatus.ACTIVE);
+
+        assertThatThrownBy(() -> guard.checkSubscribe(99L, "/topic/rooms/1"))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsMemberWhoLeft() {
+        givenMember(MEMBER_ID, ChatParticipantStatus.LEFT);
+
+        assertThatThrownBy(() -> guard.checkSubscribe(MEMBER_ID, "/topic/rooms/1"))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsUnknownRoomAndAnonymousUser() {
+        when(roomSnapshotCache.get(2L)).thenThrow(new BusinessException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+
+        assertThatThrownBy(() -> guard.checkSubscribe(MEMBER_ID, "/topic/rooms/2"))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> guard.checkSubscribe(null, "/topic/rooms/1"))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void leavesOtherTopicsAndOffModeAlone() {
+        assertThatCode(() -> guard.checkSubscribe(MEMBER_ID, "/topic/user/10/messages")).doesNotThrowAnyException();
+
+        ReflectionTestUtils.setField(guard, "enabled", false);
+        assertThatCode(() -> guard.checkSubscribe(99L, "/topic/rooms/1")).doesNotThrowAnyException();
+        verifyNoInteractions(roomSnapshotCache);
+    }
+
+    private void givenMember(Long userId, ChatParticipantStatus status) {
+        ChatRoomSnapshot.Member member = new ChatRoomSnapshot.Member(userId, status, false, null);
+        when(roomSnapshotCache.get(ROOM_ID)).thenReturn(new ChatRoomSnapshot(ROOM_ID, true, userId, "room", List.of(member)));
+    }
+}
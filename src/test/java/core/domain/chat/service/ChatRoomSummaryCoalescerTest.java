@@ -0,0 +1,150 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.ChatRoomSummaryResponse;
+import core.global.enums.ChatParticipantStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomSummaryCoalescerTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final Long OTHER_USER_ID = 20L;
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final ChatRoomSnapshot ROOM = new ChatRoomSnapshot(ROOM_ID, true, USER_ID, "room", List.of(
+            new ChatRoomSnapshot.Member(USER_ID, ChatParticipantStatus.ACTIVE, false, null),
+            new ChatRoomSnapshot.Member(OTHER_USER_ID, ChatParticipantStatus.ACTIVE, false, null)
+    ));
+
+    @Mock
+    private ChatUnreadCounterService unreadCounterService;
+    @Mock
+    private ChatPayloadBroadcaster payloadBroadcaster;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoomSummaryCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new ChatRoomSummaryCoalescer(unreadCounterService, payloadBroadcaster, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "flushIntervalMs", 60_000L);
+        coalescer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void sendsOnlyLatestPendingSummaryOfRoom() {
+        givenEncoder();
+        when(unreadCounterService.countUnread(ROOM_ID, USER_ID)).thenReturn(3);
+
+        coalescer.submit(USER_ID, ROOM, "room", null, "first", NOW);
+        coalescer.submit(USER_ID, ROOM, "room", null, "second", NOW.plusSeconds(1));
+        coalescer.submit(USER_ID, ROOM, "room", null, "third", NOW.plusSeconds(2));
+        flush();
+
+        ArgumentCaptor<ChatRoomSummaryResponse> encoded = ArgumentCaptor.forClass(ChatRoomSummaryResponse.class);
+        verify(payloadBroadcaster).encode(encoded.capture());
+        assertThat(encoded.getValue()).isEqualTo(new ChatRoomSummaryResponse(
+                ROOM_ID, "room", "third", NOW.plusSeconds(2), null, 3, 2));
+        verify(payloadBroadcaster, times(1)).send(eq("/topic/user/" + USER_ID + "/rooms"), any());
+        assertThat(meterRegistry.counter("chat.summary.suppressed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("chat.summary.sent").count()).isEqualTo(1);
+    }
+
+    @Test
+    void readsUnreadCountWhenFlushing() {
+        givenEncoder();
+        when(unreadCounterService.countUnread(ROOM_ID, USER_ID)).thenReturn(0);
+
+        coalescer.submit(USER_ID, ROOM, "room", null, "hello", NOW);
+        verify(unreadCounterService, never()).countUnread(anyLong(), anyLong());
+        flush();
+
+        ArgumentCaptor<ChatRoomSummaryResponse> encoded = ArgumentCaptor.forClass(ChatRoomSummaryResponse.class);
+        verify(payloadBroadcaster).encode(encoded.capture());
+        assertThat(encoded.getValue().unreadCount()).isZero();
+    }
+
+    @Test
+    void encodesIdenticalSummaryOnceAcrossUsers() {
+        givenEncoder();
+        when(unreadCounterService.countUnread(eq(ROOM_ID), anyLong())).thenReturn(1);
+
+        coalescer.submit(USER_ID, ROOM, "room", null, "hello", NOW);
+        coalescer.submit(OTHER_USER_ID, ROOM, "room", null, "hello", NOW);
+        flush();
+
+        verify(payloadBroadcaster, times(1)).encode(any());
+        ArgumentCaptor<byte[]> sentUser = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> sentOther = ArgumentCaptor.forClass(byte[].class);
+        verify(payloadBroadcaster).send(eq("/topic/user/" + USER_ID + "/rooms"), sentUser.capture());
+        verify(payloadBroadcaster).send(eq("/topic/user/" + OTHER_USER_ID + "/rooms"), sentOther.capture());
+        assertThat(sentUser.getValue()).isSameAs(sentOther.getValue());
+    }
+
+    @Test
+    void encodesSeparatelyWhenUnreadCountsDiffer() {
+        givenEncoder();
+        when(unreadCounterService.countUnread(ROOM_ID, USER_ID)).thenReturn(0);
+        when(unreadCounterService.countUnread(ROOM_ID, OTHER_USER_ID)).thenReturn(1);
+
+        coalescer.submit(USER_ID, ROOM, "room", null, "hello", NOW);
+        coalescer.submit(OTHER_USER_ID, ROOM, "room", null, "hello", NOW);
+        flush();
+
+        verify(payloadBroadcaster, times(2)).encode(any());
+    }
+
+    @Test
+    void sendsImmediatelyWhenDisabled() {
+        coalescer.shutdown();
+        coalescer = new ChatRoomSummaryCoalescer(unreadCounterService, payloadBroadcaster, meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "enabled", false);
+        coalescer.init();
+        givenEncoder();
+        when(unreadCounterService.countUnread(ROOM_ID, USER_ID)).thenReturn(2);
+
+        coalescer.submit(USER_ID, ROOM, "room", null, "first", NOW);
+        coalescer.submit(USER_ID, ROOM, "room", null, "second", NOW);
+
+        verify(payloadBroadcaster, times(2)).send(eq("/topic/user/" + USER_ID + "/rooms"), any());
+        assertThat(meterRegistry.counter("chat.summary.suppressed").count()).isZero();
+    }
+
+    private void givenEncoder() {
+        when(payloadBroadcaster.encode(any())).thenAnswer(invocation ->
+                invocation.getArgument(0).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void flush() {
+        ReflectionTestUtils.invokeMethod(coalescer, "flush");
+    }
+}
@@ -0,0 +1,117 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.SendMessageRequest;
+import core.domain.chat.entity.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSendPipelineTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @Mock
+    private ChatMessageService chatMessageService;
+    @Mock
+    private ChatRoomActorRegistry roomActors;
+
+    private ChatSendPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        pipeline = new ChatSendPipeline(chatMessageService, roomActors, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(pipeline, "enabled", true);
+        ReflectionTestUtils.setField(pipeline, "persistThreads", 4);
+        ReflectionTestUtils.setField(pipeline, "enrichThreads", 4);
+        ReflectionTestUtils.setField(pipeline, "translateThreads", 4);
+        ReflectionTestUtils.setField(pipeline, "fanOutThreads", 4);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 16);
+        pipeline.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void enrichesMessagesOfARoomInTheOrderTheyWereStored() throws Exception {
+        List<String> stored = new CopyOnWriteArrayList<>();
+        List<String> enriched = new CopyOnWriteArrayList<>();
+        when(chatMessageService.saveMessage(anyLong(), anyLong(), anyString())).thenAnswer(invocation -> {
+            ChatMessage message = new ChatMessage(ROOM_ID, invocation.getArgument(1), invocation.getArgument(2));
+            message.assignId(new ObjectId().toHexString());
+            stored.add(message.getId());
+            Thread.yield();
+            return message;
+        });
+        when(chatMessageService.enrichForSend(any())).thenAnswer(invocation -> {
+            enriched.add(invocation.<ChatMessage>getArgument(0).getId());
+            return Optional.empty();
+        });
+
+        ExecutorService senders = Executors.newFixedThreadPool(8);
+        List<Future<CompletableFuture<Void>>> submissions = new ArrayList<>();
+        try {
+            for (int i = 0; i < 300; i++) {
+                long senderId = i % 8;
+                submissions.add(senders.submit(() -> pipeline.submit(new SendMessageRequest(ROOM_ID, senderId, "m"))));
+            }
+            for (Future<CompletableFuture<Void>> submission : submissions) {
+                submission.get(10, TimeUnit.SECONDS).get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            senders.shutdownNow();
+        }
+
+        assertThat(stored).hasSize(300);
+        assertThat(enriched).containsExactlyElementsOf(stored);
+    }
+
+    @Test
+    void propagatesPersistFailureToCaller() {
+        when(chatMessageService.saveMessage(anyLong(), anyLong(), anyString()))
+                .thenThrow(new IllegalStateException("mongo down"));
+
+        assertThatThrownBy(() -> pipeline.submit(new SendMessageRequest(ROOM_ID, 10L, "m")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("mongo down");
+        verify(chatMessageService, never()).enrichForSend(any());
+    }
+
+    @Test
+    void rejectsSubmissionsAfterShutdownInsteadOfRunningThemOnCaller() {
+        pipeline.shutdown();
+
+        assertThatThrownBy(() -> pipeline.submit(new SendMessageRequest(ROOM_ID, 10L, "m")))
+                .isInstanceOf(RejectedExecutionException.class);
+        verify(chatMessageService, never()).saveMessage(anyLong(), anyLong(), anyString());
+    }
+}
@@ -0,0 +1,140 @@
+package core.domain.chat.service;
+
+import core.domain.chat.client.UserClient;
+import core.domain.chat.dto.ChatRoomSnapshot;
+import core.domain.chat.dto.ChatSyncRequest;
+import core.domain.chat.dto.ChatSyncResponse;
+import core.domain.chat.entity.ChatMessage;
+import core.domain.chat.entity.ChatRoom;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatMessageTombstoneRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.domain.chat.repository.ChatRoomRepository;
+import core.global.enums.ChatParticipantStatus;
+import core.global.service.TranslationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSyncServiceTest {
+
+    private static final Long USER_ID = 10L;
+    private static final int ROOMS = 12;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatMessageTombstoneRepository tombstoneRepository;
+    @Mock
+    private ChatRoomSnapshotCache roomSnapshotCache;
+    @Mock
+    private ChatUnreadCounterService unreadCounterService;
+    @Mock
+    private UserClient userClient;
+    @Mock
+    private TranslationService translationService;
+
+    private ChatSyncService syncService;
+    private final Map<Long, String> lastSeen = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        ChatReadFanIn readFanIn = new ChatReadFanIn(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(readFanIn, "profileTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(readFanIn, "sendersTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(readFanIn, "translationTimeout", Duration.ofSeconds(1));
+
+        syncService = new ChatSyncService(chatRoomRepository, chatParticipantRepository, chatMessageRepository,
+                tombstoneRepository, roomSnapshotCache, unreadCounterService, readFanIn, userClient, translationService);
+        ReflectionTestUtils.setField(syncService, "maxMessagesPerRoom", 2);
+        ReflectionTestUtils.setField(syncService, "clockSkew", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(syncService, "maxConcurrentQueries", 3);
+        syncService.init();
+
+        List<ChatRoom> rooms = new ArrayList<>();
+        for (long roomId = 1; roomId <= ROOMS; roomId++) {
+            ChatRoom room = mock(ChatRoom.class);
+            when(room.getId()).thenReturn(roomId);
+            rooms.add(room);
+            when(roomSnapshotCache.get(roomId)).thenReturn(new ChatRoomSnapshot(roomId, true, null, "room", List.of(
+                    new ChatRoomSnapshot.Member(USER_ID, ChatParticipantStatus.ACTIVE, false, null))));
+            lastSeen.put(roomId, new ObjectId().toHexString());
+        }
+        when(chatRoomRepository.findActiveChatRoomsByUserId(USER_ID, ChatParticipantStatus.ACTIVE)).thenReturn(rooms);
+    }
+
+    @AfterEach
+    void tearDown() {
+        syncService.shutdown();
+    }
+
+    @Test
+    void limitsConcurrentRoomQueries() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThan(anyLong(), anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(30);
+                    running.decrementAndGet();
+                    return List.of(message(invocation.getArgument(0)));
+                });
+
+        ChatSyncResponse response = syncService.sync(USER_ID, new ChatSyncRequest(null, lastSeen));
+
+        assertThat(maxRunning.get()).isBetween(1, 3);
+        assertThat(response.rooms()).hasSize(ROOMS)
+                .allSatisfy(delta -> {
+                    assertThat(delta.reset()).isFalse();
+                    assertThat(delta.messages()).hasSize(1);
+                });
+    }
+
+    @Test
+    void resetsRoomWithMoreNewMessagesThanLimit() {
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThan(anyLong(), anyString(), any(Pageable.class)))
+                .thenAnswer(invocation -> List.of(message(invocation.getArgument(0))));
+        when(chatMessageRepository.findByChatRoomIdAndIdGreaterThan(eq(1L), anyString(), any(Pageable.class)))
+                .thenReturn(List.of(message(1L), message(1L), message(1L)));
+
+        ChatSyncResponse response = syncService.sync(USER_ID, new ChatSyncRequest(null, lastSeen));
+
+        ChatSyncResponse.RoomDelta first = response.rooms().stream().filter(delta -> delta.roomId() == 1L).findFirst().orElseThrow();
+        assertThat(first.reset()).isTrue();
+        assertThat(first.messages()).isEmpty();
+        assertThat(response.rooms()).filteredOn(delta -> delta.roomId() != 1L).noneMatch(ChatSyncResponse.RoomDelta::reset);
+    }
+
+    private static ChatMessage message(Long roomId) {
+        ChatMessage message = new ChatMessage(roomId, 20L, "hi");
+        message.assignId(new ObjectId().toHexString());
+        return message;
+    }
+}
@@ -0,0 +1,124 @@
+package core.domain.chat.service;
+
+import core.domain.chat.dto.UnreadCountDto;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.concurrent.RedisLeaseLock;
+import core.global.enums.ChatParticipantStatus;
+import core.support.RedisContainerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCounterRedisTest extends RedisContainerTest {
+
+    private static final Long USER_ID = 10L;
+    private static final Long OTHER_USER_ID = 20L;
+    private static final Long ROOM_ID = 1L;
+    private static final Long CAPPED_ROOM_ID = 2L;
+    private static final int CAP = 100;
+
+    @Mock
+    private RedisLeaseLock leaseLock;
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+
+    private ChatUnreadCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new ChatUnreadCounterService(redisTemplate, leaseLock, chatMessageRepository, chatParticipantRepository);
+        ReflectionTestUtils.setField(counterService, "countCap", CAP);
+    }
+
+    @Test
+    void storesCappedRoomAtCapWhenCountingRooms() {
+        givenSourceCounts();
+
+        Map<Long, Integer> counts = counterService.countUnread(USER_ID, List.of(ROOM_ID, CAPPED_ROOM_ID));
+
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(ROOM_ID, 3, CAPPED_ROOM_ID, CAP));
+        assertThat(stored(USER_ID)).containsExactlyInAnyOrderEntriesOf(Map.of("1", "3", "2", "100"));
+    }
+
+    @Test
+    void totalSeedsSameValuesAsRoomCounts() {
+        givenSourceCounts();
+        givenActiveRooms(USER_ID);
+
+        counterService.countUnread(OTHER_USER_ID, List.of(ROOM_ID, CAPPED_ROOM_ID));
+        int total = counterService.totalUnread(USER_ID);
+
+        assertThat(total).isEqualTo(3 + CAP);
+        Map<Object, Object> stored = stored(USER_ID);
+        assertThat(stored).containsEntry("_total", "103");
+        stored.remove("_total");
+        assertThat(stored).isEqualTo(stored(OTHER_USER_ID));
+    }
+
+    @Test
+    void incrementsOnlySeededRoomsAndKeepsTotalInStep() {
+        givenSourceCounts();
+        givenActiveRooms(USER_ID);
+        counterService.totalUnread(USER_ID);
+
+        counterService.increment(ROOM_ID, List.of(USER_ID, OTHER_USER_ID));
+
+        assertThat(stored(USER_ID)).containsEntry("1", "4").containsEntry("_total", "104");
+        assertThat(stored(OTHER_USER_ID)).isEmpty();
+        assertThat(counterService.totalUnread(USER_ID)).isEqualTo(104);
+    }
+
+    @Test
+    void resetAndEvictAdjustTotal() {
+        givenSourceCounts();
+        givenActiveRooms(USER_ID);
+        counterService.totalUnread(USER_ID);
+
+        counterService.reset(ROOM_ID, USER_ID);
+        assertThat(stored(USER_ID)).containsEntry("1", "0").containsEntry("_total", "100");
+
+        counterService.evict(CAPPED_ROOM_ID, USER_ID);
+        assertThat(stored(USER_ID)).doesNotContainKey("2").containsEntry("_total", "0");
+    }
+
+    @Test
+    void sendsBadgeOnlyWhenValueChanges() {
+        assertThat(counterService.markBadgeSent(USER_ID, 5)).isTrue();
+        assertThat(counterService.markBadgeSent(USER_ID, 5)).isFalse();
+        assertThat(counterService.markBadgeSent(USER_ID, 6)).isTrue();
+    }
+
+    private void givenSourceCounts() {
+        when(chatParticipantRepository.findByUserIdAndChatRoomIdIn(anyLong(), anyCollection())).thenReturn(List.of());
+        when(chatMessageRepository.countUnreadByRoom(anyLong(), any(), eq(CAP))).thenReturn(List.of(
+                new UnreadCountDto(ROOM_ID, 3L),
+                new UnreadCountDto(CAPPED_ROOM_ID, (long) CAP)
+        ));
+    }
+
+    private void givenActiveRooms(Long userId) {
+        when(chatParticipantRepository.findChatRoomIdsByUserIdAndStatus(userId, ChatParticipantStatus.ACTIVE))
+                .thenReturn(List.of(ROOM_ID, CAPPED_ROOM_ID));
+    }
+
+    private Map<Object, Object> stored(Long userId) {
+        return redisTemplate.opsForHash().entries("chat:unread:" + userId);
+    }
+}
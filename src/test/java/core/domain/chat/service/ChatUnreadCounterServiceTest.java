@@ -0,0 +1,140 @@
+package core.domain.chat.service;
+
+import core.domain.chat.entity.ChatParticipant;
+import core.domain.chat.repository.ChatMessageRepository;
+import core.domain.chat.repository.ChatParticipantRepository;
+import core.global.concurrent.RedisLeaseLock;
+import core.global.enums.ChatParticipantStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCounterServiceTest {
+
+    private static final List<String> CURSOR_KEY = List.of("chat:unread-reconcile:cursor");
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 10L;
+    private static final String USER_KEY = "chat:unread:" + USER_ID;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+    @Mock
+    private RedisLeaseLock leaseLock;
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+    @Mock
+    private ChatParticipant participant;
+
+    private ChatUnreadCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new ChatUnreadCounterService(redisTemplate, leaseLock, chatMessageRepository, chatParticipantRepository);
+        ReflectionTestUtils.setField(counterService, "reconcileBatchSize", 500);
+        ReflectionTestUtils.setField(counterService, "reconcileLeaseTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(counterService, "countCap", 100);
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+    }
+
+    @Test
+    void skipsSharedCountersWithoutLease() {
+        counterService.reconcile();
+
+        verify(leaseLock).runExclusively(eq("unread-reconcile"), eq(Duration.ofMinutes(5)), any());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void repairsDriftedCounterFoundByScan() {
+        givenLease();
+        givenScanPages(List.of("0", List.of(USER_KEY)));
+        when(hashOperations.entries(USER_KEY)).thenReturn(Map.of(ROOM_ID.toString(), "5", "_total", "5"));
+        givenActiveParticipantWithUnread(3);
+
+        counterService.reconcile();
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(USER_KEY)), eq("1"), eq("3"), eq("0"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(USER_KEY)), eq("0"));
+    }
+
+    @Test
+    void evictsCounterOfRoomUserLeft() {
+        givenLease();
+        givenScanPages(List.of("0", List.of(USER_KEY)));
+        when(hashOperations.entries(USER_KEY)).thenReturn(Map.of(ROOM_ID.toString(), "2"));
+        when(participant.getStatus()).thenReturn(ChatParticipantStatus.LEFT);
+        when(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, USER_ID)).thenReturn(Optional.of(participant));
+
+        counterService.reconcile();
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(USER_KEY)), eq(ROOM_ID.toString()));
+        verify(chatMessageRepository, never()).countByChatRoomIdAndSenderIdNot(any(), any());
+    }
+
+    @Test
+    void continuesScanUntilCursorWrapsAround() {
+        givenLease();
+        givenScanPages(List.of("42", List.of()), List.of("0", List.of()));
+
+        counterService.reconcile();
+
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(CURSOR_KEY), eq("chat:unread:*"), eq("100"));
+    }
+
+    @Test
+    void stopsScanOnceBatchIsChecked() {
+        ReflectionTestUtils.setField(counterService, "reconcileBatchSize", 1);
+        givenLease();
+        givenScanPages(List.of("42", List.of(USER_KEY)), List.of("0", List.of()));
+        when(hashOperations.entries(USER_KEY)).thenReturn(Map.of(ROOM_ID.toString(), "3"));
+        givenActiveParticipantWithUnread(3);
+
+        counterService.reconcile();
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(CURSOR_KEY), eq("chat:unread:*"), eq("100"));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(USER_KEY)), eq("1"), eq("3"), eq("0"));
+    }
+
+    private void givenLease() {
+        when(leaseLock.runExclusively(eq("unread-reconcile"), any(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            return true;
+        });
+    }
+
+    private void givenScanPages(List<Object> first, List<?>... rest) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(CURSOR_KEY), eq("chat:unread:*"), eq("100")))
+                .thenReturn(first, (Object[]) rest);
+    }
+
+    private void givenActiveParticipantWithUnread(int unread) {
+        when(participant.getStatus()).thenReturn(ChatParticipantStatus.ACTIVE);
+        when(chatParticipantRepository.findByChatRoomIdAndUserId(ROOM_ID, USER_ID)).thenReturn(Optional.of(participant));
+        when(chatMessageRepository.countByChatRoomIdAndSenderIdNot(ROOM_ID, USER_ID)).thenReturn(unread);
+    }
+}
@@ -0,0 +1,84 @@
+package core.global.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void getOrLoadStoresLoadedValue() {
+        LruCache<Long, String> cache = new LruCache<>("test", 10, null, meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.getOrLoad(1L, key -> "room-" + key + "-" + loads.incrementAndGet())).isEqualTo("room-1-1");
+        assertThat(cache.getOrLoad(1L, key -> "room-" + key + "-" + loads.incrementAndGet())).isEqualTo("room-1-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getOrLoadDoesNotStoreValueLoadedBeforeInvalidation() {
+        LruCache<Long, String> cache = new LruCache<>("test", 10, null, meterRegistry);
+
+        String loaded = cache.getOrLoad(1L, key -> {
+            cache.invalidate(key);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.getOrLoad(1L, key -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get(1L)).isEqualTo("fresh");
+    }
+
+    @Test
+    void invalidateAllDuringLoadAlsoDropsLoadedValue() {
+        LruCache<Long, String> cache = new LruCache<>("test", 10, null, meterRegistry);
+
+        cache.getOrLoad(1L, key -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getOrLoadDoesNotStoreNull() {
+        LruCache<Long, String> cache = new LruCache<>("test", 10, null, meterRegistry);
+
+        assertThat(cache.getOrLoad(1L, key -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        LruCache<Long, String> cache = new LruCache<>("test", 2, null, meterRegistry);
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.get(1L);
+
+        cache.put(3L, "three");
+
+        assertThat(cache.get(1L)).isEqualTo("one");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isEqualTo("three");
+    }
+
+    @Test
+    void expiresEntriesAfterTtl() throws InterruptedException {
+        LruCache<Long, String> cache = new LruCache<>("test", 10, Duration.ofMillis(20), meterRegistry);
+        cache.put(1L, "one");
+
+        Thread.sleep(50);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
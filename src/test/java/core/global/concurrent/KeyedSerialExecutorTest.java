@@ -0,0 +1,147 @@
+package core.global.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyedSerialExecutorTest {
+
+    private ExecutorService pool;
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void runsTasksOfSameKeyInSubmissionOrder() throws Exception {
+        pool = Executors.newFixedThreadPool(8);
+        KeyedSerialExecutor<Long> executor = new KeyedSerialExecutor<>(pool);
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            long key = i % 5;
+            int order = i;
+            futures.add(executor.submit(key, () -> {
+                executed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(order);
+                return order;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        executed.forEach((key, orders) -> assertThat(orders).isSorted());
+        assertThat(executed.values().stream().mapToInt(List::size).sum()).isEqualTo(1_000);
+        assertThat(executor.pendingCount()).isZero();
+    }
+
+    @Test
+    void neverRunsTwoTasksOfSameKeyAtOnce() throws Exception {
+        pool = Executors.newFixedThreadPool(8);
+        KeyedSerialExecutor<String> executor = new KeyedSerialExecutor<>(pool);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            futures.add(executor.submit("room", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                running.decrementAndGet();
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsOrderWhenSaturatedQueueRunsTasksOnCaller() throws Exception {
+        pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.CallerRunsPolicy());
+        KeyedSerialExecutor<Long> executor = new KeyedSerialExecutor<>(pool);
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Integer>> futures = new CopyOnWriteArrayList<>();
+
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        try {
+            for (int s = 0; s < 4; s++) {
+                long key = s;
+                submitters.execute(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        int order = i;
+                        futures.add(executor.submit(key, () -> {
+                            executed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(order);
+                            // 호출 스레드에서 실행되더라도 맵 연산 밖이어야 다시 제출할 수 있습니다.
+                            executor.activeKeyCount();
+                            return order;
+                        }));
+                    }
+                });
+            }
+            submitters.shutdown();
+            assertThat(submitters.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            submitters.shutdownNow();
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        assertThat(executed).hasSize(4);
+        executed.forEach((key, orders) -> assertThat(orders).hasSize(250).isSorted());
+        assertThat(executor.pendingCount()).isZero();
+    }
+
+    @Test
+    void taskRunOnCallerCanSubmitToSameExecutor() throws Exception {
+        Executor callerRuns = Runnable::run;
+        KeyedSerialExecutor<Long> executor = new KeyedSerialExecutor<>(callerRuns);
+
+        CompletableFuture<Integer> outer = executor.submit(1L, () -> executor.submit(2L, () -> 2).join() + 1);
+
+        assertThat(outer.get(1, TimeUnit.SECONDS)).isEqualTo(3);
+        assertThat(executor.activeKeyCount()).isZero();
+    }
+
+    @Test
+    void rejectedTaskFailsAndNextTaskStillRuns() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Executor rejectFirst = command -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("full");
+            }
+            command.run();
+        };
+        KeyedSerialExecutor<Long> executor = new KeyedSerialExecutor<>(rejectFirst);
+
+        CompletableFuture<Integer> rejected = executor.submit(1L, () -> 1);
+        CompletableFuture<Integer> next = executor.submit(1L, () -> 2);
+
+        assertThatThrownBy(rejected::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(next.get(1, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(executor.pendingCount()).isZero();
+        assertThat(executor.activeKeyCount()).isZero();
+    }
+}
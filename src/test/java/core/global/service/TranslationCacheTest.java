@@ -0,0 +1,123 @@
+package core.global.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TranslationCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Captor
+    private ArgumentCaptor<List<String>> keys;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TranslationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TranslationCache(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "localMaxSize", 100);
+        ReflectionTestUtils.setField(cache, "localTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(cache, "redisTtl", Duration.ofDays(1));
+        cache.init();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void mergesLocalAndRedisHitsInRequestOrder() {
+        cache.putAll(Map.of("안녕", "hello"), "en");
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("bye", null));
+
+        List<String> translations = cache.getAll(List.of("잘가", "안녕", "고마워"), "en");
+
+        assertThat(translations).containsExactly("bye", "hello", null);
+        assertThat(lookups("local")).isEqualTo(1);
+        assertThat(lookups("redis")).isEqualTo(1);
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("translation.cache.saved.characters").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void asksRedisOnlyForLocalMissesAndFillsLocalTier() {
+        cache.putAll(Map.of("안녕", "hello"), "en");
+        when(valueOperations.multiGet(anyList())).thenReturn(List.of("bye"));
+
+        cache.getAll(List.of("안녕", "잘가"), "en");
+        List<String> again = cache.getAll(List.of("안녕", "잘가"), "en");
+
+        assertThat(again).containsExactly("hello", "bye");
+        verify(valueOperations).multiGet(keys.capture());
+        assertThat(keys.getValue()).hasSize(1).allMatch(key -> key.startsWith("translation:en:"));
+    }
+
+    @Test
+    void skipsRedisWhenEveryContentIsLocal() {
+        cache.putAll(Map.of("안녕", "hello"), "en");
+
+        assertThat(cache.getAll(List.of("안녕"), "en")).containsExactly("hello");
+        verify(valueOperations, never()).multiGet(anyList());
+    }
+
+    @Test
+    void keepsLanguagesApart() {
+        cache.putAll(Map.of("안녕", "hello"), "en");
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((String) null));
+
+        assertThat(cache.getAll(List.of("안녕"), "ja")).containsExactly((String) null);
+    }
+
+    @Test
+    void treatsRedisFailureAsMiss() {
+        when(valueOperations.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.getAll(List.of("안녕", "잘가"), "en")).containsExactly(null, null);
+        assertThat(lookups("miss")).isEqualTo(2);
+    }
+
+    @Test
+    void putAllSkipsNullTranslationsAndSurvivesRedisFailure() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("down"));
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList((String) null));
+        Map<String, String> translations = new HashMap<>();
+        translations.put("안녕", "hello");
+        translations.put("잘가", null);
+
+        cache.putAll(translations, "en");
+
+        assertThat(cache.getAll(List.of("안녕", "잘가"), "en")).containsExactly("hello", null);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("translation.cache.lookups").tag("result", result).counter().count();
+    }
+}
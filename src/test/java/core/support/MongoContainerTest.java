@@ -0,0 +1,43 @@
+package core.support;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 MongoDB 컨테이너에 쿼리와 집계 파이프라인을 실행해 보는 테스트의 기반 클래스입니다.
+ * 테스트마다 데이터베이스를 비우며, Docker를 사용할 수 없는 환경에서는 테스트를 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MongoContainerTest {
+
+    @Container
+    protected static final GenericContainer<?> MONGO = new GenericContainer<>(DockerImageName.parse("mongo:7"))
+            .withExposedPorts(27017);
+
+    private static MongoClient mongoClient;
+    protected static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void connect() {
+        mongoClient = MongoClients.create("mongodb://" + MONGO.getHost() + ":" + MONGO.getMappedPort(27017));
+        mongoTemplate = new MongoTemplate(mongoClient, "test");
+    }
+
+    @AfterAll
+    static void disconnect() {
+        mongoClient.close();
+    }
+
+    @BeforeEach
+    void dropDatabase() {
+        mongoTemplate.getDb().drop();
+    }
+}